@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.shinoow.abyssalcraft.api.block.ACBlocks;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
+import com.shinoow.abyssalcraft.common.blocks.BlockEnergyRelay;
+import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityEnergyRelay;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * One batched PE transfer pass ({@link TileEntityEnergyRelay#transferEnergy(int)}) over a ring of PE Relays,
+ * each one collecting from the relay behind it and transferring to the one in front of it.<br>
+ * With {@link #blocksChanged} set, a block changes in every chunk of the ring before each pass,
+ * so every relay has to look its path up again instead of using the cached one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnergyTransferBenchmark {
+
+	/** Ticks between passes, the default PE Transfer Interval */
+	private static final int TICKS = 20;
+
+	@Param({"64", "1024"})
+	public int relays;
+
+	@Param({"false", "true"})
+	public boolean blocksChanged;
+
+	HeadlessWorld world;
+	PENetwork network;
+	final List<TileEntityEnergyRelay> tiles = new ArrayList<>();
+	/** One relay position in each chunk of the ring */
+	final List<BlockPos> chunks = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		HeadlessBootstrap.init();
+		world = new HeadlessWorld(Files.createTempDirectory("acbench").toFile(), HeadlessBootstrap.SEED);
+		network = PENetwork.get(world);
+
+		// Goes around a square clockwise, every relay facing the next one
+		int side = relays / 4;
+		BlockPos pos = new BlockPos(0, 200, 0);
+		LongSet seen = new LongOpenHashSet();
+		for(EnumFacing facing : new EnumFacing[] {EnumFacing.EAST, EnumFacing.SOUTH, EnumFacing.WEST, EnumFacing.NORTH})
+			for(int i = 0; i < side; i++) {
+				world.setBlockState(pos, ACBlocks.energy_relay.getDefaultState().withProperty(BlockEnergyRelay.FACING, facing), 2);
+				tiles.add((TileEntityEnergyRelay) world.getTileEntity(pos));
+				if(seen.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)))
+					chunks.add(pos);
+				pos = pos.offset(facing);
+			}
+	}
+
+	/** Starts every iteration with the energy spread evenly, so none of the relays run dry or fill up */
+	@Setup(Level.Iteration)
+	public void fill(){
+		for(TileEntityEnergyRelay tile : tiles) {
+			tile.consumeEnergy(tile.getContainedEnergy());
+			tile.addEnergy(tile.getMaxEnergy() / 2);
+		}
+	}
+
+	@Benchmark
+	public List<TileEntityEnergyRelay> transferEnergy(){
+		if(blocksChanged)
+			for(BlockPos pos : chunks)
+				network.blockChanged(pos);
+		for(TileEntityEnergyRelay tile : tiles)
+			tile.transferEnergy(TICKS);
+		return tiles;
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.shinoow.abyssalcraft.common.world.ACExplosion;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Crater scan of an ACExplosion ({@link ACExplosion#doExplosionA()}), which doesn't remove any blocks by itself.<br>
+ * Every chunk the largest crater touches is generated during setup, so chunk generation isn't measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplosionBenchmark {
+
+	/** 8 is a large vanilla-ish blast, 32 the largest size still listing positions, 64 an ODB */
+	@Param({"8", "32", "64"})
+	public float size;
+
+	HeadlessWorld world;
+	BlockPos center;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		HeadlessBootstrap.init();
+		world = new HeadlessWorld(Files.createTempDirectory("acbench").toFile(), HeadlessBootstrap.SEED);
+		for(int x = -5; x <= 5; x++)
+			for(int z = -5; z <= 5; z++)
+				world.getChunkFromChunkCoords(x, z);
+		center = world.getHeight(new BlockPos(8, 0, 8)).down(8);
+	}
+
+	@Benchmark
+	public ACExplosion doExplosionA(){
+		ACExplosion explosion = new ACExplosion(world, null, center.getX(), center.getY(), center.getZ(), size, false, true);
+		explosion.doExplosionA();
+		return explosion;
+	}
+}
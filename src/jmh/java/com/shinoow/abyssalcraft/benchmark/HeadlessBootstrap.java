@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
+import com.shinoow.abyssalcraft.api.biome.ACBiomes;
+import com.shinoow.abyssalcraft.api.block.ACBlocks;
+import com.shinoow.abyssalcraft.api.recipe.MaterializerRecipes;
+import com.shinoow.abyssalcraft.api.recipe.TransmutatorRecipes;
+import com.shinoow.abyssalcraft.api.ritual.NecronomiconCreationRitual;
+import com.shinoow.abyssalcraft.api.ritual.RitualRegistry;
+import com.shinoow.abyssalcraft.common.blocks.BlockACStone;
+import com.shinoow.abyssalcraft.common.blocks.BlockACStone.EnumStoneType;
+import com.shinoow.abyssalcraft.common.blocks.BlockAbyssalSand;
+import com.shinoow.abyssalcraft.common.blocks.BlockEnergyRelay;
+import com.shinoow.abyssalcraft.common.blocks.BlockFusedAbyssalSand;
+import com.shinoow.abyssalcraft.common.world.biome.BiomeAbywasteland;
+import com.shinoow.abyssalcraft.common.world.biome.BiomeDarklandsMountains;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.biome.Biome.BiomeProperties;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Sets up just enough of vanilla and AbyssalCraft to run the benchmarks without a client or server.<br>
+ * All generated content comes from a fixed seed, so every run benchmarks the same registries.
+ */
+public final class HeadlessBootstrap {
+
+	public static final long SEED = 4815162342L;
+
+	/** Items used as Materializer crystals, all vanilla so they exist without the mod items */
+	public static final Item[] CRYSTALS = {Items.REDSTONE, Items.GLOWSTONE_DUST, Items.GUNPOWDER, Items.SUGAR, Items.BLAZE_POWDER,
+			Items.QUARTZ, Items.COAL, Items.IRON_INGOT, Items.GOLD_INGOT, Items.EMERALD, Items.DIAMOND, Items.PRISMARINE_CRYSTALS};
+
+	/** Every item in the registry, in registry order */
+	public static final List<Item> ITEMS = new ArrayList<>();
+
+	private static boolean done;
+
+	private HeadlessBootstrap(){}
+
+	public static synchronized void init(){
+		if(done) return;
+		done = true;
+
+		Bootstrap.register();
+		Item.REGISTRY.forEach(ITEMS::add);
+
+		ACBlocks.darkstone = register(new BlockACStone(EnumStoneType.DARKSTONE).setUnlocalizedName("darkstone"), "darkstone");
+		ACBlocks.abyssal_stone = register(new BlockACStone(EnumStoneType.ABYSSAL_STONE).setUnlocalizedName("abystone"), "abystone");
+		ACBlocks.ethaxium = register(new BlockACStone(EnumStoneType.ETHAXIUM).setUnlocalizedName("ethaxium"), "ethaxium");
+		ACBlocks.abyssal_sand = register(new BlockAbyssalSand(), "abyssalsand");
+		ACBlocks.fused_abyssal_sand = register(new BlockFusedAbyssalSand(), "fusedabyssalsand");
+		ACBlocks.energy_relay = register(new BlockEnergyRelay(), "energyrelay");
+		// Liquid Coralium needs the fluid registry, water is placed by the generator at the same cost
+		ACBlocks.liquid_coralium = Blocks.WATER;
+
+		ACBiomes.abyssal_wastelands = new BiomeAbywasteland(new BiomeProperties("Abyssal Wastelands").setRainDisabled());
+		ForgeRegistries.BIOMES.register(ACBiomes.abyssal_wastelands.setRegistryName(new ResourceLocation("abyssalcraft", "abyssal_wastelands")));
+		ACBiomes.darklands_mountains = new BiomeDarklandsMountains(new BiomeProperties("Darklands Mountains").setBaseHeight(1.3F).setHeightVariation(0.9F));
+		ForgeRegistries.BIOMES.register(ACBiomes.darklands_mountains.setRegistryName(new ResourceLocation("abyssalcraft", "darklands_mountains")));
+
+		Random rand = new Random(SEED);
+		addTransmutations(rand);
+		addMaterializations(rand);
+		addRituals(rand);
+	}
+
+	private static Block register(Block block, String name){
+		ForgeRegistries.BLOCKS.register(block.setRegistryName(new ResourceLocation("abyssalcraft", name)));
+		return block;
+	}
+
+	/** Roughly the amount of Transmutator recipes in a modpack, half of them metadata specific */
+	private static void addTransmutations(Random rand){
+		for(int i = 0; i < 500; i++){
+			ItemStack input = new ItemStack(randomItem(rand), 1, rand.nextBoolean() ? OreDictionary.WILDCARD_VALUE : rand.nextInt(4));
+			TransmutatorRecipes.instance().transmute(input, new ItemStack(randomItem(rand), 1 + rand.nextInt(8)), 0.1F);
+		}
+	}
+
+	private static void addMaterializations(Random rand){
+		for(Item crystal : CRYSTALS)
+			AbyssalCraftAPI.addCrystal(new ItemStack(crystal));
+		for(int i = 0; i < 300; i++){
+			ItemStack[] input = new ItemStack[1 + rand.nextInt(5)];
+			for(int j = 0; j < input.length; j++)
+				input[j] = new ItemStack(CRYSTALS[rand.nextInt(CRYSTALS.length)], 1 + rand.nextInt(16));
+			MaterializerRecipes.instance().materialize(input, new ItemStack(randomItem(rand)));
+		}
+	}
+
+	private static void addRituals(Random rand){
+		int[] dimensions = {OreDictionary.WILDCARD_VALUE, 0, 50, 51, 52, 53};
+		for(int i = 0; i < 200; i++){
+			Object[] offerings = new Object[1 + rand.nextInt(8)];
+			for(int j = 0; j < offerings.length; j++)
+				offerings[j] = new ItemStack(randomItem(rand));
+			RitualRegistry.instance().registerRitual(new NecronomiconCreationRitual("benchmark" + i, rand.nextInt(5),
+					dimensions[rand.nextInt(dimensions.length)], 100F, new ItemStack(randomItem(rand)), offerings));
+		}
+	}
+
+	public static Item randomItem(Random rand){
+		Item item;
+		do
+			item = ITEMS.get(rand.nextInt(ITEMS.size()));
+		while(item == Items.AIR);
+		return item;
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.io.File;
+
+import javax.annotation.Nullable;
+
+import com.shinoow.abyssalcraft.api.biome.ACBiomes;
+import com.shinoow.abyssalcraft.common.world.ChunkGeneratorAbyss;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.datafix.DataFixesManager;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.*;
+import net.minecraft.world.biome.BiomeProviderSingle;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.AnvilSaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * A server-side Abyssal Wasteland that lives entirely in memory.<br>
+ * Chunks are generated on request and never unloaded or saved.
+ */
+public class HeadlessWorld extends World {
+
+	private ChunkGeneratorAbyss generator;
+
+	public HeadlessWorld(File dir, long seed){
+		super(new AnvilSaveHandler(dir, "benchmark", false, DataFixesManager.createFixer()),
+				new WorldInfo(new WorldSettings(seed, GameType.SURVIVAL, true, false, WorldType.DEFAULT), "benchmark"),
+				new Provider(), new Profiler(), false);
+		provider.setWorld(this);
+		chunkProvider = createChunkProvider();
+	}
+
+	public ChunkGeneratorAbyss getGenerator(){
+		return generator;
+	}
+
+	/**
+	 * Puts a chunk in the chunk cache, replacing the chunk at the same position
+	 */
+	public void setChunk(Chunk chunk){
+		((ChunkProvider)chunkProvider).chunks.put(ChunkPos.asLong(chunk.x, chunk.z), chunk);
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider(){
+		generator = new ChunkGeneratorAbyss(this, getSeed(), true);
+		return new ChunkProvider();
+	}
+
+	@Override
+	protected boolean isChunkLoaded(int x, int z, boolean allowEmpty){
+		return chunkProvider.getLoadedChunk(x, z) != null;
+	}
+
+	private static class Provider extends WorldProvider {
+
+		@Override
+		protected void init(){
+			biomeProvider = new BiomeProviderSingle(ACBiomes.abyssal_wastelands);
+		}
+
+		@Override
+		public DimensionType getDimensionType(){
+			return DimensionType.OVERWORLD;
+		}
+	}
+
+	private class ChunkProvider implements IChunkProvider {
+
+		private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+
+		@Override
+		@Nullable
+		public Chunk getLoadedChunk(int x, int z){
+			return chunks.get(ChunkPos.asLong(x, z));
+		}
+
+		@Override
+		public Chunk provideChunk(int x, int z){
+			Chunk chunk = getLoadedChunk(x, z);
+			if(chunk == null){
+				chunk = generator.generateChunk(x, z);
+				chunks.put(ChunkPos.asLong(x, z), chunk);
+			}
+			return chunk;
+		}
+
+		@Override
+		public boolean tick(){
+			return false;
+		}
+
+		@Override
+		public String makeString(){
+			return "HeadlessChunkCache: " + chunks.size();
+		}
+
+		@Override
+		public boolean isChunkGeneratedAt(int x, int z){
+			return chunks.containsKey(ChunkPos.asLong(x, z));
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.shinoow.abyssalcraft.api.biome.ACBiomes;
+import com.shinoow.abyssalcraft.common.handlers.AbyssalCraftEventHooks;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+
+/**
+ * Darklands Mountains stone replacement ({@link AbyssalCraftEventHooks#populateChunk(PopulateChunkEvent.Pre)}).<br>
+ * Every invocation gets a fresh chunk of Stone up to y 128, with the first {@link #mountainColumns} columns
+ * set to Darklands Mountains and the rest to the Abyssal Wasteland. Building the chunk isn't measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PopulateChunkBenchmark {
+
+	/** 0 only checks the biomes, 256 is a chunk fully inside the mountains */
+	@Param({"0", "128", "256"})
+	public int mountainColumns;
+
+	HeadlessWorld world;
+	AbyssalCraftEventHooks hooks;
+	PopulateChunkEvent.Pre event;
+	ChunkPrimer primer;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		HeadlessBootstrap.init();
+		world = new HeadlessWorld(Files.createTempDirectory("acbench").toFile(), HeadlessBootstrap.SEED);
+		hooks = new AbyssalCraftEventHooks();
+		event = new PopulateChunkEvent.Pre(world.getGenerator(), world, new Random(HeadlessBootstrap.SEED), 0, 0, false);
+		primer = new ChunkPrimer();
+		for(int x = 0; x < 16; x++)
+			for(int z = 0; z < 16; z++)
+				for(int y = 0; y < 128; y++)
+					primer.setBlockState(x, y, z, Blocks.STONE.getDefaultState());
+	}
+
+	/** The stone is replaced in place, so each invocation needs a chunk of its own */
+	@Setup(Level.Invocation)
+	public void prepare(){
+		Chunk chunk = new Chunk(world, primer, 0, 0);
+		byte mountains = (byte)Biome.getIdForBiome(ACBiomes.darklands_mountains);
+		byte wasteland = (byte)Biome.getIdForBiome(ACBiomes.abyssal_wastelands);
+		byte[] biomes = chunk.getBiomeArray();
+		for(int i = 0; i < biomes.length; i++)
+			biomes[i] = i < mountainColumns ? mountains : wasteland;
+		world.setChunk(chunk);
+	}
+
+	@Benchmark
+	public Chunk populateChunk(){
+		hooks.populateChunk(event);
+		return world.getChunkFromChunkCoords(0, 0);
+	}
+}
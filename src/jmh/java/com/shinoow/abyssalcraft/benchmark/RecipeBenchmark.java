@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.shinoow.abyssalcraft.api.APIUtils;
+import com.shinoow.abyssalcraft.api.recipe.MaterializerRecipes;
+import com.shinoow.abyssalcraft.api.recipe.TransmutatorRecipes;
+import com.shinoow.abyssalcraft.api.ritual.NecronomiconRitual;
+import com.shinoow.abyssalcraft.api.ritual.RitualRegistry;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+/**
+ * Recipe and ritual lookups, run against the registries filled by {@link HeadlessBootstrap}.<br>
+ * Each benchmark cycles through a fixed set of seeded inputs, a mix of hits and misses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeBenchmark {
+
+	private static final int INPUTS = 64;
+
+	private ItemStack[] transmutations = new ItemStack[INPUTS];
+	private ItemStack[] crystalBags = new ItemStack[INPUTS];
+	private int[] dimensions = new int[INPUTS], bookTypes = new int[INPUTS];
+	private ItemStack[][] offerings = new ItemStack[INPUTS][];
+	private Object[][] expected = new Object[INPUTS][];
+	private int n;
+
+	@Setup(Level.Trial)
+	public void setup(){
+		HeadlessBootstrap.init();
+		Random rand = new Random(HeadlessBootstrap.SEED);
+		List<NecronomiconRitual> rituals = RitualRegistry.instance().getRituals();
+
+		for(int i = 0; i < INPUTS; i++){
+			transmutations[i] = new ItemStack(HeadlessBootstrap.randomItem(rand), 1, rand.nextInt(4));
+			crystalBags[i] = createBag(rand);
+
+			NecronomiconRitual ritual = rituals.get(rand.nextInt(rituals.size()));
+			dimensions[i] = rand.nextBoolean() ? ritual.getDimension() : 1;
+			bookTypes[i] = 4;
+			expected[i] = ritual.getOfferings();
+			List<ItemStack> pedestals = new ArrayList<>();
+			for(Object offering : ritual.getOfferings())
+				pedestals.add(((ItemStack)offering).copy());
+			while(pedestals.size() < 8)
+				pedestals.add(ItemStack.EMPTY);
+			Collections.shuffle(pedestals, rand);
+			offerings[i] = pedestals.toArray(new ItemStack[8]);
+		}
+	}
+
+	/** A Crystal Bag with 18 random crystal stacks */
+	private static ItemStack createBag(Random rand){
+		NBTTagList items = new NBTTagList();
+		for(int i = 0; i < 18; i++){
+			NBTTagCompound slot = new ItemStack(HeadlessBootstrap.CRYSTALS[rand.nextInt(HeadlessBootstrap.CRYSTALS.length)], 1 + rand.nextInt(64)).writeToNBT(new NBTTagCompound());
+			slot.setByte("Slot", (byte)i);
+			items.appendTag(slot);
+		}
+		ItemStack bag = new ItemStack(Items.LEATHER);
+		bag.setTagInfo("ItemInventory", items);
+		return bag;
+	}
+
+	private int next(){
+		return n++ & INPUTS - 1;
+	}
+
+	@Benchmark
+	public ItemStack getTransmutationResult(){
+		return TransmutatorRecipes.instance().getTransmutationResult(transmutations[next()]);
+	}
+
+	@Benchmark
+	public List<ItemStack> getMaterializationResult(){
+		return MaterializerRecipes.instance().getMaterializationResult(crystalBags[next()]);
+	}
+
+	@Benchmark
+	public NecronomiconRitual getRitual(){
+		int i = next();
+		return RitualRegistry.instance().getRitual(dimensions[i], bookTypes[i], offerings[i], ItemStack.EMPTY);
+	}
+
+	@Benchmark
+	public boolean areItemStackArraysEqual(){
+		int i = next();
+		return APIUtils.areItemStackArraysEqual(expected[i], offerings[i], false);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.shinoow.abyssalcraft.common.world.ChunkGeneratorAbyss;
+import com.shinoow.abyssalcraft.common.world.gen.MapGenCavesAC;
+
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
+
+/**
+ * Abyssal Wasteland terrain generation.<br>
+ * Chunk coordinates walk a 64x64 square, so consecutive invocations never hit the same noise.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldGenBenchmark {
+
+	HeadlessWorld world;
+	ChunkGeneratorAbyss generator;
+	Biome[] biomes;
+	int chunk;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		HeadlessBootstrap.init();
+		world = new HeadlessWorld(Files.createTempDirectory("acbench").toFile(), HeadlessBootstrap.SEED);
+		generator = world.getGenerator();
+		biomes = generator.getTerrainBiomes(0, 0);
+	}
+
+	int nextX(){
+		return ++chunk & 63;
+	}
+
+	int currentZ(){
+		return chunk >> 6 & 63;
+	}
+
+	/** Full chunk, base terrain, surface blocks, caves, ravines and strongholds */
+	@Benchmark
+	public Chunk generateChunk(){
+		int x = nextX();
+		return generator.generateChunk(x, currentZ());
+	}
+
+	/** Base terrain only (the part that used to be generateNoise) */
+	@Benchmark
+	public ChunkPrimer generateTerrain(){
+		int x = nextX();
+		return generator.generateTerrain(x, currentZ(), biomes);
+	}
+
+	@Benchmark
+	public ChunkPrimer caves(Terrain terrain){
+		terrain.caves.generate(world, terrain.x, terrain.z, terrain.primer);
+		return terrain.primer;
+	}
+
+	/** A freshly generated primer for every cave invocation, caves carve into it */
+	@State(Scope.Thread)
+	public static class Terrain {
+
+		final MapGenCavesAC caves = new MapGenCavesAC();
+		ChunkPrimer primer;
+		int x, z;
+
+		@Setup(Level.Invocation)
+		public void prepare(WorldGenBenchmark bench){
+			x = bench.nextX();
+			z = bench.currentZ();
+			primer = bench.generator.generateTerrain(x, z, bench.biomes);
+		}
+	}
+}
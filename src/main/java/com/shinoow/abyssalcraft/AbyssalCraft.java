@@ -15,7 +15,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.shinoow.abyssalcraft.common.CommonProxy;
+import com.shinoow.abyssalcraft.common.command.CommandPregenerateTerrain;
 import com.shinoow.abyssalcraft.common.command.CommandUnlockAllKnowledge;
+import com.shinoow.abyssalcraft.common.command.CommandWorldGenTimings;
 import com.shinoow.abyssalcraft.common.handlers.IMCHandler;
 import com.shinoow.abyssalcraft.common.util.ACLogger;
 import com.shinoow.abyssalcraft.init.*;
@@ -89,6 +91,8 @@ public class AbyssalCraft {
 	@EventHandler
 	public void serverStarting(FMLServerStartingEvent event){
 		event.registerServerCommand(new CommandUnlockAllKnowledge());
+		event.registerServerCommand(new CommandWorldGenTimings());
+		event.registerServerCommand(new CommandPregenerateTerrain());
 	}
 
 	@EventHandler
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.energy;
+
+import java.util.*;
+
+import javax.annotation.Nullable;
+
+import com.shinoow.abyssalcraft.api.energy.EnergyEnum.AmplifierType;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Per-dimension graph of the PE Manipulators, Collectors and Containers currently loaded.<br>
+ * Nodes are added and removed as tiles get loaded, placed and broken, and each node caches
+ * its adjacency (and Manipulators their range amplifiers and Collectors in range) until
+ * something next to or within range of it changes. {@link PEUtils} uses it on the server side.
+ *
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+public class PENetwork {
+
+	/** Positions that count as adjacent for {@link PEUtils#checkForAdjacentManipulators(World, BlockPos)} */
+	private static final BlockPos[] ADJACENT = {new BlockPos(0, -1, 0), new BlockPos(0, 1, 0), new BlockPos(0, 0, -1),
+			new BlockPos(0, 0, 1), new BlockPos(-1, 0, 0), new BlockPos(1, 0, 0), new BlockPos(0, 2, 0), new BlockPos(0, -2, 0)};
+
+	private static final Int2ObjectMap<PENetwork> NETWORKS = new Int2ObjectOpenHashMap<>();
+
+	private final World world;
+	private final Long2ObjectMap<Node> nodes = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<List<Node>> chunks = new Long2ObjectOpenHashMap<>();
+	private final List<Node> manipulators = new ArrayList<>();
+	private final Long2IntMap versions = new Long2IntOpenHashMap();
+	private int version;
+
+	private PENetwork(World world){
+		this.world = world;
+	}
+
+	/**
+	 * Fetches the network for a World
+	 * @param world Current World
+	 * @return The network, or null on the client side
+	 */
+	@Nullable
+	public static PENetwork get(World world){
+		if(world.isRemote) return null;
+		int dim = world.provider.getDimension();
+		PENetwork network = NETWORKS.get(dim);
+		if(network == null || network.world != world){
+			network = new PENetwork(world);
+			NETWORKS.put(dim, network);
+		}
+		return network;
+	}
+
+	/**
+	 * Discards the network of a World that's being unloaded
+	 */
+	public static void unload(World world){
+		PENetwork network = NETWORKS.get(world.provider.getDimension());
+		if(network != null && network.world == world)
+			NETWORKS.remove(world.provider.getDimension());
+	}
+
+	/**
+	 * Adds a PE tile to the network of its World, should be called from {@link TileEntity#onLoad()}
+	 * so tiles placed without notifying their neighbors (commands, structures, other mods) are picked up too
+	 * @param tile Tile implementing {@link IEnergyContainer} or {@link IEnergyManipulator}
+	 */
+	public static void tileLoaded(TileEntity tile){
+		World world = tile.getWorld();
+		if(world == null || world.isRemote || !isNode(tile)) return;
+		PENetwork network = get(world);
+		network.versions.put(ChunkPos.asLong(tile.getPos().getX() >> 4, tile.getPos().getZ() >> 4), ++network.version);
+		network.add(tile);
+	}
+
+	/**
+	 * Removes a PE tile from the network of its World, should be called from {@link TileEntity#invalidate()}
+	 * and {@link TileEntity#onChunkUnload()}
+	 * @param tile Tile implementing {@link IEnergyContainer} or {@link IEnergyManipulator}
+	 */
+	public static void tileUnloaded(TileEntity tile){
+		World world = tile.getWorld();
+		if(world == null || world.isRemote) return;
+		// Doesn't create a network for a World that's already been unloaded
+		PENetwork network = NETWORKS.get(world.provider.getDimension());
+		if(network == null || network.world != world) return;
+		Node node = network.nodes.get(tile.getPos().toLong());
+		if(node != null && node.tile == tile){
+			network.versions.put(ChunkPos.asLong(node.pos.getX() >> 4, node.pos.getZ() >> 4), ++network.version);
+			network.remove(node.pos);
+		}
+	}
+
+	public static boolean isNode(TileEntity tile){
+		return tile instanceof IEnergyContainer || tile instanceof IEnergyManipulator;
+	}
+
+	/**
+	 * Adds every PE tile in a chunk to the network
+	 */
+	public void loadChunk(Chunk chunk){
+		versions.put(ChunkPos.asLong(chunk.x, chunk.z), ++version);
+		for(TileEntity tile : chunk.getTileEntityMap().values())
+			if(isNode(tile) && !tile.isInvalid())
+				add(tile);
+	}
+
+	/**
+	 * Removes every node in a chunk from the network
+	 */
+	public void unloadChunk(Chunk chunk){
+		versions.remove(ChunkPos.asLong(chunk.x, chunk.z));
+		List<Node> list = chunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+		if(list != null)
+			for(Node node : list.toArray(new Node[list.size()])){
+				nodes.remove(node.pos.toLong());
+				node.removed = true;
+				if(node.manipulator)
+					manipulators.remove(node);
+				changed(node);
+			}
+	}
+
+	/**
+	 * Updates the network after the block at a position changed
+	 * @param pos Position of the changed block
+	 */
+	public void blockChanged(BlockPos pos){
+		versions.put(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), ++version);
+		for(int i = 1; i <= 2; i++){
+			Node node = nodes.get(pos.up(i).toLong());
+			if(node != null && node.manipulator)
+				node.rangeBlocks = -1;
+		}
+
+		TileEntity tile = world.getTileEntity(pos);
+		if(isNode(tile))
+			add(tile);
+		else remove(pos);
+	}
+
+	/**
+	 * Fetches the version of a chunk, which changes every time a block in it changes
+	 * or it gets loaded again. Useful for validating anything cached from the blocks in it.
+	 * @param chunkX Chunk X coordinate
+	 * @param chunkZ Chunk Z coordinate
+	 * @return The current version (0 if the chunk hasn't changed since the network was created)
+	 */
+	public int getVersion(int chunkX, int chunkZ){
+		return versions.get(ChunkPos.asLong(chunkX, chunkZ));
+	}
+
+	private void add(TileEntity tile){
+		long key = tile.getPos().toLong();
+		Node node = nodes.get(key);
+		if(node != null){
+			if(node.tile == tile) return;
+			remove(tile.getPos());
+		}
+		node = new Node(tile);
+		nodes.put(key, node);
+		long chunk = ChunkPos.asLong(node.pos.getX() >> 4, node.pos.getZ() >> 4);
+		List<Node> list = chunks.get(chunk);
+		if(list == null)
+			chunks.put(chunk, list = new ArrayList<>());
+		list.add(node);
+		if(node.manipulator)
+			manipulators.add(node);
+		changed(node);
+	}
+
+	private void remove(BlockPos pos){
+		Node node = nodes.remove(pos.toLong());
+		if(node == null) return;
+		node.removed = true;
+		long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		List<Node> list = chunks.get(chunk);
+		if(list != null){
+			list.remove(node);
+			if(list.isEmpty())
+				chunks.remove(chunk);
+		}
+		if(node.manipulator)
+			manipulators.remove(node);
+		changed(node);
+	}
+
+	/**
+	 * Invalidates whatever cached data the added or removed node was part of
+	 */
+	private void changed(Node node){
+		for(BlockPos offset : ADJACENT){
+			Node other = nodes.get(node.pos.add(offset).toLong());
+			if(other != null)
+				other.adjacencyChecked = false;
+		}
+		if(node.collector)
+			for(Node manipulator : manipulators)
+				if(manipulator.collectors != null && manipulator.isInRange(node.pos))
+					manipulator.collectors = null;
+	}
+
+	/**
+	 * Fetches a node
+	 * @param pos Position of the node
+	 * @return The node at the position, or null if there is none
+	 */
+	@Nullable
+	public Node getNode(BlockPos pos){
+		Node node = nodes.get(pos.toLong());
+		if(node != null && node.tile.isInvalid()){
+			remove(pos);
+			return null;
+		}
+		return node;
+	}
+
+	/**
+	 * Checks whether there are any PE Manipulators adjacent to the position
+	 * (the faces, two blocks above and two blocks below)
+	 */
+	public boolean hasAdjacentManipulators(BlockPos pos){
+		Node node = getNode(pos);
+		if(node == null)
+			return findAdjacent(pos, true);
+		if(!node.adjacencyChecked)
+			updateAdjacency(node);
+		return node.adjacentManipulators;
+	}
+
+	/**
+	 * Checks whether there are any PE Collectors next to the position
+	 */
+	public boolean hasAdjacentCollectors(BlockPos pos){
+		Node node = getNode(pos);
+		if(node == null)
+			return findAdjacent(pos, false);
+		if(!node.adjacencyChecked)
+			updateAdjacency(node);
+		return node.adjacentCollectors;
+	}
+
+	private void updateAdjacency(Node node){
+		node.adjacentManipulators = findAdjacent(node.pos, true);
+		node.adjacentCollectors = findAdjacent(node.pos, false);
+		node.adjacencyChecked = true;
+	}
+
+	private boolean findAdjacent(BlockPos pos, boolean manipulator){
+		for(int i = 0; i < (manipulator ? ADJACENT.length : 6); i++){
+			Node other = getNode(pos.add(ADJACENT[i]));
+			if(other != null && (manipulator ? other.manipulator : other.collector))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Counts the Range Amplifier blocks directly below a position (0 to 2)
+	 */
+	public int getRangeAmplifierBlocks(BlockPos pos){
+		Node node = getNode(pos);
+		if(node == null)
+			return countRangeAmplifierBlocks(pos);
+		if(node.rangeBlocks < 0)
+			node.rangeBlocks = countRangeAmplifierBlocks(pos);
+		return node.rangeBlocks;
+	}
+
+	private int countRangeAmplifierBlocks(BlockPos pos){
+		int num = 0;
+		for(int i = 1; i <= 2; i++){
+			Block block = world.getBlockState(pos.down(i)).getBlock();
+			if(block instanceof IEnergyAmplifier && ((IEnergyAmplifier) block).getAmplifierType() == AmplifierType.RANGE)
+				num++;
+			else break;
+		}
+		return num;
+	}
+
+	/**
+	 * Fetches the PE Collectors in range of a Manipulator node, searching the network again if anything
+	 * in range changed or the range itself did.<br>
+	 * The search area and limit are the same as {@link PEUtils#locateCollectors(World, BlockPos, IEnergyManipulator)}.
+	 * @param node Manipulator node
+	 * @param boost Horizontal range boost
+	 * @param depth How many blocks below the Manipulator to search
+	 * @return Collector nodes in range
+	 */
+	public List<Node> getCollectors(Node node, int boost, int depth){
+		if(node.collectors == null || node.boost != boost || node.depth != depth){
+			node.located = true;
+			node.boost = boost;
+			node.depth = depth;
+			node.collectors = findCollectors(node.pos, boost, depth);
+			Set<BlockPos> positions = node.manipulator ? ((IEnergyManipulator) node.tile).getEnergyCollectors() : null;
+			if(positions != null){
+				positions.clear();
+				for(Node collector : node.collectors)
+					positions.add(collector.pos);
+			}
+		}
+		return node.collectors;
+	}
+
+	private List<Node> findCollectors(BlockPos pos, int boost, int depth){
+		int range = 3 + boost;
+		List<Node> found = new ArrayList<>();
+		for(int cx = pos.getX() - range >> 4; cx <= pos.getX() + range >> 4; cx++)
+			for(int cz = pos.getZ() - range >> 4; cz <= pos.getZ() + range >> 4; cz++){
+				List<Node> list = chunks.get(ChunkPos.asLong(cx, cz));
+				if(list != null)
+					for(Node other : list)
+						if(other.collector && !other.tile.isInvalid() && isInRange(pos, other.pos, range, depth))
+							found.add(other);
+			}
+
+		// Same order as the scan in PEUtils#locateCollectors, so the same 20 get picked
+		found.sort(Comparator.<Node>comparingInt(n -> n.pos.getX()).thenComparingInt(n -> -n.pos.getY()).thenComparingInt(n -> n.pos.getZ()));
+		return found.size() > 20 ? new ArrayList<>(found.subList(0, 20)) : found;
+	}
+
+	private static boolean isInRange(BlockPos pos, BlockPos other, int range, int depth){
+		int x = other.getX() - pos.getX(), y = pos.getY() - other.getY(), z = other.getZ() - pos.getZ();
+		return x >= -range && x <= range && z >= -range && z <= range && y >= 0 && y <= depth
+				&& (x < -2 || x > 2 || z < -2 || z > 2);
+	}
+
+	/**
+	 * A PE tile in the network
+	 */
+	public static class Node {
+
+		private final BlockPos pos;
+		private final TileEntity tile;
+		private final boolean manipulator, collector;
+		private boolean removed, located;
+
+		private boolean adjacencyChecked, adjacentManipulators, adjacentCollectors;
+		private int rangeBlocks = -1;
+		private int boost, depth;
+		private List<Node> collectors;
+
+		private Node(TileEntity tile){
+			this.tile = tile;
+			pos = tile.getPos().toImmutable();
+			manipulator = tile instanceof IEnergyManipulator;
+			collector = tile instanceof IEnergyCollector;
+		}
+
+		public BlockPos getPos(){
+			return pos;
+		}
+
+		public TileEntity getTile(){
+			return tile;
+		}
+
+		/**
+		 * Whether the node is still part of the network and its tile is still in the world
+		 */
+		public boolean isValid(){
+			return !removed && !tile.isInvalid();
+		}
+
+		/**
+		 * Whether this node has searched for Collectors through the network
+		 */
+		public boolean hasLocatedCollectors(){
+			return located;
+		}
+
+		private boolean isInRange(BlockPos other){
+			return PENetwork.isInRange(pos, other, 3 + boost, depth);
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.energy;
+
+import java.util.*;
+
+import javax.annotation.Nullable;
+
+import com.shinoow.abyssalcraft.api.entity.EntityUtil;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumHand;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Per-dimension index of the Entities PE Manipulators can transfer PE to (Dropped Items
+ * that are PE Transporters, and Players holding one), keyed by the chunk section they're in.<br>
+ * Entities are added, moved and removed as they join the world, cross into another chunk section
+ * or change what they're holding, and Entities that are dead or no longer in the World are dropped
+ * the next time they're looked up.
+ * {@link PEUtils} uses it on the server side.
+ *
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+public class PEReceiverIndex {
+
+	private static final Int2ObjectMap<PEReceiverIndex> INDEXES = new Int2ObjectOpenHashMap<>();
+
+	private final World world;
+	private final Int2ObjectMap<Receiver> receivers = new Int2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<List<Receiver>> sections = new Long2ObjectOpenHashMap<>();
+
+	private PEReceiverIndex(World world){
+		this.world = world;
+	}
+
+	/**
+	 * Fetches the index for a World
+	 * @param world Current World
+	 * @return The index, or null on the client side
+	 */
+	@Nullable
+	public static PEReceiverIndex get(World world){
+		if(world.isRemote) return null;
+		int dim = world.provider.getDimension();
+		PEReceiverIndex index = INDEXES.get(dim);
+		if(index == null || index.world != world){
+			index = new PEReceiverIndex(world);
+			INDEXES.put(dim, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Discards the index of a World that's being unloaded
+	 */
+	public static void unload(World world){
+		PEReceiverIndex index = INDEXES.get(world.provider.getDimension());
+		if(index != null && index.world == world)
+			INDEXES.remove(world.provider.getDimension());
+	}
+
+	/**
+	 * Checks whether an Entity is something PE can be transferred to
+	 */
+	public static boolean isReceiver(Entity entity){
+		if(entity instanceof EntityItem)
+			return isTransporter(((EntityItem) entity).getItem());
+		if(entity instanceof EntityPlayer)
+			return isTransporter(((EntityPlayer) entity).getHeldItem(EnumHand.MAIN_HAND))
+					|| isTransporter(((EntityPlayer) entity).getHeldItem(EnumHand.OFF_HAND));
+		return false;
+	}
+
+	private static boolean isTransporter(ItemStack stack){
+		return !stack.isEmpty() && stack.getItem() instanceof IEnergyTransporterItem;
+	}
+
+	/**
+	 * Adds, updates or removes an Entity depending on whether it's a receiver.
+	 * Should be called when it joins the world, and when a Player's held items change.
+	 */
+	public void update(Entity entity){
+		if(entity.isDead || !isReceiver(entity)){
+			remove(entity);
+			return;
+		}
+		Receiver receiver = receivers.get(entity.getEntityId());
+		if(receiver == null || receiver.entity != entity){
+			if(receiver != null)
+				remove(receiver);
+			receiver = new Receiver(entity);
+			receivers.put(entity.getEntityId(), receiver);
+			receiver.section = getSection(entity);
+			getOrCreate(receiver.section).add(receiver);
+		} else moved(entity);
+	}
+
+	/**
+	 * Moves an Entity to the chunk section it's currently in, if it's in the index
+	 */
+	public void moved(Entity entity){
+		Receiver receiver = receivers.get(entity.getEntityId());
+		if(receiver == null || receiver.entity != entity) return;
+		long section = getSection(entity);
+		if(section != receiver.section){
+			removeFromSection(receiver);
+			receiver.section = section;
+			getOrCreate(section).add(receiver);
+		}
+	}
+
+	/**
+	 * Removes an Entity from the index
+	 */
+	public void remove(Entity entity){
+		Receiver receiver = receivers.get(entity.getEntityId());
+		if(receiver != null && receiver.entity == entity)
+			remove(receiver);
+	}
+
+	/**
+	 * Removes every Entity in a chunk from the index
+	 */
+	public void unloadChunk(Chunk chunk){
+		if(receivers.isEmpty()) return;
+		for(Receiver receiver : receivers.values().toArray(new Receiver[receivers.size()]))
+			if(receiver.entity.chunkCoordX == chunk.x && receiver.entity.chunkCoordZ == chunk.z)
+				remove(receiver);
+	}
+
+	/**
+	 * Fetches the Players within range that carry a Necronomicon and hold a PE Transporter
+	 * @param pos Center position
+	 * @param range Range, same area as the Manipulator transfer range
+	 * @return Players that can receive PE
+	 */
+	public List<EntityPlayer> getPlayers(BlockPos pos, int range){
+		List<EntityPlayer> players = new ArrayList<>();
+		for(Receiver receiver : find(pos, range))
+			if(receiver.entity instanceof EntityPlayer && EntityUtil.hasNecronomicon((EntityPlayer) receiver.entity))
+				players.add((EntityPlayer) receiver.entity);
+		return players;
+	}
+
+	/**
+	 * Fetches the Dropped Items within range that are PE Transporters
+	 * @param pos Center position
+	 * @param range Range, same area as the Manipulator transfer range
+	 * @return Dropped Items that might be able to receive PE
+	 */
+	public List<EntityItem> getItems(BlockPos pos, int range){
+		List<EntityItem> items = new ArrayList<>();
+		for(Receiver receiver : find(pos, range))
+			if(receiver.entity instanceof EntityItem)
+				items.add((EntityItem) receiver.entity);
+		return items;
+	}
+
+	private List<Receiver> find(BlockPos pos, int range){
+		if(receivers.isEmpty()) return Collections.emptyList();
+		AxisAlignedBB bb = new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(range, range, range);
+		List<Receiver> found = new ArrayList<>();
+		List<Receiver> dead = null;
+		// Same margin as World#getEntitiesWithinAABB, as an Entity is indexed by its position, not its bounding box
+		int minX = MathHelper.floor(bb.minX - 2) >> 4, maxX = MathHelper.floor(bb.maxX + 2) >> 4;
+		int minY = MathHelper.floor(bb.minY - 2) >> 4, maxY = MathHelper.floor(bb.maxY + 2) >> 4;
+		int minZ = MathHelper.floor(bb.minZ - 2) >> 4, maxZ = MathHelper.floor(bb.maxZ + 2) >> 4;
+		for(int x = minX; x <= maxX; x++)
+			for(int z = minZ; z <= maxZ; z++)
+				for(int y = minY; y <= maxY; y++){
+					List<Receiver> list = sections.get(getSection(x, y, z));
+					if(list != null)
+						for(Receiver receiver : list)
+							if(!isLoaded(receiver.entity)){
+								if(dead == null)
+									dead = new ArrayList<>();
+								dead.add(receiver);
+							} else if(receiver.entity.getEntityBoundingBox().intersects(bb))
+								found.add(receiver);
+				}
+		if(dead != null)
+			for(Receiver receiver : dead)
+				remove(receiver);
+		return found;
+	}
+
+	/**
+	 * Dead, unloaded and Entities that changed dimension are no longer in the World's Entity ID lookup
+	 */
+	private boolean isLoaded(Entity entity){
+		return !entity.isDead && world.getEntityByID(entity.getEntityId()) == entity;
+	}
+
+	private void remove(Receiver receiver){
+		receivers.remove(receiver.entity.getEntityId());
+		removeFromSection(receiver);
+	}
+
+	private void removeFromSection(Receiver receiver){
+		List<Receiver> list = sections.get(receiver.section);
+		if(list != null){
+			list.remove(receiver);
+			if(list.isEmpty())
+				sections.remove(receiver.section);
+		}
+	}
+
+	private List<Receiver> getOrCreate(long section){
+		List<Receiver> list = sections.get(section);
+		if(list == null)
+			sections.put(section, list = new ArrayList<>());
+		return list;
+	}
+
+	private static long getSection(Entity entity){
+		return getSection(MathHelper.floor(entity.posX) >> 4, MathHelper.floor(entity.posY) >> 4, MathHelper.floor(entity.posZ) >> 4);
+	}
+
+	/**
+	 * Packs chunk section coordinates into a long (same layout as {@link BlockPos#toLong()})
+	 */
+	private static long getSection(int x, int y, int z){
+		return ((long)x & 0x3FFFFFF) << 38 | ((long)y & 0xFFF) << 26 | (long)z & 0x3FFFFFF;
+	}
+
+	private static class Receiver {
+
+		private final Entity entity;
+		private long section;
+
+		private Receiver(Entity entity){
+			this.entity = entity;
+		}
+	}
+}
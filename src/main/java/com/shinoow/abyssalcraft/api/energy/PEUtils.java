@@ -52,8 +52,10 @@ public class PEUtils {
 	 */
 	public static void transferPEToNearbyPlayers(World world, BlockPos pos, IEnergyManipulator manipulator, int range){
 
-		List<EntityPlayer> players = world.getEntitiesWithinAABB(EntityPlayer.class, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(range, range, range),
-				EntityUtil::hasNecronomicon);
+		PEReceiverIndex index = PEReceiverIndex.get(world);
+		List<EntityPlayer> players = index != null ? index.getPlayers(pos, range) :
+			world.getEntitiesWithinAABB(EntityPlayer.class, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(range, range, range),
+					EntityUtil::hasNecronomicon);
 
 		for(EntityPlayer player : players){
 			ItemStack item = player.getHeldItem(EnumHand.MAIN_HAND);
@@ -83,11 +85,12 @@ public class PEUtils {
 	 */
 	public static void transferPEToNearbyDroppedItems(World world, BlockPos pos, IEnergyManipulator manipulator, int range){
 
-		List<EntityItem> items = world.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(range, range, range),
-				e -> canStackAcceptPE(e.getItem()));
+		PEReceiverIndex index = PEReceiverIndex.get(world);
+		List<EntityItem> items = index != null ? index.getItems(pos, range) :
+			world.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(pos, pos.add(1, 1, 1)).grow(range, range, range));
 
 		for(EntityItem item : items)
-			if(world.rand.nextInt(120-(int)(20 * manipulator.getAmplifier(AmplifierType.DURATION))) == 0)
+			if(canStackAcceptPE(item.getItem()) && world.rand.nextInt(120-(int)(20 * manipulator.getAmplifier(AmplifierType.DURATION))) == 0)
 				if(manipulator.canTransferPE()){
 					transferPEToStack(item.getItem(), manipulator);
 					AbyssalCraftAPI.getInternalMethodHandler().spawnPEStream(pos, item, world.provider.getDimension());
@@ -116,17 +119,31 @@ public class PEUtils {
 	public static void transferPEToCollectors(World world, BlockPos pos, IEnergyManipulator manipulator){
 		int timeDiscount = (int)(20 * manipulator.getAmplifier(AmplifierType.DURATION));
 
+		PENetwork network = PENetwork.get(world);
+		PENetwork.Node node = network != null ? network.getNode(pos) : null;
+		if(node != null && node.hasLocatedCollectors()) {
+			int depth = getRangeAmplifiers(world, pos, manipulator);
+			for(PENetwork.Node collector : network.getCollectors(node, getCollectorBoost(manipulator, depth), depth))
+				if(collector.isValid() && !network.hasAdjacentCollectors(collector.getPos()))
+					transferPEToCollector(world, pos, manipulator, collector.getTile(), timeDiscount);
+			return;
+		}
+
 		manipulator.getEnergyCollectors().stream().map(p -> world.getTileEntity(p)).filter(PEUtils::isCollector).forEach(tile -> {
 			if(checkForAdjacentCollectors(world, tile.getPos()))
-				if(world.rand.nextInt(120-timeDiscount) == 0)
-					if(((IEnergyCollector) tile).canAcceptPE() && manipulator.canTransferPE()){
-						((IEnergyCollector) tile).addEnergy(manipulator.getEnergyQuanta());
-						manipulator.addTolerance(manipulator.isActive() ? 2 : 1);
-						AbyssalCraftAPI.getInternalMethodHandler().spawnPEStream(pos, tile.getPos(), world.provider.getDimension());
-					}
+				transferPEToCollector(world, pos, manipulator, tile, timeDiscount);
 		});
 	}
 
+	private static void transferPEToCollector(World world, BlockPos pos, IEnergyManipulator manipulator, TileEntity tile, int timeDiscount){
+		if(world.rand.nextInt(120-timeDiscount) == 0)
+			if(((IEnergyCollector) tile).canAcceptPE() && manipulator.canTransferPE()){
+				((IEnergyCollector) tile).addEnergy(manipulator.getEnergyQuanta());
+				manipulator.addTolerance(manipulator.isActive() ? 2 : 1);
+				AbyssalCraftAPI.getInternalMethodHandler().spawnPEStream(pos, tile.getPos(), world.provider.getDimension());
+			}
+	}
+
 	/**
 	 * Locates and stores the positions of Energy Containers in range of the Manipulator
 	 * @param world Current World
@@ -134,16 +151,24 @@ public class PEUtils {
 	 * @param manipulator PE Manipulator
 	 */
 	public static void locateCollectors(World world, BlockPos pos, IEnergyManipulator manipulator) {
+		PENetwork network = PENetwork.get(world);
+		PENetwork.Node node = network != null ? network.getNode(pos) : null;
+		int depth = getRangeAmplifiers(world, pos, manipulator);
+		int boost = getCollectorBoost(manipulator, depth);
+
+		if(node != null) {
+			network.getCollectors(node, boost, depth);
+			return;
+		}
+
 		manipulator.getEnergyCollectors().clear();
 
 		Set<BlockPos> positions = manipulator.getEnergyCollectors();
 
-		int boost = (int) (getRangeAmplifiers(world, pos, manipulator) + manipulator.getAmplifier(AmplifierType.RANGE)/2);
-
 		MutableBlockPos pos1 = new MutableBlockPos();
 
 		outer: for(int x = -1*(3+boost); x <= 3+boost; x++)
-			for(int y = 0; y <= getRangeAmplifiers(world, pos, manipulator); y++)
+			for(int y = 0; y <= depth; y++)
 				for(int z = -1*(3+boost); z <= 3+boost; z++)
 					if(x < -2 || x > 2 || z < -2 || z > 2){
 						if(positions.size() == 20)
@@ -155,6 +180,10 @@ public class PEUtils {
 					}
 	}
 
+	private static int getCollectorBoost(IEnergyManipulator manipulator, int rangeAmplifiers){
+		return (int) (rangeAmplifiers + manipulator.getAmplifier(AmplifierType.RANGE)/2);
+	}
+
 	/**
 	 * Utility method for clearing the active Deity and Amplifier<br>
 	 * when a PE Manipulator no longer is active. Should be called in<br>
@@ -209,17 +238,23 @@ public class PEUtils {
 	 * @return A number between 0 and 2, representing the amount of range amplifiers below this BlockPos
 	 */
 	public static int getRangeAmplifiers(World world, BlockPos pos, IEnergyManipulator manipulator){
-		Block block1 = world.getBlockState(new BlockPos(pos.getX(), pos.getY() - 1, pos.getZ())).getBlock();
-		Block block2 = world.getBlockState(new BlockPos(pos.getX(), pos.getY() - 2, pos.getZ())).getBlock();
-		int num = 0;
-		if(block1 != null && block1 instanceof IEnergyAmplifier &&
-				((IEnergyAmplifier) block1).getAmplifierType() == AmplifierType.RANGE)
-			num = 1;
-		if(block1 != null && block1 instanceof IEnergyAmplifier &&
-				((IEnergyAmplifier) block1).getAmplifierType() == AmplifierType.RANGE
-				&& block2 != null && block2 instanceof IEnergyAmplifier &&
-				((IEnergyAmplifier) block2).getAmplifierType() == AmplifierType.RANGE)
-			num = 2;
+		int num;
+		PENetwork network = PENetwork.get(world);
+		if(network != null)
+			num = network.getRangeAmplifierBlocks(pos);
+		else {
+			Block block1 = world.getBlockState(new BlockPos(pos.getX(), pos.getY() - 1, pos.getZ())).getBlock();
+			Block block2 = world.getBlockState(new BlockPos(pos.getX(), pos.getY() - 2, pos.getZ())).getBlock();
+			num = 0;
+			if(block1 != null && block1 instanceof IEnergyAmplifier &&
+					((IEnergyAmplifier) block1).getAmplifierType() == AmplifierType.RANGE)
+				num = 1;
+			if(block1 != null && block1 instanceof IEnergyAmplifier &&
+					((IEnergyAmplifier) block1).getAmplifierType() == AmplifierType.RANGE
+					&& block2 != null && block2 instanceof IEnergyAmplifier &&
+					((IEnergyAmplifier) block2).getAmplifierType() == AmplifierType.RANGE)
+				num = 2;
+		}
 
 		if(manipulator instanceof IStructureComponent)
 			num += PEUtils.getStructureAmplifier(world, (IStructureComponent) manipulator, AmplifierType.RANGE);
@@ -286,6 +321,9 @@ public class PEUtils {
 	 * @return True if the BlockPos has no adjacent PE Collectors, otherwise false
 	 */
 	public static boolean checkForAdjacentCollectors(World world, BlockPos pos){
+		PENetwork network = PENetwork.get(world);
+		if(network != null)
+			return !network.hasAdjacentCollectors(pos);
 		for(EnumFacing face : EnumFacing.values())
 			if(isCollector(world.getTileEntity(pos.offset(face))))
 				return false;
@@ -299,6 +337,9 @@ public class PEUtils {
 	 * @return True if the BlockPos has no adjacent PE Manipulators, otherwise false
 	 */
 	public static boolean checkForAdjacentManipulators(World world, BlockPos pos){
+		PENetwork network = PENetwork.get(world);
+		if(network != null)
+			return !network.hasAdjacentManipulators(pos);
 		for(EnumFacing face : EnumFacing.values())
 			if(isManipulator(world.getTileEntity(pos.offset(face))))
 				return false;
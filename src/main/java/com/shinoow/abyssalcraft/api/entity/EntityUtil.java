@@ -17,11 +17,14 @@ import java.util.UUID;
 
 import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
 import com.shinoow.abyssalcraft.api.item.ACItems;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapability;
 
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.passive.*;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.launchwrapper.Launch;
 import net.minecraft.potion.Potion;
@@ -94,9 +97,40 @@ public final class EntityUtil {
 	 * @return True if the Player has a Necronomicon, otherwise false
 	 */
 	public static boolean hasNecronomicon(EntityPlayer player){
-		return player.inventory.hasItemStack(new ItemStack(ACItems.necronomicon)) || player.inventory.hasItemStack(new ItemStack(ACItems.abyssal_wasteland_necronomicon))
-				|| player.inventory.hasItemStack(new ItemStack(ACItems.dreadlands_necronomicon)) || player.inventory.hasItemStack(new ItemStack(ACItems.omothol_necronomicon))
-				|| player.inventory.hasItemStack(new ItemStack(ACItems.abyssalnomicon));
+		return getNecronomiconType(player) >= 0;
+	}
+
+	/**
+	 * Fetches the highest Necronomicon book type a Player has in their inventory
+	 * (cached on the Player's {@link INecroDataCapability} until the inventory changes)
+	 * @param player The Player to check
+	 * @return The book type (0-4), or -1 if the Player has no Necronomicon
+	 */
+	public static int getNecronomiconType(EntityPlayer player){
+		INecroDataCapability cap = NecroDataCapability.getCap(player);
+		return cap != null ? cap.getNecronomiconType(player) : findNecronomiconType(player);
+	}
+
+	/**
+	 * Scans a Player's inventory for the highest Necronomicon book type.
+	 * Use {@link #getNecronomiconType(EntityPlayer)} instead, as this always walks the inventory.
+	 * @param player The Player to check
+	 * @return The book type (0-4), or -1 if the Player has no Necronomicon
+	 */
+	public static int findNecronomiconType(EntityPlayer player){
+		Item[] books = {ACItems.necronomicon, ACItems.abyssal_wasteland_necronomicon, ACItems.dreadlands_necronomicon,
+				ACItems.omothol_necronomicon, ACItems.abyssalnomicon};
+		int type = -1;
+		for(int i = 0; i < player.inventory.getSizeInventory() && type < books.length - 1; i++){
+			ItemStack stack = player.inventory.getStackInSlot(i);
+			if(!stack.isEmpty() && stack.getMetadata() == 0)
+				for(int j = books.length - 1; j > type; j--)
+					if(stack.getItem() == books[j]){
+						type = j;
+						break;
+					}
+		}
+		return type;
 	}
 
 	/**
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.necronomicon.condition;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
+
+/**
+ * Interns the names of one kind of knowledge trigger (Biomes, Entities, Artifacts etc.)
+ * into small integer IDs, so {@link INecroDataCapability} can keep the triggers a Player has
+ * unlocked as a {@link BitSet}, and conditions can be resolved into the set of IDs they match.<br>
+ * IDs are only valid for the current session, so they should never be saved.
+ *
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+public class TriggerIndex {
+
+	public static final TriggerIndex BIOMES = new TriggerIndex();
+	public static final TriggerIndex ENTITIES = new TriggerIndex();
+	public static final TriggerIndex ARTIFACTS = new TriggerIndex();
+	public static final TriggerIndex PAGES = new TriggerIndex();
+	public static final TriggerIndex WHISPERS = new TriggerIndex();
+	public static final TriggerIndex MISC = new TriggerIndex();
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private final List<String> names = new ArrayList<>();
+	private final Map<Object, BitSet> compiled = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	private TriggerIndex(){}
+
+	/**
+	 * Fetches the ID of a trigger, assigning it one if it doesn't have one yet
+	 * @param name Trigger name
+	 * @return The ID
+	 */
+	public int intern(String name){
+		Integer id = ids.get(name);
+		if(id != null) return id;
+		synchronized(names){
+			id = ids.get(name);
+			if(id == null){
+				id = names.size();
+				names.add(name);
+				ids.put(name, id);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * Fetches the ID of a trigger without assigning one
+	 * @param name Trigger name
+	 * @return The ID, or -1 if the trigger has never been interned
+	 */
+	public int getId(String name){
+		Integer id = ids.get(name);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Fetches the name of a trigger
+	 * @param id Trigger ID
+	 * @return The name
+	 */
+	public String getName(int id){
+		synchronized(names){
+			return names.get(id);
+		}
+	}
+
+	/**
+	 * Amount of triggers interned so far
+	 */
+	public int size(){
+		synchronized(names){
+			return names.size();
+		}
+	}
+
+	/**
+	 * Resolves something (usually the object of a {@link IUnlockCondition}) into the set of trigger
+	 * IDs it matches. This only happens the first time it's called for that object (compared by identity),
+	 * after that the same set is returned.
+	 * @param key Object to resolve
+	 * @param names Supplies the names of the triggers it matches
+	 * @return The IDs of the matching triggers (don't modify this)
+	 */
+	public BitSet compile(Object key, Supplier<Iterable<String>> names){
+		BitSet set = compiled.get(key);
+		if(set == null){
+			set = new BitSet();
+			for(String name : names.get())
+				set.set(intern(name));
+			compiled.put(key, set);
+		}
+		return set;
+	}
+
+	/**
+	 * Resolves an array of trigger names into their IDs (cached per array, see {@link #compile(Object, Supplier)})
+	 */
+	public BitSet compile(String[] names){
+		return compile(names, () -> Arrays.asList(names));
+	}
+}
@@ -11,9 +11,12 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.api.necronomicon.condition.caps;
 
+import java.util.BitSet;
 import java.util.List;
 
+import com.shinoow.abyssalcraft.api.entity.EntityUtil;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.IUnlockCondition;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.TriggerIndex;
 
 import net.minecraft.entity.player.EntityPlayer;
 
@@ -21,6 +24,28 @@ public interface INecroDataCapability {
 
 	boolean isUnlocked(IUnlockCondition cond, EntityPlayer player);
 
+	/**
+	 * Checks if a trigger has been unlocked (in constant time, unlike searching the trigger lists)
+	 * @param index Index for the kind of trigger
+	 * @param name Trigger name
+	 * @return True if the trigger has been unlocked, otherwise false
+	 */
+	boolean hasTrigger(TriggerIndex index, String name);
+
+	/**
+	 * Checks if a dimension has been unlocked
+	 * @param id Dimension ID
+	 * @return True if the dimension has been unlocked, otherwise false
+	 */
+	boolean hasDimensionTrigger(int id);
+
+	/**
+	 * Fetches the IDs (see {@link TriggerIndex}) of the unlocked triggers of one kind
+	 * @param index Index for the kind of trigger
+	 * @return The IDs (don't modify this, use the trigger methods)
+	 */
+	BitSet getTriggerIds(TriggerIndex index);
+
 	void triggerEntityUnlock(String name);
 
 	void triggerBiomeUnlock(String name);
@@ -63,5 +88,21 @@ public interface INecroDataCapability {
 
 	int getSyncTimer();
 
+	/**
+	 * Fetches the highest Necronomicon book type the Player has in their inventory.<br>
+	 * The result is cached, and on the server side only looked up again once the inventory changes.
+	 * @param player The Player this capability belongs to
+	 * @return The book type (0-4), or -1 if the Player has no Necronomicon
+	 */
+	default int getNecronomiconType(EntityPlayer player) {
+		return EntityUtil.findNecronomiconType(player);
+	}
+
+	/**
+	 * Marks the Player's inventory as changed, so the Necronomicon book type gets looked up again.<br>
+	 * Called whenever the Player opens or closes a Container.
+	 */
+	default void markInventoryChanged() {}
+
 	void copy(INecroDataCapability cap);
 }
@@ -11,13 +11,24 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.api.necronomicon.condition.caps;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
+import com.shinoow.abyssalcraft.api.entity.EntityUtil;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.ConditionProcessorRegistry;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.IUnlockCondition;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.TriggerIndex;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Container;
+import net.minecraft.inventory.IContainerListener;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.common.util.FakePlayer;
 
 public class NecroDataCapability implements INecroDataCapability {
 
@@ -29,11 +40,30 @@ public class NecroDataCapability implements INecroDataCapability {
 	List<String> whisper_triggers = new ArrayList<>();
 	List<String> misc_triggers = new ArrayList<>();
 
+	/** Interned IDs of the triggers in the lists above, for constant time lookups */
+	BitSet biome_ids = new BitSet();
+	BitSet entity_ids = new BitSet();
+	IntSet dimension_ids = new IntOpenHashSet();
+	BitSet artifact_ids = new BitSet();
+	BitSet page_ids = new BitSet();
+	BitSet whisper_ids = new BitSet();
+	BitSet misc_ids = new BitSet();
+
+	/** Results of the built-in conditions, which only depend on the triggers (cleared whenever a trigger is added) */
+	Map<IUnlockCondition, Boolean> results = new IdentityHashMap<>();
+	/** Highest condition type that's processed by AbyssalCraft and only looks at the triggers */
+	private static final int CACHED_TYPES = 11;
+
 	boolean hasAllKnowledge;
 
 	long lastSyncTime = 0;
 	int syncTimer = 0;
 
+	int bookType = -1;
+	boolean inventoryChanged = true;
+	/** Inventory Container the listener was added to, the book type is only cached while this is set */
+	Container trackedContainer;
+
 	public static INecroDataCapability getCap(EntityPlayer player){
 		return player.getCapability(NecroDataCapabilityProvider.NECRO_DATA_CAP, null);
 	}
@@ -42,54 +72,94 @@ public class NecroDataCapability implements INecroDataCapability {
 	public boolean isUnlocked(IUnlockCondition cond, EntityPlayer player) {
 
 		if(cond.getType() == -1 || hasAllKnowledge && cond.getType() != 11) return true;
-		else return ConditionProcessorRegistry.instance().getProcessor(cond.getType()).processUnlock(cond, this, player);
+		if(cond.getType() > CACHED_TYPES)
+			return ConditionProcessorRegistry.instance().getProcessor(cond.getType()).processUnlock(cond, this, player);
+		Boolean result = results.get(cond);
+		if(result == null){
+			result = ConditionProcessorRegistry.instance().getProcessor(cond.getType()).processUnlock(cond, this, player);
+			results.put(cond, result);
+		}
+		return result;
+	}
+
+	private void addTrigger(List<String> list, BitSet ids, TriggerIndex index, String name) {
+		int id = index.intern(name);
+		if(!ids.get(id)){
+			ids.set(id);
+			list.add(name);
+			results.clear();
+		}
+	}
+
+	@Override
+	public boolean hasTrigger(TriggerIndex index, String name) {
+		int id = index.getId(name);
+		return id >= 0 && getTriggerIds(index).get(id);
+	}
+
+	@Override
+	public boolean hasDimensionTrigger(int id) {
+		return dimension_ids.contains(id);
+	}
+
+	@Override
+	public BitSet getTriggerIds(TriggerIndex index) {
+		if(index == TriggerIndex.BIOMES) return biome_ids;
+		if(index == TriggerIndex.ENTITIES) return entity_ids;
+		if(index == TriggerIndex.ARTIFACTS) return artifact_ids;
+		if(index == TriggerIndex.PAGES) return page_ids;
+		if(index == TriggerIndex.WHISPERS) return whisper_ids;
+		return misc_ids;
 	}
 
 	@Override
 	public void triggerEntityUnlock(String name) {
-		if(name != null && !entity_triggers.contains(name) && name.contains(":"))
-			entity_triggers.add(name);
+		if(name != null && name.contains(":"))
+			addTrigger(entity_triggers, entity_ids, TriggerIndex.ENTITIES, name);
 	}
 
 	@Override
 	public void triggerBiomeUnlock(String name) {
-		if(name != null && !biome_triggers.contains(name))
-			biome_triggers.add(name);
+		if(name != null)
+			addTrigger(biome_triggers, biome_ids, TriggerIndex.BIOMES, name);
 	}
 
 	@Override
 	public void triggerDimensionUnlock(int id) {
-		if(!dimension_triggers.contains(id))
+		if(dimension_ids.add(id)){
 			dimension_triggers.add(id);
+			results.clear();
+		}
 	}
 
 	@Override
 	public void triggerArtifactUnlock(String name) {
-		if(name != null && !artifact_triggers.contains(name))
-			artifact_triggers.add(name);
+		if(name != null)
+			addTrigger(artifact_triggers, artifact_ids, TriggerIndex.ARTIFACTS, name);
 	}
 
 	@Override
 	public void triggerPageUnlock(String name) {
-		if(name != null && !page_triggers.contains(name))
-			page_triggers.add(name);
+		if(name != null)
+			addTrigger(page_triggers, page_ids, TriggerIndex.PAGES, name);
 	}
 
 	@Override
 	public void triggerWhisperUnlock(String name) {
-		if(name != null && !page_triggers.contains(name))
-			page_triggers.add(name);
+		if(name != null)
+			addTrigger(page_triggers, page_ids, TriggerIndex.PAGES, name);
 	}
 
 	@Override
 	public void triggerMiscUnlock(String name) {
-		if(name != null && !misc_triggers.contains(name))
-			misc_triggers.add(name);
+		if(name != null)
+			addTrigger(misc_triggers, misc_ids, TriggerIndex.MISC, name);
 	}
 
 	@Override
 	public void unlockAllKnowledge(boolean unlock) {
 		hasAllKnowledge = unlock;
+		results.clear();
 	}
 
 	@Override
@@ -100,43 +170,43 @@ public class NecroDataCapability implements INecroDataCapability {
 	@Override
 	public List<String> getBiomeTriggers() {
 
-		return biome_triggers;
+		return Collections.unmodifiableList(biome_triggers);
 	}
 
 	@Override
 	public List<String> getEntityTriggers() {
 
-		return entity_triggers;
+		return Collections.unmodifiableList(entity_triggers);
 	}
 
 	@Override
 	public List<Integer> getDimensionTriggers() {
 
-		return dimension_triggers;
+		return Collections.unmodifiableList(dimension_triggers);
 	}
 
 	@Override
 	public List<String> getArtifactTriggers() {
 
-		return artifact_triggers;
+		return Collections.unmodifiableList(artifact_triggers);
 	}
 
 	@Override
 	public List<String> getPageTriggers() {
 
-		return page_triggers;
+		return Collections.unmodifiableList(page_triggers);
 	}
 
 	@Override
 	public List<String> getWhisperTriggers() {
 
-		return whisper_triggers;
+		return Collections.unmodifiableList(whisper_triggers);
 	}
 
 	@Override
 	public List<String> getMiscTriggers(){
 
-		return misc_triggers;
+		return Collections.unmodifiableList(misc_triggers);
 	}
 
 	@Override
@@ -166,17 +236,66 @@ public class NecroDataCapability implements INecroDataCapability {
 		return syncTimer;
 	}
 
+	@Override
+	public int getNecronomiconType(EntityPlayer player) {
+		if(player instanceof EntityPlayerMP && !(player instanceof FakePlayer) && trackedContainer != player.inventoryContainer){
+			trackedContainer = player.inventoryContainer;
+			trackedContainer.addListener(new InventoryListener());
+			inventoryChanged = true;
+		}
+		// The listener only hears about changes while the inventory Container is the open one
+		if(inventoryChanged || trackedContainer == null || player.openContainer != trackedContainer){
+			bookType = EntityUtil.findNecronomiconType(player);
+			inventoryChanged = false;
+		}
+		return bookType;
+	}
+
+	@Override
+	public void markInventoryChanged() {
+		inventoryChanged = true;
+	}
+
 	@Override
 	public void copy(INecroDataCapability cap) {
 
-		biome_triggers = cap.getBiomeTriggers();
-		entity_triggers = cap.getEntityTriggers();
-		dimension_triggers = cap.getDimensionTriggers();
-		artifact_triggers = cap.getArtifactTriggers();
-		page_triggers = cap.getPageTriggers();
-		whisper_triggers = cap.getWhisperTriggers();
-		misc_triggers = cap.getMiscTriggers();
-		hasAllKnowledge = cap.hasUnlockedAllKnowledge();
+		for(String name : cap.getBiomeTriggers())
+			addTrigger(biome_triggers, biome_ids, TriggerIndex.BIOMES, name);
+		for(String name : cap.getEntityTriggers())
+			addTrigger(entity_triggers, entity_ids, TriggerIndex.ENTITIES, name);
+		for(int id : cap.getDimensionTriggers())
+			triggerDimensionUnlock(id);
+		for(String name : cap.getArtifactTriggers())
+			addTrigger(artifact_triggers, artifact_ids, TriggerIndex.ARTIFACTS, name);
+		for(String name : cap.getPageTriggers())
+			addTrigger(page_triggers, page_ids, TriggerIndex.PAGES, name);
+		for(String name : cap.getWhisperTriggers())
+			addTrigger(whisper_triggers, whisper_ids, TriggerIndex.WHISPERS, name);
+		for(String name : cap.getMiscTriggers())
+			addTrigger(misc_triggers, misc_ids, TriggerIndex.MISC, name);
+		unlockAllKnowledge(cap.hasUnlockedAllKnowledge());
 		lastSyncTime = cap.getLastSyncTime();
 	}
+
+	/**
+	 * Gets notified by the Player's inventory Container whenever a slot changes
+	 */
+	private class InventoryListener implements IContainerListener {
+
+		@Override
+		public void sendAllContents(Container containerToSend, NonNullList<ItemStack> itemsList) {
+			inventoryChanged = true;
+		}
+
+		@Override
+		public void sendSlotContents(Container containerToSend, int slotInd, ItemStack stack) {
+			inventoryChanged = true;
+		}
+
+		@Override
+		public void sendWindowProperty(Container containerIn, int varToUpdate, int newValue) {}
+
+		@Override
+		public void sendAllWindowProperties(Container containerIn, IInventory inventory) {}
+	}
 }
@@ -15,8 +15,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import com.shinoow.abyssalcraft.api.APIUtils;
-
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -26,8 +24,12 @@ public class CrystallizerRecipes {
 
 	private static final CrystallizerRecipes crystallizationBase = new CrystallizerRecipes();
 	/** The list of crystallization results. */
-	private final Map<ItemStack, ItemStack[]> crystallizationList = new HashMap<>();
+	private final Map<ItemStack, ItemStack[]> crystallizationList = new TrackedMap<>(() -> crystallizationIndex = null);
 	private final Map<ItemStack, Float> experienceList = new HashMap<>();
+	/** Built from the crystallization list on the first lookup after it changed */
+	private volatile RecipeIndex<ItemStack[]> crystallizationIndex;
+	private final RecipeIndex<Float> experienceIndex = new RecipeIndex<>();
+	private static final ItemStack[] NO_RESULT = new ItemStack[] {ItemStack.EMPTY, ItemStack.EMPTY};
 
 	public static CrystallizerRecipes instance()
 	{
@@ -48,22 +50,43 @@ public class CrystallizerRecipes {
 
 	public void crystallize(ItemStack input, ItemStack output1, ItemStack output2, float xp)
 	{
-		crystallizationList.put(input, new ItemStack[]{output1, output2});
+		ItemStack[] output = new ItemStack[]{output1, output2};
+		crystallizationList.put(input, output);
 		experienceList.put(output1, xp);
+		experienceIndex.put(output1, xp);
 	}
 
 	/**
-	 * Returns the crystallization result of an item.
+	 * Returns the crystallization result of an item.<br>
+	 * (The returned array is shared, so it shouldn't be modified)
 	 */
 	public ItemStack[] getCrystallizationResult(ItemStack stack)
 	{
-		return crystallizationList.entrySet().stream()
-				.filter(e -> APIUtils.areStacksEqual(stack, e.getKey()))
-				.map(Entry::getValue)
-				.findFirst()
-				.orElse(new ItemStack[] {ItemStack.EMPTY, ItemStack.EMPTY});
+		RecipeIndex<ItemStack[]> index = crystallizationIndex;
+		ItemStack[] result = (index != null ? index : buildIndex()).get(stack);
+		return result != null ? result : NO_RESULT;
+	}
+
+	private synchronized RecipeIndex<ItemStack[]> buildIndex()
+	{
+		RecipeIndex<ItemStack[]> index = new RecipeIndex<>();
+		for(Entry<ItemStack, ItemStack[]> entry : crystallizationList.entrySet())
+			index.put(entry.getKey(), entry.getValue());
+		crystallizationIndex = index;
+		return index;
 	}
 
+	/**
+	 * Removes the crystallization registered for the input (same Item and metadata)
+	 */
+	public void removeCrystallization(ItemStack input)
+	{
+		crystallizationList.keySet().removeIf(stack -> stack.getItem() == input.getItem() && stack.getItemDamage() == input.getItemDamage());
+	}
+
+	/**
+	 * Returns the crystallization list (changes made to it are picked up by the lookups)
+	 */
 	public Map<ItemStack, ItemStack[]> getCrystallizationList()
 	{
 		return crystallizationList;
@@ -74,10 +97,7 @@ public class CrystallizerRecipes {
 		float ret = stack.getItem().getSmeltingExperience(stack);
 		if (ret != -1) return ret;
 
-		return experienceList.entrySet().stream()
-				.filter(e -> APIUtils.areStacksEqual(stack, e.getKey()))
-				.map(Entry::getValue)
-				.findFirst()
-				.orElse(0.0F);
+		Float xp = experienceIndex.get(stack);
+		return xp != null ? xp : 0.0F;
 	}
 }
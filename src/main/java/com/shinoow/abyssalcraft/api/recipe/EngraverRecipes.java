@@ -25,10 +25,13 @@ public class EngraverRecipes {
 
 	private static final EngraverRecipes engravingBase = new EngraverRecipes();
 
-	private final List<ItemStack> coins = new ArrayList<>();
+	private final List<ItemStack> coins = new TrackedList<>(() -> coinIndex = null);
 	private final Map<ItemEngraving, ItemStack> engravings = new HashMap<>();
 	private final Map<ItemStack, ItemStack> engravingList = new HashMap<>();
 	private final Map<ItemStack, Float> experienceList = new HashMap<>();
+	/** Built from the coin list on the first lookup after it changed */
+	private volatile RecipeIndex<ItemStack> coinIndex;
+	private final RecipeIndex<Float> experienceIndex = new RecipeIndex<>();
 
 	public static EngraverRecipes instance()
 	{
@@ -45,6 +48,21 @@ public class EngraverRecipes {
 		coins.add(coin);
 	}
 
+	/**
+	 * Removes the coin (same Item and metadata) from the coin list
+	 */
+	public void removeCoin(ItemStack coin){
+		coins.removeIf(stack -> stack.getItem() == coin.getItem() && stack.getItemDamage() == coin.getItemDamage());
+	}
+
+	/**
+	 * Removes an engraving, along with its entry in the ItemStack version of the engraving list
+	 */
+	public void removeEngraving(ItemEngraving engraving){
+		engravings.remove(engraving);
+		engravingList.keySet().removeIf(stack -> stack.getItem() == engraving);
+	}
+
 	public void addEngraving(Item coin, ItemEngraving engraving, float xp){
 		addEngraving(new ItemStack(coin), engraving, xp);
 	}
@@ -53,6 +71,7 @@ public class EngraverRecipes {
 		engravings.put(engraving, coin);
 		engravingList.put(new ItemStack(engraving), coin);
 		experienceList.put(coin, xp);
+		experienceIndex.put(coin, xp);
 	}
 
 	/**
@@ -60,7 +79,15 @@ public class EngraverRecipes {
 	 */
 	public ItemStack getEngravingResult(ItemStack stack)
 	{
-		return coins.stream().filter(i -> areStacksEqual(stack, i)).findFirst().orElse(ItemStack.EMPTY);
+		RecipeIndex<ItemStack> index = coinIndex;
+		ItemStack coin = (index != null ? index : buildIndex()).get(stack);
+		if(coin != null)
+			return coin;
+		if(stack.getItem() == ACItems.coin)//the regular coin matches every other coin
+			for(ItemStack coin1 : coins)
+				if(areStacksEqual(stack, coin1))
+					return coin1;
+		return ItemStack.EMPTY;
 	}
 
 	/**
@@ -68,23 +95,35 @@ public class EngraverRecipes {
 	 */
 	public ItemStack getEngravingResult(ItemStack par2, ItemEngraving par1)
 	{
-		for(ItemStack stack : coins)
-			if(areStacksEqual(par2, stack))
-				if(engravings.get(par1) != null)
-					if(par2.getItem() != ACItems.coin && par1 == ACItems.blank_engraving ||
-					par2.getItem() == ACItems.coin && par1 != ACItems.blank_engraving)
-						return engravings.get(par1);
+		if(!getEngravingResult(par2).isEmpty())
+			if(engravings.get(par1) != null)
+				if(par2.getItem() != ACItems.coin && par1 == ACItems.blank_engraving ||
+				par2.getItem() == ACItems.coin && par1 != ACItems.blank_engraving)
+					return engravings.get(par1);
 
 		return ItemStack.EMPTY;
 	}
 
+	/**
+	 * Indexes the coins, the first one registered for an Item and metadata wins
+	 */
+	private synchronized RecipeIndex<ItemStack> buildIndex()
+	{
+		RecipeIndex<ItemStack> index = new RecipeIndex<>();
+		for(ItemStack coin : coins)
+			if(index.get(coin) == null)
+				index.put(coin, coin);
+		coinIndex = index;
+		return index;
+	}
+
 	private boolean areStacksEqual(ItemStack stack1, ItemStack stack2)
 	{
 		return (stack2.getItem() == stack1.getItem() || stack1.getItem() == ACItems.coin) && (stack2.getItemDamage() == OreDictionary.WILDCARD_VALUE || stack2.getItemDamage() == stack1.getItemDamage());
 	}
 
 	/**
-	 * Returns the coin list
+	 * Returns the coin list (changes made to it are picked up by the lookups)
 	 */
 	public List<ItemStack> getCoinList(){
 		return coins;
@@ -109,10 +148,13 @@ public class EngraverRecipes {
 		float ret = stack.getItem().getSmeltingExperience(stack);
 		if (ret != -1) return ret;
 
-		return experienceList.entrySet().stream()
-				.filter(e -> areStacksEqual(stack, e.getKey()))
-				.map(Entry::getValue)
-				.findFirst()
-				.orElse(0.0F);
+		Float xp = experienceIndex.get(stack);
+		if(xp != null)
+			return xp;
+		if(stack.getItem() == ACItems.coin)
+			for(Entry<ItemStack, Float> e : experienceList.entrySet())
+				if(areStacksEqual(stack, e.getKey()))
+					return e.getValue();
+		return 0.0F;
 	}
 }
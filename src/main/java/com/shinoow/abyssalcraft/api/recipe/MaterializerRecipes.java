@@ -12,19 +12,28 @@
 package com.shinoow.abyssalcraft.api.recipe;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.shinoow.abyssalcraft.api.APIUtils;
+import com.shinoow.abyssalcraft.api.item.ICrystal;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.oredict.OreDictionary;
 
 public class MaterializerRecipes {
 
 	private static final MaterializerRecipes materializerBase = new MaterializerRecipes();
 	/** The list of materialization results. */
 	private final List<Materialization> materializationList = new ArrayList<>();
+	private final RecipeIndex<Materialization> outputIndex = new RecipeIndex<>();
+	/** Recipe inputs compiled into crystal-count form, rebuilt after new recipes are added */
+	private volatile CompiledRecipes compiled;
 
 	public static MaterializerRecipes instance()
 	{
@@ -40,6 +49,9 @@ public class MaterializerRecipes {
 
 	public void materialize(Materialization materialization){
 		materializationList.add(materialization);
+		if(outputIndex.get(materialization.output) == null)
+			outputIndex.put(materialization.output, materialization);
+		compiled = null;
 	}
 
 	/**
@@ -49,15 +61,49 @@ public class MaterializerRecipes {
 	 */
 	public List<ItemStack> getMaterializationResult(ItemStack stack){
 
-		ItemStack[] inventory = extractItemsFromBag(stack);
+		CompiledRecipes recipes = getCompiled();
+		Long2IntMap crystals = recipes.countCrystals(stack);
 
-		if(inventory == null) return Collections.emptyList();
+		if(crystals == null) return Collections.emptyList();
 
-		List<ItemStack> displayList = materializationList.stream().filter(m -> arrayContainsOtherArray(inventory, m.input)).map(m -> m.output.copy()).collect(Collectors.toList());
+		int[] hits = new int[recipes.keys.length];
+		for(LongIterator i = crystals.keySet().iterator(); i.hasNext();) {
+			int[] users = recipes.byCrystal.get(i.nextLong());
+			if(users != null)
+				for(int recipe : users)
+					hits[recipe]++;
+		}
+
+		List<ItemStack> displayList = new ArrayList<>();
+		for(int i = 0; i < hits.length; i++)
+			if(hits[i] == recipes.keys[i].length && recipes.getMaxCrafts(i, crystals) > 0)
+				displayList.add(materializationList.get(i).output.copy());
 
 		return displayList;
 	}
 
+	/**
+	 * Calculates how many times an ItemStack can be materialized with the contents of a Crystal Bag
+	 * @param output ItemStack to materialize
+	 * @param bag Crystal Bag to use crystals from
+	 * @return The amount of times the recipe for the ItemStack can be crafted (0 if there is no recipe)
+	 *
+	 * @since 2.0.0
+	 */
+	public int getMaxMaterializations(ItemStack output, ItemStack bag){
+
+		Materialization mat = getMaterializationFor(output);
+
+		if(mat == null) return 0;
+
+		CompiledRecipes recipes = getCompiled();
+		Long2IntMap crystals = recipes.countCrystals(bag);
+
+		if(crystals == null) return 0;
+
+		return recipes.getMaxCrafts(materializationList.indexOf(mat), crystals);
+	}
+
 	/**
 	 * Attempts to materialize an ItemStack
 	 * @param output ItemStack to materialize
@@ -74,6 +120,9 @@ public class MaterializerRecipes {
 		if(mat == null) return;
 
 		int num = output.getCount();
+
+		if(getMaxMaterializations(output, bag) < num) return;
+
 		int count = 0;
 
 		if(num > 1)
@@ -126,7 +175,7 @@ public class MaterializerRecipes {
 	 * @return A materialization recipe if one exists, otherwise null
 	 */
 	public Materialization getMaterializationFor(ItemStack output){
-		return materializationList.stream().filter(m -> APIUtils.areStacksEqual(output, m.output)).findFirst().orElse(null);
+		return outputIndex.get(output);
 	}
 
 	/**
@@ -184,34 +233,6 @@ public class MaterializerRecipes {
 		bag.getTagCompound().setTag("ItemInventory", items);
 	}
 
-	/**
-	 * Compares two arrays, checking if the first one contains the contents of the second
-	 * @param array1 First array
-	 * @param array2 Second array
-	 * @return True if the first array contains the contents of the second, otherwise false
-	 */
-	private boolean arrayContainsOtherArray(ItemStack[] array1, ItemStack[] array2){
-		List<ItemStack> inventory = makeNonWriteThroughList(array1);
-		List<ItemStack> recipe = makeNonWriteThroughList(array2);
-
-		if(inventory.size() >= recipe.size())
-			for(ItemStack invItem : inventory)
-				for(ItemStack recipeItem : recipe)
-					if(APIUtils.areStacksEqual(invItem, recipeItem))
-						if(invItem.getCount() >= recipeItem.getCount()){
-							invItem.shrink(recipeItem.getCount());
-							if(invItem.isEmpty()) invItem = ItemStack.EMPTY;
-							recipe.remove(recipeItem);
-							break;
-						} else {
-							recipeItem.shrink(invItem.getCount());
-							invItem = ItemStack.EMPTY;
-							break;
-						}
-
-		return recipe.isEmpty();
-	}
-
 	private List<ItemStack> makeNonWriteThroughList(ItemStack[] array){
 		ItemStack[] inputTmp = new ItemStack[array.length];
 		for(int i = 0; i < array.length; i++)
@@ -224,4 +245,103 @@ public class MaterializerRecipes {
 	{
 		return materializationList;
 	}
+
+	private CompiledRecipes getCompiled(){
+		CompiledRecipes recipes = compiled;
+		if(recipes == null)
+			synchronized(this) {
+				recipes = compiled;
+				if(recipes == null)
+					compiled = recipes = new CompiledRecipes(materializationList);
+			}
+		return recipes;
+	}
+
+	/**
+	 * Materializer recipes converted into crystal-count vectors.<br>
+	 * Each crystal type is a long key made from an Item ID local to this table and
+	 * the metadata, with {@link OreDictionary#WILDCARD_VALUE} used for the total amount
+	 * of an Item regardless of metadata.
+	 */
+	private static class CompiledRecipes {
+
+		private final Map<Item, Integer> itemIds = new ConcurrentHashMap<>();
+		/** Crystal types needed by each recipe (same order as the recipe list) */
+		private final long[][] keys;
+		/** Amount needed of each crystal type in {@link #keys} */
+		private final int[][] amounts;
+		/** Indices of the recipes that need each crystal type */
+		private final Long2ObjectMap<int[]> byCrystal = new Long2ObjectOpenHashMap<>();
+
+		private CompiledRecipes(List<Materialization> recipes){
+			keys = new long[recipes.size()][];
+			amounts = new int[recipes.size()][];
+			Long2ObjectMap<IntList> users = new Long2ObjectOpenHashMap<>();
+			for(int i = 0; i < recipes.size(); i++) {
+				Long2IntMap needed = new Long2IntOpenHashMap();
+				Map<Item, Integer> exact = new HashMap<>();
+				Set<Item> wildcard = new HashSet<>();
+				for(ItemStack stack : recipes.get(i).input) {
+					if(stack.isEmpty()) continue;
+					Item item = stack.getItem();
+					itemIds.putIfAbsent(item, itemIds.size());
+					needed.put(key(item, stack.getItemDamage()), needed.get(key(item, stack.getItemDamage())) + stack.getCount());
+					if(stack.getItemDamage() == OreDictionary.WILDCARD_VALUE)
+						wildcard.add(item);
+					else exact.merge(item, stack.getCount(), Integer::sum);
+				}
+				//the total amount of an Item has to cover both its wildcard and exact requirements
+				for(Item item : wildcard)
+					if(exact.containsKey(item))
+						needed.put(key(item, OreDictionary.WILDCARD_VALUE), needed.get(key(item, OreDictionary.WILDCARD_VALUE)) + exact.get(item));
+				keys[i] = needed.keySet().toLongArray();
+				amounts[i] = new int[keys[i].length];
+				for(int j = 0; j < keys[i].length; j++) {
+					amounts[i][j] = needed.get(keys[i][j]);
+					users.computeIfAbsent(keys[i][j], k -> new IntArrayList()).add(i);
+				}
+			}
+			for(Long2ObjectMap.Entry<IntList> entry : users.long2ObjectEntrySet())
+				byCrystal.put(entry.getLongKey(), entry.getValue().toIntArray());
+		}
+
+		private long key(Item item, int meta){
+			return (long)itemIds.get(item) << 16 | meta & 0xFFFF;
+		}
+
+		/**
+		 * Reads the contents of a Crystal Bag straight from NBT into a crystal-count vector
+		 * @return The amount of each crystal type (only types used in recipes are counted),
+		 * or null if the bag has no inventory or contains anything but crystals
+		 */
+		private Long2IntMap countCrystals(ItemStack bag){
+			if(!bag.hasTagCompound() || !bag.getTagCompound().hasKey("ItemInventory"))
+				return null;
+			NBTTagList items = bag.getTagCompound().getTagList("ItemInventory", 10);
+			Long2IntMap counts = new Long2IntOpenHashMap(items.tagCount() * 2);
+			for(int i = 0; i < items.tagCount(); i++) {
+				NBTTagCompound tag = items.getCompoundTagAt(i);
+				Item item = Item.getByNameOrId(tag.getString("id"));
+				int count = tag.getByte("Count");
+				int meta = Math.max(0, tag.getShort("Damage"));
+				if(item == null || count <= 0 || !(item instanceof ICrystal) && !APIUtils.isCrystal(new ItemStack(item, 1, meta)))
+					return null;
+				if(!itemIds.containsKey(item)) continue;
+				counts.put(key(item, meta), counts.get(key(item, meta)) + count);
+				counts.put(key(item, OreDictionary.WILDCARD_VALUE), counts.get(key(item, OreDictionary.WILDCARD_VALUE)) + count);
+			}
+			return counts;
+		}
+
+		/**
+		 * Calculates how many times a recipe can be crafted from a crystal-count vector
+		 */
+		private int getMaxCrafts(int recipe, Long2IntMap crystals){
+			if(recipe < 0) return 0;
+			int max = Integer.MAX_VALUE;
+			for(int i = 0; i < keys[recipe].length && max > 0; i++)
+				max = Math.min(max, crystals.get(keys[recipe][i]) / amounts[recipe][i]);
+			return max;
+		}
+	}
 }
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.recipe;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Lookup table for recipe data keyed by ItemStacks.<br>
+ * Entries are indexed by Item, then by metadata, with entries registered
+ * using {@link OreDictionary#WILDCARD_VALUE} acting as a fallback for any metadata
+ * without an entry of its own. Lookups don't allocate anything.
+ * @author shinoow
+ *
+ * @param <V> Type of the stored values
+ *
+ * @since 2.0.0
+ */
+public class RecipeIndex<V> {
+
+	private final Map<Item, Node<V>> index = new HashMap<>();
+
+	/**
+	 * Adds an entry to the index, replacing any previous entry for the same Item and metadata
+	 * @param key ItemStack to index the value by
+	 * @param value Value to store
+	 */
+	public void put(ItemStack key, V value) {
+		if(key.isEmpty()) return;
+		Node<V> node = index.computeIfAbsent(key.getItem(), i -> new Node<>());
+		if(key.getItemDamage() == OreDictionary.WILDCARD_VALUE)
+			node.wildcard = value;
+		else node.metas.put(key.getItemDamage(), value);
+	}
+
+	/**
+	 * Finds the value matching the ItemStack
+	 * @param stack ItemStack to look up
+	 * @return The value for the Item and metadata, the wildcard value for the Item, or null if neither exists
+	 */
+	public V get(ItemStack stack) {
+		if(stack.isEmpty()) return null;
+		Node<V> node = index.get(stack.getItem());
+		if(node == null) return null;
+		V value = node.metas.get(stack.getItemDamage());
+		return value != null ? value : node.wildcard;
+	}
+
+	public void clear() {
+		index.clear();
+	}
+
+	private static class Node<V> {
+
+		private final Int2ObjectMap<V> metas = new Int2ObjectOpenHashMap<>();
+		private V wildcard;
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.recipe;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * List that runs a callback whenever it's changed, including through its iterators and sub lists.<br>
+ * Lets the recipe lists handed out by the API stay modifiable, while the {@link RecipeIndex}
+ * built from them gets rebuilt after any change.
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+class TrackedList<E> extends AbstractList<E> {
+
+	private final List<E> list = new ArrayList<>();
+	private final Runnable onChange;
+
+	TrackedList(Runnable onChange) {
+		this.onChange = onChange;
+	}
+
+	@Override
+	public E get(int index) {
+		return list.get(index);
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public E set(int index, E element) {
+		onChange.run();
+		return list.set(index, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		onChange.run();
+		list.add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public E remove(int index) {
+		onChange.run();
+		E element = list.remove(index);
+		modCount++;
+		return element;
+	}
+}
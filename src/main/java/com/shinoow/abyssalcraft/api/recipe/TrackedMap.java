@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.api.recipe;
+
+import java.util.*;
+
+/**
+ * Map that runs a callback whenever it's changed, including through its views and iterators.<br>
+ * Lets the recipe lists handed out by the API stay modifiable, while the {@link RecipeIndex}
+ * built from them gets rebuilt after any change.
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+class TrackedMap<K, V> extends AbstractMap<K, V> {
+
+	private final Map<K, V> map = new LinkedHashMap<>();
+	private final Runnable onChange;
+	private final Set<Entry<K, V>> entrySet = new EntrySet();
+
+	TrackedMap(Runnable onChange) {
+		this.onChange = onChange;
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return map.containsKey(key);
+	}
+
+	@Override
+	public V get(Object key) {
+		return map.get(key);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		onChange.run();
+		return map.put(key, value);
+	}
+
+	@Override
+	public V remove(Object key) {
+		if(!map.containsKey(key)) return null;
+		onChange.run();
+		return map.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		onChange.run();
+		map.clear();
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return entrySet;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+			return new Iterator<Entry<K, V>>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					Entry<K, V> entry = iterator.next();
+					return new SimpleEntry<K, V>(entry) {
+
+						@Override
+						public V setValue(V value) {
+							onChange.run();
+							super.setValue(value);
+							return entry.setValue(value);
+						}
+					};
+				}
+
+				@Override
+				public void remove() {
+					onChange.run();
+					iterator.remove();
+				}
+			};
+		}
+	}
+}
@@ -15,8 +15,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import com.shinoow.abyssalcraft.api.APIUtils;
-
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -28,8 +26,11 @@ public class TransmutatorRecipes {
 
 	private static final TransmutatorRecipes transmutationBase = new TransmutatorRecipes();
 	/** The list of transmutation results. */
-	private final Map<ItemStack, ItemStack> transmutationList = new HashMap<>();
+	private final Map<ItemStack, ItemStack> transmutationList = new TrackedMap<>(() -> transmutationIndex = null);
 	private final Map<ItemStack, Float> experienceList = new HashMap<>();
+	/** Built from the transmutation list on the first lookup after it changed */
+	private volatile RecipeIndex<ItemStack> transmutationIndex;
+	private final RecipeIndex<Float> experienceIndex = new RecipeIndex<>();
 
 	public static TransmutatorRecipes instance()
 	{
@@ -63,6 +64,7 @@ public class TransmutatorRecipes {
 	{
 		transmutationList.put(input, output);
 		experienceList.put(output, xp);
+		experienceIndex.put(output, xp);
 	}
 
 	/**
@@ -70,13 +72,31 @@ public class TransmutatorRecipes {
 	 */
 	public ItemStack getTransmutationResult(ItemStack stack)
 	{
-		return transmutationList.entrySet().stream()
-				.filter(e -> APIUtils.areStacksEqual(stack, e.getKey()))
-				.map(Entry::getValue)
-				.findFirst()
-				.orElse(ItemStack.EMPTY);
+		RecipeIndex<ItemStack> index = transmutationIndex;
+		ItemStack result = (index != null ? index : buildIndex()).get(stack);
+		return result != null ? result : ItemStack.EMPTY;
+	}
+
+	private synchronized RecipeIndex<ItemStack> buildIndex()
+	{
+		RecipeIndex<ItemStack> index = new RecipeIndex<>();
+		for(Entry<ItemStack, ItemStack> entry : transmutationList.entrySet())
+			index.put(entry.getKey(), entry.getValue());
+		transmutationIndex = index;
+		return index;
 	}
 
+	/**
+	 * Removes the transmutation registered for the input (same Item and metadata)
+	 */
+	public void removeTransmutation(ItemStack input)
+	{
+		transmutationList.keySet().removeIf(stack -> stack.getItem() == input.getItem() && stack.getItemDamage() == input.getItemDamage());
+	}
+
+	/**
+	 * Returns the transmutation list (changes made to it are picked up by the lookups)
+	 */
 	public Map<ItemStack, ItemStack> getTransmutationList()
 	{
 		return transmutationList;
@@ -87,10 +107,7 @@ public class TransmutatorRecipes {
 		float ret = stack.getItem().getSmeltingExperience(stack);
 		if (ret != -1) return ret;
 
-		return experienceList.entrySet().stream()
-				.filter(e -> APIUtils.areStacksEqual(stack, e.getKey()))
-				.map(Entry::getValue)
-				.findFirst()
-				.orElse(0.0F);
+		Float xp = experienceIndex.get(stack);
+		return xp != null ? xp : 0.0F;
 	}
 }
@@ -20,6 +20,8 @@ import org.apache.logging.log4j.Logger;
 import com.shinoow.abyssalcraft.api.APIUtils;
 import com.shinoow.abyssalcraft.api.dimension.DimensionDataRegistry;
 
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
 
@@ -34,6 +36,9 @@ public class RitualRegistry {
 	private final Map<Integer, Integer> dimToBookType = new HashMap<>();
 	private final Map<NecronomiconRitual, Integer> ritualToBookType = new HashMap<>();
 	private final List<NecronomiconRitual> rituals = new ArrayList<>();
+	private final Map<String, NecronomiconRitual> ritualsByName = new HashMap<>();
+	/** Lookup table for {@link #getRitual(int, int, ItemStack[], ItemStack)}, rebuilt after any ritual changes */
+	private volatile RitualIndex index;
 
 	private final Logger logger = LogManager.getLogger("RitualRegistry");
 
@@ -110,12 +115,13 @@ public class RitualRegistry {
 	 */
 	public void registerRitual(NecronomiconRitual ritual){
 		if(ritual.getBookType() <= 4 && ritual.getBookType() >= 0){
-			for(NecronomiconRitual entry : rituals)
-				if(ritual.getUnlocalizedName().equals(entry.getUnlocalizedName())){
-					logger.log(Level.ERROR, "Necronomicon Ritual already registered: {}", ritual.getUnlocalizedName());
-					return;
-				}
+			if(ritualsByName.containsKey(ritual.getUnlocalizedName())){
+				logger.log(Level.ERROR, "Necronomicon Ritual already registered: {}", ritual.getUnlocalizedName());
+				return;
+			}
 			rituals.add(ritual);
+			ritualsByName.put(ritual.getUnlocalizedName(), ritual);
+			index = null;
 		} else logger.log(Level.ERROR, "Necronomicon book type does not exist: {}", ritual.getBookType());
 	}
 
@@ -129,6 +135,27 @@ public class RitualRegistry {
 		return rituals;
 	}
 
+	/**
+	 * Fetches a ritual by its unlocalized name
+	 * @param unlocalizedName The unlocalized name of the ritual (including the "ac.ritual." prefix)
+	 * @return A Necronomicon Ritual, or null if none was found
+	 *
+	 * @since 2.0.0
+	 */
+	public NecronomiconRitual getRitual(String unlocalizedName){
+		return ritualsByName.get(unlocalizedName);
+	}
+
+	/**
+	 * Should be called after modifying the dimension, book type or offerings of
+	 * a registered ritual, in order for {@link #getRitual(int, int, ItemStack[], ItemStack)} to pick up the change
+	 *
+	 * @since 2.0.0
+	 */
+	public void refreshRituals(){
+		index = null;
+	}
+
 	/**
 	 * Attempts to fetch a ritual
 	 * @param dimension The provided dimension
@@ -141,7 +168,31 @@ public class RitualRegistry {
 	 */
 	public NecronomiconRitual getRitual(int dimension, int bookType, ItemStack[] offerings, ItemStack sacrifice){
 
-		return rituals.stream().filter(ritual -> areRitualsSame(ritual, dimension, bookType, offerings, sacrifice)).findFirst().orElse(null);
+		if(offerings == null) return null;
+
+		RitualIndex index = this.index;
+		if(index == null)
+			synchronized(this) {
+				index = this.index;
+				if(index == null)
+					this.index = index = new RitualIndex(rituals);
+			}
+
+		int size = 0;
+		int fingerprint = 0;
+		for(ItemStack stack : offerings)
+			if(!stack.isEmpty()) {
+				size++;
+				fingerprint += RitualIndex.mix(stack.getItem());
+			}
+
+		int first = Integer.MAX_VALUE;
+		for(int b = 0; b <= Math.min(bookType, 4); b++) {
+			first = index.find(dimension, b, size, fingerprint, first, offerings, sacrifice, bookType);
+			first = index.find(OreDictionary.WILDCARD_VALUE, b, size, fingerprint, first, offerings, sacrifice, bookType);
+		}
+
+		return first < rituals.size() ? rituals.get(first) : null;
 	}
 
 	/**
@@ -155,7 +206,7 @@ public class RitualRegistry {
 	 *
 	 * @since 1.4
 	 */
-	private boolean areRitualsSame(NecronomiconRitual ritual, int dimension, int bookType, ItemStack[] offerings, ItemStack sacrifice){
+	private static boolean areRitualsSame(NecronomiconRitual ritual, int dimension, int bookType, ItemStack[] offerings, ItemStack sacrifice){
 		if(ritual.getDimension() == dimension || ritual.getDimension() == OreDictionary.WILDCARD_VALUE)
 			if(ritual.getBookType() <= bookType)
 				if(ritual.getOfferings() != null && offerings != null)
@@ -165,4 +216,93 @@ public class RitualRegistry {
 							return true;
 		return false;
 	}
+
+	/**
+	 * Rituals grouped by dimension and book type, then by an order-insensitive fingerprint
+	 * of their offerings (the amount of offerings and the sum of their mixed Item hashes).<br>
+	 * Rituals with offerings that can match several Items (arrays, lists, Ore Dictionary names)
+	 * can't have a fingerprint, so they're only grouped by the amount of offerings.
+	 */
+	private static class RitualIndex {
+
+		private final List<NecronomiconRitual> rituals;
+		/** Registration index of each ritual, keyed by dimension and book type, then fingerprint */
+		private final Map<Long, Map<Long, List<Integer>>> exact = new HashMap<>();
+		/** Same as {@link #exact}, but for rituals without a fingerprint (only keyed by the amount of offerings) */
+		private final Map<Long, Map<Integer, List<Integer>>> fuzzy = new HashMap<>();
+
+		private RitualIndex(List<NecronomiconRitual> rituals){
+			this.rituals = rituals;
+			for(int i = 0; i < rituals.size(); i++) {
+				NecronomiconRitual ritual = rituals.get(i);
+				if(ritual.getOfferings() == null) continue;
+				long group = group(ritual.getDimension(), ritual.getBookType());
+				int size = 0;
+				int fingerprint = 0;
+				boolean exactMatch = true;
+				for(Object obj : ritual.getOfferings()) {
+					if(obj == null) continue;
+					size++;
+					Item item = getItem(obj);
+					if(item == null)
+						exactMatch = false;
+					else fingerprint += mix(item);
+				}
+				if(exactMatch && size > 0)
+					exact.computeIfAbsent(group, g -> new HashMap<>()).computeIfAbsent(key(size, fingerprint), k -> new ArrayList<>()).add(i);
+				else fuzzy.computeIfAbsent(group, g -> new HashMap<>()).computeIfAbsent(size, k -> new ArrayList<>()).add(i);
+			}
+		}
+
+		/**
+		 * Checks the candidates of a group against the offerings and sacrifice
+		 * @return The lowest registration index of a matching ritual, or first if that was lower
+		 */
+		private int find(int dimension, int bookType, int size, int fingerprint, int first, ItemStack[] offerings, ItemStack sacrifice, int maxBookType){
+			long group = group(dimension, bookType);
+			Map<Long, List<Integer>> exactGroup = exact.get(group);
+			if(exactGroup != null)
+				first = match(exactGroup.get(key(size, fingerprint)), first, dimension, offerings, sacrifice, maxBookType);
+			Map<Integer, List<Integer>> fuzzyGroup = fuzzy.get(group);
+			if(fuzzyGroup != null) {
+				first = match(fuzzyGroup.get(size), first, dimension, offerings, sacrifice, maxBookType);
+				if(size != 0)//rituals without offerings accept anything
+					first = match(fuzzyGroup.get(0), first, dimension, offerings, sacrifice, maxBookType);
+			}
+			return first;
+		}
+
+		private int match(List<Integer> candidates, int first, int dimension, ItemStack[] offerings, ItemStack sacrifice, int bookType){
+			if(candidates != null)
+				for(int i : candidates) {
+					if(i >= first) break;
+					if(areRitualsSame(rituals.get(i), dimension, bookType, offerings, sacrifice))
+						return i;
+				}
+			return first;
+		}
+
+		private long group(int dimension, int bookType){
+			return (long)dimension << 3 | bookType;
+		}
+
+		private long key(int size, int fingerprint){
+			return (long)size << 32 | fingerprint & 0xFFFFFFFFL;
+		}
+
+		private Item getItem(Object obj){
+			if(obj instanceof ItemStack)
+				return ((ItemStack)obj).isEmpty() ? null : ((ItemStack)obj).getItem();
+			if(obj instanceof Item)
+				return (Item)obj;
+			if(obj instanceof Block)
+				return Item.getItemFromBlock((Block)obj);
+			return null;
+		}
+
+		private static int mix(Item item){
+			int h = System.identityHashCode(item) * 0x9E3779B9;
+			return h ^ h >>> 16;
+		}
+	}
 }
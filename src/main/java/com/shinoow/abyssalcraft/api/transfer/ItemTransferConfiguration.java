@@ -18,6 +18,7 @@ import javax.annotation.Nonnull;
 import com.shinoow.abyssalcraft.api.APIUtils;
 
 import net.minecraft.inventory.ItemStackHelper;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.*;
 import net.minecraft.util.EnumFacing;
@@ -41,6 +42,8 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 	private NonNullList<ItemStack> subtypeFilter = NonNullList.withSize(5, ItemStack.EMPTY);
 	private EnumFacing exitFacing, entryFacing;
 	private boolean filterSubtypes, filterNBT;
+	private int transferAmount = 1;
+	private Map<Item, List<ItemStack>> filterLookup;
 
 	/**
 	 * Constructor without parameters (only used when the capability is reading from NBT)
@@ -60,6 +63,7 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 	public ItemTransferConfiguration setFilter(NonNullList<ItemStack> filter) {
 		this.filter = filter;
 		subtypeFilter = filter;
+		filterLookup = null;
 		return this;
 	}
 
@@ -86,6 +90,7 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 	 */
 	public ItemTransferConfiguration setFilterSubtypes(boolean filterSubtypes) {
 		this.filterSubtypes = filterSubtypes;
+		filterLookup = null;
 		return this;
 	}
 
@@ -97,6 +102,15 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 		return this;
 	}
 
+	/**
+	 * (optional) Sets the maximum amount of Items moved per transfer
+	 * <br>(All Items moved in one transfer are carried by a single spirit)
+	 */
+	public ItemTransferConfiguration setTransferAmount(int transferAmount) {
+		this.transferAmount = Math.max(1, transferAmount);
+		return this;
+	}
+
 	/**
 	 * Getter for the route
 	 */
@@ -143,6 +157,13 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 		return filterNBT;
 	}
 
+	/**
+	 * Getter for the maximum amount of Items moved per transfer
+	 */
+	public int getTransferAmount() {
+		return transferAmount;
+	}
+
 	/**
 	 * Initializes the subtype filter (if filtering by subtypes is enabled)
 	 */
@@ -151,6 +172,36 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 			for(ItemStack stack : subtypeFilter)
 				if(!stack.isEmpty() && stack.getHasSubtypes())
 					stack.setItemDamage(OreDictionary.WILDCARD_VALUE);
+		filterLookup = null;
+	}
+
+	/**
+	 * Checks if an ItemStack passes the filter (always true if the filter is empty)
+	 * @param stack ItemStack to check
+	 * @return True if the ItemStack can be transferred, otherwise false
+	 *
+	 * @since 2.0.0
+	 */
+	public boolean isInFilter(ItemStack stack) {
+		if(filterLookup == null)
+			filterLookup = buildFilterLookup();
+		if(filterLookup.isEmpty())
+			return true;
+		List<ItemStack> candidates = filterLookup.get(stack.getItem());
+		if(candidates != null)
+			for(ItemStack stack1 : candidates)
+				if((stack1.getItemDamage() == OreDictionary.WILDCARD_VALUE || stack1.getItemDamage() == stack.getItemDamage())
+						&& (!filterNBT || APIUtils.areItemStackTagsEqual(stack1, stack, 0)))
+					return true;
+		return false;
+	}
+
+	private Map<Item, List<ItemStack>> buildFilterLookup(){
+		Map<Item, List<ItemStack>> lookup = new HashMap<>();
+		for(ItemStack stack : getFilter())
+			if(!stack.isEmpty())
+				lookup.computeIfAbsent(stack.getItem(), i -> new ArrayList<>(1)).add(stack);
+		return lookup;
 	}
 
 	@Override
@@ -167,6 +218,7 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 		ItemStackHelper.saveAllItems(nbt, filter);
 		nbt.setBoolean("FilterSubtypes", filterSubtypes);
 		nbt.setBoolean("FilterNBT", filterNBT);
+		nbt.setInteger("TransferAmount", transferAmount);
 
 		return nbt;
 	}
@@ -186,6 +238,7 @@ public class ItemTransferConfiguration implements INBTSerializable<NBTTagCompoun
 		ItemStackHelper.loadAllItems(nbt, subtypeFilter);
 		filterSubtypes = nbt.getBoolean("FilterSubtypes");
 		filterNBT = nbt.getBoolean("FilterNBT");
+		transferAmount = nbt.hasKey("TransferAmount") ? Math.max(1, nbt.getInteger("TransferAmount")) : 1;
 		setupSubtypeFilter();
 	}
 
@@ -43,6 +43,7 @@ public class GuiConfigurator extends GuiContainer
 		int j = (height - ySize) / 2;
 		buttonList.add(new GuiButton(0, i + 122, j + 36, 40, 20, inventory.getField(0) == 1 ? "true" : "false"));
 		buttonList.add(new GuiButton(1, i + 122, j + 57, 40, 20, inventory.getField(1) == 1 ? "true" : "false"));
+		buttonList.add(new GuiButton(2, i + 138, j + 15, 30, 20, getTransferAmount()));
 	}
 
 	@Override
@@ -51,6 +52,9 @@ public class GuiConfigurator extends GuiContainer
 		drawDefaultBackground();
 		super.drawScreen(mouseX, mouseY, partialTicks);
 		renderHoveredToolTip(mouseX, mouseY);
+		GuiButton button = buttonList.get(2);
+		if(button.isMouseOver())
+			drawHoveringText(I18n.format("tooltip.configurator.amount"), mouseX, mouseY);
 	}
 
 	@Override
@@ -60,10 +64,19 @@ public class GuiConfigurator extends GuiContainer
 			button.displayString = inventory.getField(button.id) == 0 ? "true" : "false";
 			inventory.setField(button.id, inventory.getField(button.id) == 1 ? 0 : 1);
 
+			PacketDispatcher.sendToServer(new UpdateModeMessage(button.id, 1));
+		} else if(button.enabled && button.id == 2) {
+			inventory.setField(2, inventory.getField(2) + 1);
+			button.displayString = getTransferAmount();
+
 			PacketDispatcher.sendToServer(new UpdateModeMessage(button.id, 1));
 		}
 	}
 
+	private String getTransferAmount() {
+		return "x" + InventoryConfigurator.TRANSFER_AMOUNTS[inventory.getField(2)];
+	}
+
 	@Override
 	protected void drawGuiContainerForegroundLayer(int par1, int par2)
 	{
@@ -42,7 +42,6 @@ import net.minecraft.client.renderer.GlStateManager.DestFactor;
 import net.minecraft.client.renderer.GlStateManager.SourceFactor;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.client.renderer.RenderItem;
-import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.client.util.ITooltipFlag.TooltipFlags;
 import net.minecraft.item.Item;
@@ -82,8 +81,6 @@ public class GuiNecronomicon extends GuiScreen {
 	private boolean isNecroInfo, isKnowledgeInfo;
 	/** Used to invalidate the current Necronomicon Gui (like if a lower Necronomicon tries to read information for a higher one) */
 	protected boolean isInvalid;
-	public static final Map<String, DynamicTexture> successcache = new HashMap<>();
-	public static final List<String> failcache = new ArrayList<>();
 	private static Chapter patreon;
 	private INecroDataCapability cap;
 
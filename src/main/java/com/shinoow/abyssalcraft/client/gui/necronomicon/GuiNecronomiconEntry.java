@@ -11,10 +11,6 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.client.gui.necronomicon;
 
-import java.net.URL;
-
-import javax.imageio.ImageIO;
-
 import org.lwjgl.input.Keyboard;
 
 import com.shinoow.abyssalcraft.api.necronomicon.*;
@@ -23,6 +19,7 @@ import com.shinoow.abyssalcraft.api.necronomicon.NecroData.Page;
 import com.shinoow.abyssalcraft.client.gui.necronomicon.buttons.ButtonCategory;
 import com.shinoow.abyssalcraft.client.gui.necronomicon.buttons.ButtonHome;
 import com.shinoow.abyssalcraft.client.gui.necronomicon.buttons.ButtonNextPage;
+import com.shinoow.abyssalcraft.client.lib.NecronomiconImageCache;
 import com.shinoow.abyssalcraft.lib.NecronomiconResources;
 import com.shinoow.abyssalcraft.lib.NecronomiconText;
 
@@ -276,22 +273,12 @@ public class GuiNecronomiconEntry extends GuiNecronomicon {
 				}
 			}
 			if(icon1 instanceof String)
-				if(locked1 || failcache.contains(icon1)){
+				if(locked1 || NecronomiconImageCache.instance().hasFailed((String)icon1)){
 					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
 					mc.renderEngine.bindTexture(MISSING_PICTURE);
 					drawTexturedModalRect(k, b0, 0, 0, 256, 256);
-				} else if(successcache.get(icon1) != null){
-					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-					GlStateManager.bindTexture(successcache.get(icon1).getGlTextureId());
-					drawTexturedModalRect(k, b0, 0, 0, 256, 256);
 				} else {
-					DynamicTexture t = null;
-					try {
-						t = new DynamicTexture(ImageIO.read(new URL((String)icon1)));
-						successcache.put((String)icon1, t);
-					} catch (Exception e) {
-						failcache.add((String)icon1);
-					}
+					DynamicTexture t = NecronomiconImageCache.instance().getTexture((String)icon1);
 					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
 					if(t != null)
 						GlStateManager.bindTexture(t.getGlTextureId());
@@ -345,22 +332,12 @@ public class GuiNecronomiconEntry extends GuiNecronomicon {
 				}
 			}
 			if(icon2 instanceof String)
-				if(locked2 || failcache.contains(icon2)){
+				if(locked2 || NecronomiconImageCache.instance().hasFailed((String)icon2)){
 					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
 					mc.renderEngine.bindTexture(MISSING_PICTURE);
 					drawTexturedModalRect(k + n, b0, 0, 0, 256, 256);
-				} else if(successcache.get(icon2) != null){
-					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-					GlStateManager.bindTexture(successcache.get(icon2).getGlTextureId());
-					drawTexturedModalRect(k + n, b0, 0, 0, 256, 256);
 				} else {
-					DynamicTexture t = null;
-					try {
-						t = new DynamicTexture(ImageIO.read(new URL((String)icon2)));
-						successcache.put((String)icon2, t);
-					} catch (Exception e) {
-						failcache.add((String)icon2);
-					}
+					DynamicTexture t = NecronomiconImageCache.instance().getTexture((String)icon2);
 					GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
 					if(t != null)
 						GlStateManager.bindTexture(t.getGlTextureId());
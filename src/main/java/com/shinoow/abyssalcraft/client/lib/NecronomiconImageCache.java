@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.client.lib;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Loads URL images for Necronomicon pages in the background.<br>
+ * Downloaded images are kept on disk (named after a hash of the URL) and revalidated once per
+ * session with ETag/Last-Modified. Uploaded textures are kept in a LRU cache, evicted ones are deleted.
+ */
+@SideOnly(Side.CLIENT)
+public class NecronomiconImageCache {
+
+	private static NecronomiconImageCache instance;
+
+	private final File cacheDir;
+	private final int maxTextures;
+	private final ExecutorService executor = Executors.newFixedThreadPool(2, new ThreadFactoryBuilder()
+			.setNameFormat("AbyssalCraft Image Loader #%d").setDaemon(true).build());
+	private final Map<String, CompletableFuture<File>> downloads = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<BufferedImage>> pending = new ConcurrentHashMap<>();
+	private final Set<String> failed = ConcurrentHashMap.newKeySet();
+	private final Map<String, DynamicTexture> textures;
+
+	public NecronomiconImageCache(File cacheDir, int maxTextures){
+		this.cacheDir = cacheDir;
+		this.maxTextures = maxTextures;
+		textures = new LinkedHashMap<String, DynamicTexture>(16, 0.75F, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, DynamicTexture> eldest) {
+				if(size() <= NecronomiconImageCache.this.maxTextures) return false;
+				eldest.getValue().deleteGlTexture();
+				return true;
+			}
+		};
+	}
+
+	public static NecronomiconImageCache instance(){
+		if(instance == null)
+			instance = new NecronomiconImageCache(new File(Minecraft.getMinecraft().mcDataDir, "abyssalcraft/imagecache"), 32);
+		return instance;
+	}
+
+	/**
+	 * Starts downloading an image to the disk cache, without decoding it (safe to call from any thread)
+	 * @param url Image URL
+	 */
+	public void prefetch(String url){
+		download(url);
+	}
+
+	/**
+	 * Checks if an image couldn't be loaded
+	 * @param url Image URL
+	 */
+	public boolean hasFailed(String url){
+		return failed.contains(url);
+	}
+
+	/**
+	 * Fetches the texture for an image, starting to load it if needed (render thread only)
+	 * @param url Image URL
+	 * @return The texture, or null if the image isn't ready (or failed to load)
+	 */
+	public DynamicTexture getTexture(String url){
+		DynamicTexture texture = textures.get(url);
+		if(texture != null || failed.contains(url)) return texture;
+
+		CompletableFuture<BufferedImage> image = load(url);
+		if(!image.isDone()) return null;
+		pending.remove(url);
+		BufferedImage result = image.getNow(null);
+		if(result == null) return null;
+		texture = new DynamicTexture(result);
+		textures.put(url, texture);
+		return texture;
+	}
+
+	/**
+	 * Decodes an image in the background. A failed load completes with null.
+	 * @param url Image URL
+	 */
+	public CompletableFuture<BufferedImage> load(String url){
+		return pending.computeIfAbsent(url, k -> download(k).thenApplyAsync(file -> {
+			try(InputStream in = file != null ? new FileInputStream(file) : new URL(k).openStream()) {
+				BufferedImage image = ImageIO.read(in);
+				if(image == null) throw new IOException("Unsupported image format");
+				return image;
+			} catch(IOException e) {
+				throw new CompletionException(e);
+			}
+		}, executor).exceptionally(t -> {
+			ACLogger.warning("Failed to load Necronomicon image %s: %s", k, t.getMessage());
+			failed.add(k);
+			return null;
+		}));
+	}
+
+	/**
+	 * Makes sure the disk cache has a fresh copy of a http(s) image.
+	 * Completes with the cached file, or null for other kinds of URLs (which are read directly).
+	 */
+	private CompletableFuture<File> download(String url){
+		return downloads.computeIfAbsent(url, k -> CompletableFuture.supplyAsync(() -> {
+			try {
+				return revalidate(new URL(k));
+			} catch(IOException e) {
+				throw new CompletionException(e);
+			}
+		}, executor));
+	}
+
+	private File revalidate(URL url) throws IOException {
+		URLConnection connection = url.openConnection();
+		if(!(connection instanceof HttpURLConnection)) return null;
+		HttpURLConnection http = (HttpURLConnection)connection;
+
+		String hash = DigestUtils.sha1Hex(url.toString());
+		File file = new File(cacheDir, hash + ".img");
+		File metaFile = new File(cacheDir, hash + ".properties");
+		Properties meta = new Properties();
+		if(file.exists() && metaFile.exists())
+			try(InputStream in = new FileInputStream(metaFile)) {
+				meta.load(in);
+			}
+		if(meta.getProperty("etag") != null)
+			http.setRequestProperty("If-None-Match", meta.getProperty("etag"));
+		if(meta.getProperty("lastModified") != null)
+			http.setRequestProperty("If-Modified-Since", meta.getProperty("lastModified"));
+		http.setConnectTimeout(10000);
+		http.setReadTimeout(10000);
+
+		try {
+			int code = http.getResponseCode();
+			if(code == HttpURLConnection.HTTP_NOT_MODIFIED && file.exists())
+				return file;
+			if(code != HttpURLConnection.HTTP_OK)
+				throw new IOException("HTTP " + code);
+
+			cacheDir.mkdirs();
+			File temp = new File(cacheDir, hash + ".tmp");
+			try(InputStream in = http.getInputStream(); OutputStream out = new FileOutputStream(temp)) {
+				IOUtils.copy(in, out);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			meta.clear();
+			if(http.getHeaderField("ETag") != null)
+				meta.setProperty("etag", http.getHeaderField("ETag"));
+			if(http.getHeaderField("Last-Modified") != null)
+				meta.setProperty("lastModified", http.getHeaderField("Last-Modified"));
+			try(OutputStream out = new FileOutputStream(metaFile)) {
+				meta.store(out, url.toString());
+			}
+			return file;
+		} catch(IOException e) {
+			// Better a stale image than none at all
+			if(file.exists()) return file;
+			throw e;
+		} finally {
+			http.disconnect();
+		}
+	}
+
+}
@@ -16,6 +16,7 @@ import java.util.Random;
 import com.shinoow.abyssalcraft.api.block.ACBlocks;
 import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityPortalAnchor;
 import com.shinoow.abyssalcraft.common.entity.EntityPortal;
+import com.shinoow.abyssalcraft.common.world.data.PortalWorldSavedData;
 
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
@@ -82,9 +83,11 @@ public class BlockPortalAnchor extends BlockACBasic {
 	@Override
 	public void breakBlock(World worldIn, BlockPos pos, IBlockState state) {
 
-		if(!worldIn.isRemote && state.getValue(ACTIVE))
+		if(!worldIn.isRemote && state.getValue(ACTIVE)) {
 			worldIn.getEntitiesWithinAABB(EntityPortal.class, new AxisAlignedBB(pos).grow(2))
 			.stream().forEach(e -> worldIn.removeEntity(e));
+			PortalWorldSavedData.get(worldIn).removePortal(pos);
+		}
 
 		super.breakBlock(worldIn, pos, state);
 	}
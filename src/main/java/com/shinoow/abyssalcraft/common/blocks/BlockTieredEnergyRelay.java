@@ -19,6 +19,7 @@ import java.util.Map;
 
 import com.shinoow.abyssalcraft.api.energy.IEnergyRelayBlock;
 import com.shinoow.abyssalcraft.common.blocks.BlockTieredEnergyPedestal.EnumDimType;
+import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityEnergyRelay;
 import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityTieredEnergyRelay;
 import com.shinoow.abyssalcraft.lib.ACTabs;
 import com.shinoow.abyssalcraft.lib.util.blocks.BlockUtil;
@@ -105,6 +106,14 @@ public class BlockTieredEnergyRelay extends BlockContainer implements IEnergyRel
 		super.breakBlock(world, pos, state);
 	}
 
+	@Override
+	public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
+	{
+		TileEntity tile = worldIn.getTileEntity(pos);
+		if(tile instanceof TileEntityEnergyRelay)
+			((TileEntityEnergyRelay) tile).onNeighborChanged();
+	}
+
 	@Override
 	public void onBlockPlacedBy(World worldIn, BlockPos pos, IBlockState state, EntityLivingBase placer, ItemStack stack)
 	{
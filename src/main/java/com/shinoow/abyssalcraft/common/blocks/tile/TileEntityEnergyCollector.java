@@ -12,6 +12,7 @@
 package com.shinoow.abyssalcraft.common.blocks.tile;
 
 import com.shinoow.abyssalcraft.api.energy.IEnergyCollector;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
@@ -38,6 +39,25 @@ public class TileEntityEnergyCollector extends TileEntity implements IEnergyColl
 		return nbttagcompound;
 	}
 
+	@Override
+	public void onLoad()
+	{
+		PENetwork.tileLoaded(this);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
+	}
+
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket() {
 		return new SPacketUpdateTileEntity(pos, 1, getUpdateTag());
@@ -13,6 +13,7 @@ package com.shinoow.abyssalcraft.common.blocks.tile;
 
 import com.shinoow.abyssalcraft.api.energy.IEnergyContainer;
 import com.shinoow.abyssalcraft.api.energy.IEnergyContainerItem;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
@@ -56,6 +57,20 @@ public class TileEntityEnergyContainer extends TileEntity implements IEnergyCont
 	{
 		if(world.isRemote)
 			world.tickableTileEntities.remove(this);
+		PENetwork.tileLoaded(this);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import com.shinoow.abyssalcraft.api.block.ACBlocks;
 import com.shinoow.abyssalcraft.api.energy.EnergyEnum.AmplifierType;
 import com.shinoow.abyssalcraft.api.energy.EnergyEnum.DeityType;
 import com.shinoow.abyssalcraft.api.energy.IEnergyManipulator;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
 import com.shinoow.abyssalcraft.api.energy.PEUtils;
 import com.shinoow.abyssalcraft.api.energy.disruption.DisruptionHandler;
 import com.shinoow.abyssalcraft.common.items.ItemStoneTablet;
@@ -94,6 +95,20 @@ public class TileEntityEnergyDepositioner extends TileEntity implements IEnergyM
 	{
 		if(world.isRemote)
 			world.tickableTileEntities.remove(this);
+		PENetwork.tileLoaded(this);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
 	}
 
 	@Override
@@ -15,6 +15,9 @@ import java.util.Random;
 
 import com.shinoow.abyssalcraft.api.energy.IEnergyCollector;
 import com.shinoow.abyssalcraft.api.energy.IEnergyContainerItem;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
+import com.shinoow.abyssalcraft.common.handlers.PENetworkEventHandler;
+import com.shinoow.abyssalcraft.lib.util.blocks.IBatchedEnergyTile;
 import com.shinoow.abyssalcraft.lib.util.blocks.ISingletonInventory;
 
 import net.minecraft.item.ItemStack;
@@ -24,13 +27,21 @@ import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ITickable;
 
-public class TileEntityEnergyPedestal extends TileEntity implements IEnergyCollector, ISingletonInventory, ITickable {
+public class TileEntityEnergyPedestal extends TileEntity implements IEnergyCollector, ISingletonInventory, ITickable, IBatchedEnergyTile {
 
 	private ItemStack item = ItemStack.EMPTY;
 	private float energy;
 	Random rand = new Random();
 	private boolean isDirty;
 
+	/** Fields to include in the next update packet (everything until the first one is sent) */
+	private int syncFields = SYNC_ITEM | SYNC_ENERGY;
+	private int energyBucket;
+
+	private static final int SYNC_ITEM = 1, SYNC_ENERGY = 2;
+	/** Energy is only synced when it moves into another 1/20th of the max */
+	private static final int ENERGY_BUCKETS = 20;
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound)
 	{
@@ -55,7 +66,13 @@ public class TileEntityEnergyPedestal extends TileEntity implements IEnergyColle
 
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket() {
-		return new SPacketUpdateTileEntity(pos, 1, getUpdateTag());
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		if((syncFields & SYNC_ITEM) != 0)
+			nbttagcompound.setTag("Item", item.writeToNBT(new NBTTagCompound()));
+		if((syncFields & SYNC_ENERGY) != 0)
+			nbttagcompound.setFloat("PotEnergy", energy);
+		syncFields = 0;
+		return new SPacketUpdateTileEntity(pos, 1, nbttagcompound);
 	}
 
 	@Override
@@ -67,7 +84,33 @@ public class TileEntityEnergyPedestal extends TileEntity implements IEnergyColle
 	@Override
 	public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity packet)
 	{
-		readFromNBT(packet.getNbtCompound());
+		NBTTagCompound nbttagcompound = packet.getNbtCompound();
+		if(nbttagcompound.hasKey("Item"))
+			item = new ItemStack(nbttagcompound.getCompoundTag("Item"));
+		if(nbttagcompound.hasKey("PotEnergy"))
+			energy = nbttagcompound.getFloat("PotEnergy");
+	}
+
+	@Override
+	public void onLoad()
+	{
+		if(!world.isRemote){
+			PENetworkEventHandler.schedule(this);
+			PENetwork.tileLoaded(this);
+		}
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
 	}
 
 	@Override
@@ -77,11 +120,15 @@ public class TileEntityEnergyPedestal extends TileEntity implements IEnergyColle
 			world.notifyBlockUpdate(pos, world.getBlockState(pos), world.getBlockState(pos), 2);
 			isDirty = false;
 		}
+	}
 
+	@Override
+	public void transferEnergy(int ticks)
+	{
 		if(!item.isEmpty())
 			if(item.getItem() instanceof IEnergyContainerItem)
-				if(!world.isRemote && ((IEnergyContainerItem) item.getItem()).canAcceptPE(item) && canTransferPE())
-					((IEnergyContainerItem) item.getItem()).addEnergy(item, consumeEnergy(1));
+				if(((IEnergyContainerItem) item.getItem()).canAcceptPE(item) && canTransferPE())
+					((IEnergyContainerItem) item.getItem()).addEnergy(item, consumeEnergy(ticks));
 	}
 
 	@Override
@@ -92,9 +139,22 @@ public class TileEntityEnergyPedestal extends TileEntity implements IEnergyColle
 	@Override
 	public void setItem(ItemStack item){
 		this.item = item;
+		syncFields |= SYNC_ITEM;
 		isDirty = true;
 	}
 
+	/**
+	 * Marks the energy for syncing if it moved into another bucket
+	 */
+	private void energyChanged(){
+		int bucket = (int)(energy * ENERGY_BUCKETS / getMaxEnergy());
+		if(bucket != energyBucket && world != null && !world.isRemote){
+			energyBucket = bucket;
+			syncFields |= SYNC_ENERGY;
+			isDirty = true;
+		}
+	}
+
 	@Override
 	public float getContainedEnergy() {
 
@@ -111,16 +171,19 @@ public class TileEntityEnergyPedestal extends TileEntity implements IEnergyColle
 	public void addEnergy(float energy) {
 		this.energy += energy;
 		if(this.energy > getMaxEnergy()) this.energy = getMaxEnergy();
+		energyChanged();
 	}
 
 	@Override
 	public float consumeEnergy(float energy) {
 		if(energy < this.energy){
 			this.energy -= energy;
+			energyChanged();
 			return energy;
 		} else {
 			float ret = this.energy;
 			this.energy = 0;
+			energyChanged();
 			return ret;
 		}
 	}
@@ -14,20 +14,30 @@ package com.shinoow.abyssalcraft.common.blocks.tile;
 import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
 import com.shinoow.abyssalcraft.api.energy.IEnergyContainer;
 import com.shinoow.abyssalcraft.api.energy.IEnergyTransporter;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
 import com.shinoow.abyssalcraft.api.energy.PEUtils;
 import com.shinoow.abyssalcraft.common.blocks.BlockEnergyRelay;
+import com.shinoow.abyssalcraft.common.handlers.PENetworkEventHandler;
+import com.shinoow.abyssalcraft.lib.util.blocks.IBatchedEnergyTile;
 
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 
-public class TileEntityEnergyRelay extends TileEntity implements IEnergyTransporter, ITickable {
+public class TileEntityEnergyRelay extends TileEntity implements IEnergyTransporter, IBatchedEnergyTile {
 
 	private float energy;
-	private int ticksExisted;
+
+	private boolean powered, checkPower = true;
+
+	/** Cached path, valid as long as the chunks on both ends keep their {@link PENetwork} versions */
+	private IEnergyContainer source, target;
+	private EnumFacing pathFacing;
+	private int sourceVersion = -1, targetVersion = -1;
 
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound)
@@ -65,32 +75,96 @@ public class TileEntityEnergyRelay extends TileEntity implements IEnergyTranspor
 	@Override
 	public void onLoad()
 	{
-		if(world.isRemote)
-			world.tickableTileEntities.remove(this);
-		ticksExisted = world.rand.nextInt(100);
+		if(!world.isRemote){
+			PENetworkEventHandler.schedule(this);
+			PENetwork.tileLoaded(this);
+		}
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
+	}
+
+	/**
+	 * Called when a neighbor changes, so the redstone state gets checked again
+	 */
+	public void onNeighborChanged(){
+		checkPower = true;
 	}
 
 	@Override
-	public void update() {
-		if(world.isBlockPowered(pos))
+	public void transferEnergy(int ticks) {
+		if(checkPower){
+			powered = world.isBlockPowered(pos);
+			checkPower = false;
+		}
+		if(powered) return;
+
+		IBlockState state = world.getBlockState(pos);
+		if(!state.getProperties().containsKey(BlockEnergyRelay.FACING)) return;
+		EnumFacing facing = state.getValue(BlockEnergyRelay.FACING);
+		updatePath(facing);
+
+		if(canAcceptPE() && isLoaded(source) && source.canTransferPE())
+			addEnergy(source.consumeEnergy(getDrainQuanta() * ticks / 20F));
+
+		if(canTransferPE() && isLoaded(target) && target.canAcceptPE()){
+			target.addEnergy(consumeEnergy(getTransferQuanta() * ticks / 40F));
+			AbyssalCraftAPI.getInternalMethodHandler().spawnPEStream(pos, target.getContainerTile().getPos(), world.provider.getDimension());
+		}
+	}
+
+	/**
+	 * Looks up the container to collect from and the one to transfer to again if the
+	 * facing changed or any blocks changed in the chunks the path goes through
+	 */
+	private void updatePath(EnumFacing facing){
+		PENetwork network = PENetwork.get(world);
+		BlockPos start = pos.offset(facing.getOpposite()), end = pos.offset(facing, getRange());
+		int sv = network.getVersion(start.getX() >> 4, start.getZ() >> 4);
+		int tv = network.getVersion(end.getX() >> 4, end.getZ() >> 4);
+		if(facing == pathFacing && sv == sourceVersion && tv == targetVersion && !isStale(source) && !isStale(target))
 			return;
 
-		++ticksExisted;
+		pathFacing = facing;
+		sourceVersion = sv;
+		targetVersion = tv;
+		source = world.isBlockLoaded(start) ? PEUtils.getContainer(world, pos, facing.getOpposite(), 1) : null;
+		target = null;
+		for(int i = 1; i <= getRange(); i++){
+			BlockPos pos1 = pos.offset(facing, i);
+			// The path is looked up again once the chunk loads (its version changes)
+			if(!world.isBlockLoaded(pos1) || world.getBlockState(pos1).isFullCube() && !world.isAirBlock(pos1)) break;
+			TileEntity tile = world.getTileEntity(pos1);
+			if(PEUtils.isContainer(tile)){
+				target = (IEnergyContainer) tile;
+				break;
+			}
+		}
+	}
 
-		if(ticksExisted % 20 == 0)
-			if(world.getBlockState(pos).getProperties().containsKey(BlockEnergyRelay.FACING))
-				PEUtils.collectNearbyPE(this, world, pos, world.getBlockState(pos).getValue(BlockEnergyRelay.FACING).getOpposite(), 5);
+	private boolean isStale(IEnergyContainer container){
+		return container != null && container.getContainerTile().isInvalid();
+	}
 
-		if(ticksExisted % 40 == 0 && canTransferPE())
-			if(world.getBlockState(pos).getProperties().containsKey(BlockEnergyRelay.FACING))
-				transferPE(world.getBlockState(pos).getValue(BlockEnergyRelay.FACING), 10);
+	private boolean isLoaded(IEnergyContainer container){
+		return container != null && !container.getContainerTile().isInvalid() && world.isBlockLoaded(container.getContainerTile().getPos());
 	}
 
 	@Override
 	public void transferPE(EnumFacing facing, float energy) {
 
-		if(PEUtils.canTransfer(world, pos, facing, 4)){
-			IEnergyContainer container = PEUtils.getContainer(world, pos, facing, 4);
+		if(PEUtils.canTransfer(world, pos, facing, getRange())){
+			IEnergyContainer container = PEUtils.getContainer(world, pos, facing, getRange());
 			if(container != null)
 				if(container.canAcceptPE()){
 					container.addEnergy(consumeEnergy(energy));
@@ -99,6 +173,21 @@ public class TileEntityEnergyRelay extends TileEntity implements IEnergyTranspor
 		}
 	}
 
+	protected int getRange(){
+
+		return 4;
+	}
+
+	protected float getDrainQuanta(){
+
+		return 5;
+	}
+
+	protected float getTransferQuanta(){
+
+		return 10;
+	}
+
 	@Override
 	public float getContainedEnergy() {
 
@@ -13,7 +13,6 @@ package com.shinoow.abyssalcraft.common.blocks.tile;
 
 import java.util.List;
 
-import com.shinoow.abyssalcraft.api.APIUtils;
 import com.shinoow.abyssalcraft.api.recipe.MaterializerRecipes;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -312,10 +311,6 @@ public class TileEntityMaterializer extends TileEntity implements IInventory, IT
 
 	private boolean canMaterialize(ItemStack stack, ItemStack bag){
 
-		for(ItemStack stack1 : MaterializerRecipes.instance().getMaterializationResult(bag))
-			if(APIUtils.areStacksEqual(stack, stack1))
-				return true;
-
-		return false;
+		return MaterializerRecipes.instance().getMaxMaterializations(stack, bag) > 0;
 	}
 }
@@ -13,6 +13,7 @@ package com.shinoow.abyssalcraft.common.blocks.tile;
 
 import com.shinoow.abyssalcraft.api.dimension.DimensionData;
 import com.shinoow.abyssalcraft.api.dimension.DimensionDataRegistry;
+import com.shinoow.abyssalcraft.common.world.data.PortalWorldSavedData;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
@@ -64,6 +65,8 @@ public class TileEntityPortalAnchor extends TileEntity {
 
 	public void setDestination(int destination) {
 		this.destination = destination;
+		if(world != null && !world.isRemote)
+			PortalWorldSavedData.get(world).addPortal(pos, destination);
 		DimensionData data = DimensionDataRegistry.instance().getDataForDim(destination);
 		if(data != null)
 			color = 0xff << 24 | (data.getR()&0xff) << 16 | (data.getG()&0xff) << 8 | data.getB()&0xff;
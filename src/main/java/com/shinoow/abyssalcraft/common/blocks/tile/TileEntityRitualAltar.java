@@ -66,9 +66,13 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 	private EntityPlayer user;
 	private float consumedEnergy;
 	private boolean isDirty;
+	/** Fields to include in the next update packet (everything until the first one is sent) */
+	private int syncFields = SYNC_ITEM | SYNC_TIMER;
 	private EntityLiving sacrifice;
 	private List<IRitualPedestal> pedestals = new ArrayList<>();
 
+	private static final int SYNC_ITEM = 1, SYNC_TIMER = 2;
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound)
 	{
@@ -93,7 +97,13 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket() {
-		return new SPacketUpdateTileEntity(pos, 1, getUpdateTag());
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		if((syncFields & SYNC_ITEM) != 0)
+			nbttagcompound.setTag("Item", item.writeToNBT(new NBTTagCompound()));
+		if((syncFields & SYNC_TIMER) != 0)
+			nbttagcompound.setInteger("Cooldown", ritualTimer);
+		syncFields = 0;
+		return new SPacketUpdateTileEntity(pos, 1, nbttagcompound);
 	}
 
 	@Override
@@ -105,13 +115,18 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 	@Override
 	public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity packet)
 	{
-		readFromNBT(packet.getNbtCompound());
+		NBTTagCompound nbttagcompound = packet.getNbtCompound();
+		if(nbttagcompound.hasKey("Item"))
+			item = new ItemStack(nbttagcompound.getCompoundTag("Item"));
+		if(nbttagcompound.hasKey("Cooldown"))
+			ritualTimer = nbttagcompound.getInteger("Cooldown");
 	}
 
 	@Override
 	public void update()
 	{
-		if(isDirty || isPerformingRitual()){
+		// The client runs the ritual timer on its own once it's started, so it's only synced when the ritual starts or ends
+		if(isDirty){
 			world.notifyBlockUpdate(pos, world.getBlockState(pos), world.getBlockState(pos), 2);
 			isDirty = false;
 		}
@@ -149,7 +164,11 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 							triggerDisruption();
 						reset();
 					}
-			} else ritualTimer = 0;
+			} else if(!world.isRemote){
+				ritualTimer = 0;
+				syncFields |= SYNC_TIMER;
+				isDirty = true;
+			}
 
 			world.spawnParticle(EnumParticleTypes.LAVA, pos.getX() + 0.5, pos.getY() + 1, pos.getZ() + 0.5, 0,0,0);
 		}
@@ -160,6 +179,7 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 		user = null;
 		ritual = null;
 		consumedEnergy = 0;
+		syncFields |= SYNC_TIMER;
 		isDirty = true;
 		sacrifice = null;
 	}
@@ -242,6 +262,7 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 														ritualTimer = 1;
 														user = player;
 														consumedEnergy = 0;
+														syncFields |= SYNC_TIMER;
 														isDirty = true;
 														PacketDispatcher.sendToAllAround(new RitualStartMessage(pos, ritual.getUnlocalizedName(), sacrifice.getEntityId()), world.provider.getDimension(), pos.getX(), pos.getY(), pos.getZ(), 30);
 													}
@@ -260,6 +281,7 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 										ritualTimer = 1;
 										user = player;
 										consumedEnergy = 0;
+										syncFields |= SYNC_TIMER;
 										isDirty = true;
 										PacketDispatcher.sendToAllAround(new RitualStartMessage(pos, ritual.getUnlocalizedName(), 0), world.provider.getDimension(), pos.getX(), pos.getY(), pos.getZ(), 30);
 									}
@@ -304,6 +326,7 @@ public class TileEntityRitualAltar extends TileEntity implements ITickable, IRit
 	@Override
 	public void setItem(ItemStack item){
 		this.item = item;
+		syncFields |= SYNC_ITEM;
 		isDirty = true;
 	}
 
@@ -33,6 +33,10 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 	private int itemID, itemMeta;
 	private boolean isDirty;
 	private BlockPos altarPos;
+	/** Fields to include in the next update packet (everything until the first one is sent) */
+	private int syncFields = SYNC_ITEM | SYNC_ALTAR | SYNC_CONSUMED;
+
+	private static final int SYNC_ITEM = 1, SYNC_ALTAR = 2, SYNC_CONSUMED = 4;
 
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound)
@@ -64,7 +68,17 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket() {
-		return new SPacketUpdateTileEntity(pos, 1, getUpdateTag());
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		if((syncFields & SYNC_ITEM) != 0)
+			nbttagcompound.setTag("Item", item.writeToNBT(new NBTTagCompound()));
+		if((syncFields & SYNC_ALTAR) != 0 && altarPos != null)
+			nbttagcompound.setLong("AltarPos", altarPos.toLong());
+		if((syncFields & SYNC_CONSUMED) != 0){
+			nbttagcompound.setInteger("ItemID", itemID);
+			nbttagcompound.setInteger("ItemMeta", itemMeta);
+		}
+		syncFields = 0;
+		return new SPacketUpdateTileEntity(pos, 1, nbttagcompound);
 	}
 
 	@Override
@@ -76,7 +90,15 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 	@Override
 	public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity packet)
 	{
-		readFromNBT(packet.getNbtCompound());
+		NBTTagCompound nbttagcompound = packet.getNbtCompound();
+		if(nbttagcompound.hasKey("Item"))
+			item = new ItemStack(nbttagcompound.getCompoundTag("Item"));
+		if(nbttagcompound.hasKey("AltarPos"))
+			altarPos = BlockPos.fromLong(nbttagcompound.getLong("AltarPos"));
+		if(nbttagcompound.hasKey("ItemID")){
+			itemID = nbttagcompound.getInteger("ItemID");
+			itemMeta = nbttagcompound.getInteger("ItemMeta");
+		}
 	}
 
 	@Override
@@ -200,6 +222,7 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 	@Override
 	public void setItem(ItemStack item){
 		this.item = item;
+		syncFields |= SYNC_ITEM;
 		isDirty = true;
 	}
 
@@ -218,6 +241,8 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 	@Override
 	public void setAltar(BlockPos pos) {
 		altarPos = pos;
+		syncFields |= SYNC_ALTAR;
+		isDirty = true;
 		getAltar().addPedestal(this);
 	}
 
@@ -226,9 +251,11 @@ public class TileEntityRitualPedestal extends TileEntity implements ITickable, I
 		if(!item.isEmpty()) {
 			itemID = Item.getIdFromItem(item.getItem());
 			itemMeta = item.getMetadata();
+			syncFields |= SYNC_CONSUMED;
 			setItem(getStack(item));
 		} else {
 			itemID = itemMeta = 0;
+			syncFields |= SYNC_CONSUMED;
 			isDirty = true;
 		}
 	}
@@ -17,6 +17,10 @@ import java.util.Random;
 import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
 import com.shinoow.abyssalcraft.api.energy.IEnergyCollector;
 import com.shinoow.abyssalcraft.api.energy.IEnergyContainerItem;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
+import com.shinoow.abyssalcraft.common.handlers.PENetworkEventHandler;
+import com.shinoow.abyssalcraft.lib.ACConfig;
+import com.shinoow.abyssalcraft.lib.util.blocks.IBatchedEnergyTile;
 import com.shinoow.abyssalcraft.lib.util.blocks.ISingletonInventory;
 
 import net.minecraft.entity.EntityLivingBase;
@@ -33,7 +37,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 
-public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCollector, ISingletonInventory, ITickable {
+public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCollector, ISingletonInventory, ITickable, IBatchedEnergyTile {
 
 	private ItemStack item = ItemStack.EMPTY;
 	private float energy;
@@ -43,6 +47,15 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 	private int coolDown;
 	private boolean isDirty;
 
+	/** Fields to include in the next update packet (everything until the first one is sent) */
+	private int syncFields = SYNC_ITEM | SYNC_ENERGY | SYNC_COOLDOWN;
+	private int energyBucket;
+
+	private static final int SYNC_ITEM = 1, SYNC_ENERGY = 2, SYNC_COOLDOWN = 4;
+	/** Energy is only synced when it moves into another 1/20th of the max */
+	private static final int ENERGY_BUCKETS = 20;
+	private static final int GLOWING_DURATION = 40, GLOWING_REFRESH = 5;
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound)
 	{
@@ -71,7 +84,15 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket() {
-		return new SPacketUpdateTileEntity(pos, 1, getUpdateTag());
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		if((syncFields & SYNC_ITEM) != 0)
+			nbttagcompound.setTag("Item", item.writeToNBT(new NBTTagCompound()));
+		if((syncFields & SYNC_ENERGY) != 0)
+			nbttagcompound.setFloat("PotEnergy", energy);
+		if((syncFields & SYNC_COOLDOWN) != 0)
+			nbttagcompound.setInteger("CoolDown", coolDown);
+		syncFields = 0;
+		return new SPacketUpdateTileEntity(pos, 1, nbttagcompound);
 	}
 
 	@Override
@@ -83,7 +104,35 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 	@Override
 	public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity packet)
 	{
-		readFromNBT(packet.getNbtCompound());
+		NBTTagCompound nbttagcompound = packet.getNbtCompound();
+		if(nbttagcompound.hasKey("Item"))
+			item = new ItemStack(nbttagcompound.getCompoundTag("Item"));
+		if(nbttagcompound.hasKey("PotEnergy"))
+			energy = nbttagcompound.getFloat("PotEnergy");
+		if(nbttagcompound.hasKey("CoolDown"))
+			coolDown = nbttagcompound.getInteger("CoolDown");
+	}
+
+	@Override
+	public void onLoad()
+	{
+		if(!world.isRemote){
+			PENetworkEventHandler.schedule(this);
+			PENetwork.tileLoaded(this);
+		}
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
 	}
 
 	@Override
@@ -97,27 +146,13 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 		if(isCoolingDown())
 			coolDown--;
 
-		if(!item.isEmpty())
-			if(item.getItem() instanceof IEnergyContainerItem)
-				if(!world.isRemote && ((IEnergyContainerItem) item.getItem()).canAcceptPE(item) && canTransferPE())
-					((IEnergyContainerItem) item.getItem()).addEnergy(item, consumeEnergy(1));
-
-		if(entity == null){
-			List<EntityLivingBase> mobs = world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(8, 3, 8));
-
-			for(EntityLivingBase mob : mobs)
-				if(!(mob instanceof EntityPlayer) && !(mob instanceof EntityArmorStand))
-					if(mob.getCreatureAttribute() != EnumCreatureAttribute.UNDEAD && mob.getCreatureAttribute() != AbyssalCraftAPI.SHADOW)
-						if(mob.isEntityAlive())
-							if(!mob.isChild()){
-								entity = mob;
-								break;
-							}
-		}
+		// The client only needs the cooldown (for particles), everything else is synced from the server
+		if(world.isRemote) return;
+
+		if(entity == null && (world.getTotalWorldTime() + pos.hashCode()) % ACConfig.sacrificialAltarScanInterval == 0)
+			entity = findVictim();
 
 		if(entity != null){
-			if(getContainedEnergy() < getMaxEnergy())
-				entity.addPotionEffect(new PotionEffect(MobEffects.GLOWING, 20, 0, false, false));
 			if(!entity.isEntityAlive()){
 				float num = entity.getMaxHealth();
 				entity = null;
@@ -127,17 +162,50 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 					//				}
 					collectionLimit += num;
 				}
+			} else if(world.getEntityByID(entity.getEntityId()) != entity)
+				entity = null;
+			else if(getContainedEnergy() < getMaxEnergy()){
+				// Only refresh the effect when it's about to run out, as every refresh is sent to the clients tracking the entity
+				PotionEffect glowing = entity.getActivePotionEffect(MobEffects.GLOWING);
+				if(glowing == null || glowing.getDuration() <= GLOWING_REFRESH)
+					entity.addPotionEffect(new PotionEffect(MobEffects.GLOWING, GLOWING_DURATION, 0, false, false));
 			}
 		}
 		if(collectionLimit >= getMaxEnergy() / 5){
 			collectionLimit = 0;
 			coolDown = 1200;
+			syncFields |= SYNC_COOLDOWN;
+			isDirty = true;
 		}
 
 		if(getContainedEnergy() > getMaxEnergy())
 			energy = getMaxEnergy();
 	}
 
+	/**
+	 * Looks for a living, non-undead, non-shadow adult mob nearby to bind to
+	 */
+	private EntityLivingBase findVictim(){
+		List<EntityLivingBase> mobs = world.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(pos).grow(8, 3, 8));
+
+		for(EntityLivingBase mob : mobs)
+			if(!(mob instanceof EntityPlayer) && !(mob instanceof EntityArmorStand))
+				if(mob.getCreatureAttribute() != EnumCreatureAttribute.UNDEAD && mob.getCreatureAttribute() != AbyssalCraftAPI.SHADOW)
+					if(mob.isEntityAlive())
+						if(!mob.isChild())
+							return mob;
+		return null;
+	}
+
+	@Override
+	public void transferEnergy(int ticks)
+	{
+		if(!item.isEmpty())
+			if(item.getItem() instanceof IEnergyContainerItem)
+				if(((IEnergyContainerItem) item.getItem()).canAcceptPE(item) && canTransferPE())
+					((IEnergyContainerItem) item.getItem()).addEnergy(item, consumeEnergy(ticks));
+	}
+
 	@Override
 	public ItemStack getItem(){
 		return item;
@@ -146,9 +214,22 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 	@Override
 	public void setItem(ItemStack item){
 		this.item = item;
+		syncFields |= SYNC_ITEM;
 		isDirty = true;
 	}
 
+	/**
+	 * Marks the energy for syncing if it moved into another bucket
+	 */
+	private void energyChanged(){
+		int bucket = (int)(energy * ENERGY_BUCKETS / getMaxEnergy());
+		if(bucket != energyBucket && world != null && !world.isRemote){
+			energyBucket = bucket;
+			syncFields |= SYNC_ENERGY;
+			isDirty = true;
+		}
+	}
+
 	public int getCooldownTimer(){
 		return coolDown;
 	}
@@ -173,16 +254,19 @@ public class TileEntitySacrificialAltar extends TileEntity implements IEnergyCol
 	public void addEnergy(float energy) {
 		this.energy += energy;
 		if(this.energy > getMaxEnergy()) this.energy = getMaxEnergy();
+		energyChanged();
 	}
 
 	@Override
 	public float consumeEnergy(float energy) {
 		if(energy < this.energy){
 			this.energy -= energy;
+			energyChanged();
 			return energy;
 		} else {
 			float ret = this.energy;
 			this.energy = 0;
+			energyChanged();
 			return ret;
 		}
 	}
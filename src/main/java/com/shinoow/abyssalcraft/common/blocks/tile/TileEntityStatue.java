@@ -17,11 +17,11 @@ import java.util.Set;
 import com.shinoow.abyssalcraft.api.energy.EnergyEnum.AmplifierType;
 import com.shinoow.abyssalcraft.api.energy.EnergyEnum.DeityType;
 import com.shinoow.abyssalcraft.api.energy.IEnergyManipulator;
-import com.shinoow.abyssalcraft.api.energy.IEnergyTransporterItem;
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
+import com.shinoow.abyssalcraft.api.energy.PEReceiverIndex;
 import com.shinoow.abyssalcraft.api.energy.PEUtils;
 import com.shinoow.abyssalcraft.api.energy.disruption.DisruptionHandler;
 import com.shinoow.abyssalcraft.api.energy.structure.IStructureComponent;
-import com.shinoow.abyssalcraft.api.entity.EntityUtil;
 import com.shinoow.abyssalcraft.common.blocks.BlockStatue;
 import com.shinoow.abyssalcraft.lib.ACConfig;
 import com.shinoow.abyssalcraft.lib.ACLib;
@@ -29,12 +29,10 @@ import com.shinoow.abyssalcraft.lib.ACLib;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.EnumHand;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -85,6 +83,20 @@ public class TileEntityStatue extends TileEntity implements IEnergyManipulator,
 	{
 		if(world.isRemote)
 			world.tickableTileEntities.remove(this);
+		PENetwork.tileLoaded(this);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		PENetwork.tileUnloaded(this);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		PENetwork.tileUnloaded(this);
 	}
 
 	@Override
@@ -232,18 +244,11 @@ public class TileEntityStatue extends TileEntity implements IEnergyManipulator,
 			if(PEUtils.checkForAdjacentManipulators(world, pos) || isMultiblock){
 				if(world.getWorldTime() % 200 == 0)
 					PEUtils.locateCollectors(world, pos, this);
-				EntityPlayer player = world.getClosestPlayer(pos.getX(), pos.getY(), pos.getZ(), range, false);
-				if(player != null &&
-						EntityUtil.hasNecronomicon(player)){
-					ItemStack item = player.getHeldItem(EnumHand.MAIN_HAND);
-					ItemStack item1 = player.getHeldItem(EnumHand.OFF_HAND);
-					if(!item.isEmpty() && item.getItem() instanceof IEnergyTransporterItem ||
-							!item1.isEmpty() && item1.getItem() instanceof IEnergyTransporterItem){
-						timer++;
-						if(timer >= (int)(timerMax / (Math.max(getAmplifier(AmplifierType.DURATION), 1.0F) + PEUtils.getStructureAmplifier(world, this, AmplifierType.DURATION)))){
-							timer = world.rand.nextInt(10);
-							PEUtils.transferPEToNearbyPlayers(world, pos, this, range);
-						}
+				if(!PEReceiverIndex.get(world).getPlayers(pos, range).isEmpty()){
+					timer++;
+					if(timer >= (int)(timerMax / (Math.max(getAmplifier(AmplifierType.DURATION), 1.0F) + PEUtils.getStructureAmplifier(world, this, AmplifierType.DURATION)))){
+						timer = world.rand.nextInt(10);
+						PEUtils.transferPEToNearbyPlayers(world, pos, this, range);
 					}
 				}
 
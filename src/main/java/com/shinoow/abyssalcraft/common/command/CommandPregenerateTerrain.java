@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.command;
+
+import com.shinoow.abyssalcraft.common.world.TerrainPregenerator;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+
+public class CommandPregenerateTerrain extends CommandBase {
+
+	@Override
+	public String getName() {
+
+		return "acpregenerate";
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender) {
+
+		return "/acpregenerate <x1> <z1> <x2> <z2> [dimension]";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+
+		return 2;
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+
+		if(args.length < 4)
+			throw new WrongUsageException(getUsage(sender));
+
+		int x1 = parseInt(args[0]) >> 4, z1 = parseInt(args[1]) >> 4;
+		int x2 = parseInt(args[2]) >> 4, z2 = parseInt(args[3]) >> 4;
+		int dim = args.length > 4 ? parseInt(args[4]) : sender.getEntityWorld().provider.getDimension();
+		WorldServer world = DimensionManager.isDimensionRegistered(dim) ? server.getWorld(dim) : null;
+		if(world == null)
+			throw new CommandException("Dimension %s doesn't exist", dim);
+		if(TerrainPregenerator.isRunning(world))
+			throw new CommandException("Terrain is already being pregenerated in dimension %s", dim);
+
+		if(!TerrainPregenerator.start(world, Math.min(x1, x2), Math.min(z1, z2), Math.max(x1, x2), Math.max(z1, z2), sender))
+			sender.sendMessage(new TextComponentString("Pregeneration is only supported in the Abyssal Wasteland and the Dreadlands."));
+	}
+}
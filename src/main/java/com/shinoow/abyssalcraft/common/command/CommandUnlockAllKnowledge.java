@@ -13,8 +13,7 @@ package com.shinoow.abyssalcraft.common.command;
 
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapability;
-import com.shinoow.abyssalcraft.common.network.PacketDispatcher;
-import com.shinoow.abyssalcraft.common.network.client.NecroDataCapMessage;
+import com.shinoow.abyssalcraft.common.handlers.KnowledgeEventHandler;
 
 import net.minecraft.command.CommandBase;
 import net.minecraft.command.CommandException;
@@ -51,8 +50,7 @@ public class CommandUnlockAllKnowledge extends CommandBase {
 				sender.sendMessage(new TextComponentString("All knowledge has been re-locked... kinda!"));
 			}
 
-			cap.setLastSyncTime(System.currentTimeMillis());
-			PacketDispatcher.sendTo(new NecroDataCapMessage((EntityPlayer) sender), (EntityPlayerMP)sender);
+			KnowledgeEventHandler.syncKnowledge((EntityPlayerMP)sender, true);
 		}
 	}
 
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.command;
+
+import com.shinoow.abyssalcraft.common.world.GenerationTimings;
+import com.shinoow.abyssalcraft.common.world.GenerationTimings.Stage;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+
+public class CommandWorldGenTimings extends CommandBase {
+
+	@Override
+	public String getName() {
+
+		return "acworldgentimings";
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender) {
+
+		return "/acworldgentimings [reset]";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+
+		return 2;
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+
+		if(args.length > 0 && args[0].equals("reset")){
+			GenerationTimings.reset();
+			sender.sendMessage(new TextComponentString("World generation timings have been reset."));
+			return;
+		}
+
+		for(Stage stage : Stage.values()){
+			long calls = GenerationTimings.getCalls(stage);
+			double total = GenerationTimings.getNanos(stage) / 1000000.0D;
+			sender.sendMessage(new TextComponentString(String.format("%s: %d runs, %.2f ms total, %.2f us average",
+					stage.getName(), calls, total, calls > 0 ? total * 1000.0D / calls : 0.0D)));
+		}
+	}
+}
@@ -15,13 +15,10 @@ import java.util.*;
 
 import javax.annotation.Nullable;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import com.shinoow.abyssalcraft.AbyssalCraft;
 import com.shinoow.abyssalcraft.common.util.ACLogger;
 
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.*;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
@@ -29,8 +26,6 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ObjectIntIdentityMap;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.datafix.IFixableData;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.NibbleArray;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
@@ -46,6 +41,7 @@ public class BlockFlattening implements IFixableData {
 	//	private static final Marker LOG_MARKER = MarkerManager.getMarker("BlockFlattening").addParents(Logger.MOD_MARKER);
 
 	private final List<FlatteningDefinition> flatteningDefinitions;
+	private volatile FlatteningTable table;
 
 	public BlockFlattening(final List<FlatteningDefinition> flatteningDefinitions) {
 		this.flatteningDefinitions = flatteningDefinitions;
@@ -58,119 +54,123 @@ public class BlockFlattening implements IFixableData {
 
 	@Override
 	public NBTTagCompound fixTagCompound(final NBTTagCompound compound) {
-		final ForgeRegistry<Block> blockRegistry = (ForgeRegistry<Block>) ForgeRegistries.BLOCKS;
+		flatten(compound);
+		return compound;
+	}
 
-		// Maps old block IDs to an array of flattening definitions indexed by their old metadata
-		final Map<Integer, FlatteningDefinition[]> flattingDefinitionsPerBlockID = new HashMap<>();
+	/**
+	 * Checks if there are any blocks to flatten in the current save
+	 */
+	boolean hasBlocksToFlatten() {
+		return !getTable().isEmpty();
+	}
 
-		flatteningDefinitions.stream()
-		.map(flatteningDefinition -> {
-			// Get the ID of the old name
-			int oldID = blockRegistry.getID(flatteningDefinition.oldName);
+	/**
+	 * Fetches the lookup table for the current registry IDs, only rebuilding it if the IDs of the old blocks changed
+	 * (which happens when a save with a different registry snapshot is loaded)
+	 */
+	private FlatteningTable getTable() {
+		final ForgeRegistry<Block> blockRegistry = (ForgeRegistry<Block>) ForgeRegistries.BLOCKS;
 
-			// If the ID exists in this save, return a pair of the ID and the definition; else return an empty pair
-			return Optional.ofNullable(oldID > 0 ? Pair.of(oldID, flatteningDefinition) : null);
-		})
-		.forEach(optionalPair -> {
-			optionalPair.ifPresent(pair -> { // If the ID exists in this save,
-				final Integer blockID = pair.getKey();
-				final FlatteningDefinition flatteningDefinition = pair.getValue();
+		FlatteningTable current = table;
+		if (current == null || !current.matches(blockRegistry))
+			table = current = new FlatteningTable(blockRegistry, flatteningDefinitions);
+		return current;
+	}
 
-				// Add the definition to the ID's array using the old metadata as an index
-				final FlatteningDefinition[] flatteningDefinitions = flattingDefinitionsPerBlockID.computeIfAbsent(blockID, id -> new FlatteningDefinition[16]);
-				flatteningDefinitions[flatteningDefinition.oldMetadata] = flatteningDefinition;
-			});
-		});
+	/**
+	 * Flattens the blocks in a chunk compound
+	 *
+	 * @return Whether anything was changed
+	 */
+	boolean flatten(final NBTTagCompound compound) {
+		final FlatteningTable table = getTable();
 
 		// If there aren't any blocks to flatten in this save, do nothing
-		if (flattingDefinitionsPerBlockID.isEmpty())
-			return compound;
+		if (table.isEmpty())
+			return false;
 
 		final ObjectIntIdentityMap<IBlockState> blockStateIDMap = GameData.getBlockStateIDMap();
+		boolean changed = false;
 
 		try {
 			final NBTTagCompound level = compound.getCompoundTag("Level");
-			final int chunkX = level.getInteger("xPos");
-			final int chunkZ = level.getInteger("zPos");
 			final NBTTagList tileEntities = level.getTagList("TileEntities", 10);
 			final NBTTagList sections = level.getTagList("Sections", 10);
 
-			final ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
-
 			final IntList tileEntityIndexesToRemove = new IntArrayList();
 
-			// Maps TileEntity positions to pairs of TileEntity compound tags and their index in the `TileEntities` list tag
-			final Map<BlockPos, Pair<Integer, NBTTagCompound>> tileEntityMap = new HashMap<>();
-
-			for (int tileEntityIndex = 0; tileEntityIndex < tileEntities.tagCount(); tileEntityIndex++) {
-				final NBTTagCompound tileEntityNBT = tileEntities.getCompoundTagAt(tileEntityIndex);
-				if (!tileEntityNBT.hasNoTags()) {
-					final BlockPos pos = new BlockPos(tileEntityNBT.getInteger("x"), tileEntityNBT.getInteger("y"), tileEntityNBT.getInteger("z"));
-					tileEntityMap.put(pos, Pair.of(tileEntityIndex, tileEntityNBT));
-				}
-			}
+			// Maps chunk-local TileEntity positions (y << 8 | z << 4 | x) to their index in the `TileEntities` list tag, built on first use
+			Int2IntMap tileEntityMap = null;
 
 			for (int sectionIndex = 0; sectionIndex < sections.tagCount(); ++sectionIndex) {
 				final NBTTagCompound section = sections.getCompoundTagAt(sectionIndex);
 
-				final int sectionY = section.getByte("Y");
 				final byte[] blockIDs = section.getByteArray("Blocks");
+
+				// Skip sections without any block that could be flattened
+				if (!table.mightContain(blockIDs))
+					continue;
+
+				final int sectionY = section.getByte("Y");
 				final NibbleArray metadataArray = new NibbleArray(section.getByteArray("Data"));
 				final NibbleArray blockIDsExtension = section.hasKey("Add", Constants.NBT.TAG_BYTE_ARRAY) ? new NibbleArray(section.getByteArray("Add")) : new NibbleArray();
 				boolean hasExtendedBlockIDs = section.hasKey("Add", Constants.NBT.TAG_BYTE_ARRAY);
+				boolean sectionChanged = false;
 
 				for (int blockIndex = 0; blockIndex < blockIDs.length; ++blockIndex) {
 					final int x = blockIndex & 15;
 					final int y = blockIndex >> 8 & 15;
-				final int z = blockIndex >> 4 & 15;
-			final int blockIDExtension = blockIDsExtension.get(x, y, z);
-			final int blockID = blockIDExtension << 8 | blockIDs[blockIndex] & 255;
-			final int metadata = metadataArray.get(x, y, z);
-
-			final FlatteningDefinition[] flatteningDefinitions = flattingDefinitionsPerBlockID.get(blockID);
-
-			if (flatteningDefinitions != null) {
-				final FlatteningDefinition flatteningDefinition = flatteningDefinitions[metadata];
-
-				if (flatteningDefinition != null) {
-					// Calculate the world coordinates of the block
-					final BlockPos blockPos = chunkPos.getBlock(x, sectionY << 4 | y, z);
-
-					// Get the TileEntity NBT, if any
-					final Pair<Integer, NBTTagCompound> tileEntityPair = tileEntityMap.get(blockPos);
-					final NBTTagCompound tileEntityNBT = tileEntityPair != null ? tileEntityPair.getValue() : null;
-
-					// Get the new block state from the flattening definition
-					final IBlockState newBlockState = flatteningDefinition.blockStateGetter.getBlockState(flatteningDefinition.newBlock, tileEntityNBT);
-
-					// Calculate the new block ID, block ID extension and metadata from the block state's ID
-					final int blockStateID = blockStateIDMap.get(newBlockState);
-					final byte newBlockID = (byte) (blockStateID >> 4 & 255);
-					final byte newBlockIDExtension = (byte) (blockStateID >> 12 & 15);
-					final byte newMetadata = (byte) (blockStateID & 15);
-
-					// Update the block ID and metadata
-					blockIDs[blockIndex] = newBlockID;
-					metadataArray.set(x, y, z, newMetadata);
-
-					// Update the block ID extension if present
-					if (newBlockIDExtension != 0) {
-						hasExtendedBlockIDs = true;
-						blockIDsExtension.set(x, y, z, newBlockIDExtension);
-					}
-
-					// If there's a TileEntity and the flattening definition has a TileEntity processor,
-					if (tileEntityNBT != null && flatteningDefinition.tileEntityProcessor != null) {
-						// Run the processor
-						final TileEntityAction tileEntityAction = flatteningDefinition.tileEntityProcessor.processTileEntity(tileEntityNBT);
-
-						// If the processor requested the removal of the TileEntity, add the index to the removal list
-						if (tileEntityAction == TileEntityAction.REMOVE)
-							tileEntityIndexesToRemove.add(tileEntityPair.getKey());
+					final int z = blockIndex >> 4 & 15;
+					final int blockIDExtension = blockIDsExtension.get(x, y, z);
+					final int blockID = blockIDExtension << 8 | blockIDs[blockIndex] & 255;
+					final int metadata = metadataArray.get(x, y, z);
+
+					final FlatteningDefinition flatteningDefinition = table.get(blockID, metadata);
+
+					if (flatteningDefinition != null) {
+						if (tileEntityMap == null)
+							tileEntityMap = mapTileEntities(tileEntities);
+
+						// Get the TileEntity NBT, if any
+						final int tileEntityIndex = tileEntityMap.get((sectionY << 4 | y) << 8 | z << 4 | x);
+						final NBTTagCompound tileEntityNBT = tileEntityIndex >= 0 ? tileEntities.getCompoundTagAt(tileEntityIndex) : null;
+
+						// Get the new block state from the flattening definition
+						final IBlockState newBlockState = flatteningDefinition.blockStateGetter.getBlockState(flatteningDefinition.newBlock, tileEntityNBT);
+
+						// Calculate the new block ID, block ID extension and metadata from the block state's ID
+						final int blockStateID = blockStateIDMap.get(newBlockState);
+						final byte newBlockID = (byte) (blockStateID >> 4 & 255);
+						final byte newBlockIDExtension = (byte) (blockStateID >> 12 & 15);
+						final byte newMetadata = (byte) (blockStateID & 15);
+
+						// Update the block ID and metadata
+						blockIDs[blockIndex] = newBlockID;
+						metadataArray.set(x, y, z, newMetadata);
+						sectionChanged = true;
+
+						// Update the block ID extension if present
+						if (newBlockIDExtension != 0) {
+							hasExtendedBlockIDs = true;
+							blockIDsExtension.set(x, y, z, newBlockIDExtension);
+						}
+
+						// If there's a TileEntity and the flattening definition has a TileEntity processor,
+						if (tileEntityNBT != null && flatteningDefinition.tileEntityProcessor != null) {
+							// Run the processor
+							final TileEntityAction tileEntityAction = flatteningDefinition.tileEntityProcessor.processTileEntity(tileEntityNBT);
+
+							// If the processor requested the removal of the TileEntity, add the index to the removal list
+							if (tileEntityAction == TileEntityAction.REMOVE)
+								tileEntityIndexesToRemove.add(tileEntityIndex);
+						}
 					}
 				}
-			}
-				}
+
+				if (!sectionChanged)
+					continue;
+				changed = true;
 
 				// Update the block ID and metadata in the section
 				section.setByteArray("Blocks", blockIDs);
@@ -190,9 +190,79 @@ public class BlockFlattening implements IFixableData {
 			//			Logger.error(LOG_MARKER, e, "Unable to flatten blocks, level format may be missing tags.");
 		}
 
-		return compound;
+		return changed;
 	}
 
+	private static Int2IntMap mapTileEntities(final NBTTagList tileEntities) {
+		final Int2IntMap tileEntityMap = new Int2IntOpenHashMap();
+		tileEntityMap.defaultReturnValue(-1);
+
+		for (int tileEntityIndex = 0; tileEntityIndex < tileEntities.tagCount(); tileEntityIndex++) {
+			final NBTTagCompound tileEntityNBT = tileEntities.getCompoundTagAt(tileEntityIndex);
+			if (!tileEntityNBT.hasNoTags())
+				tileEntityMap.put((tileEntityNBT.getInteger("y") & 255) << 8 | (tileEntityNBT.getInteger("z") & 15) << 4 | tileEntityNBT.getInteger("x") & 15, tileEntityIndex);
+		}
+
+		return tileEntityMap;
+	}
+
+	/**
+	 * Flattening definitions indexed by old block ID and metadata, for one set of registry IDs.
+	 */
+	private static class FlatteningTable {
+		/** The distinct old names, and the IDs they had when the table was built */
+		private final ResourceLocation[] oldNames;
+		private final int[] oldIDs;
+		/** Definitions indexed by oldID * 16 + oldMetadata */
+		private final FlatteningDefinition[] definitions;
+		/** Which values of the low byte of a block ID belong to a block that could be flattened */
+		private final boolean[] lowBytes = new boolean[256];
+
+		private FlatteningTable(final ForgeRegistry<Block> blockRegistry, final List<FlatteningDefinition> flatteningDefinitions) {
+			oldNames = flatteningDefinitions.stream().map(flatteningDefinition -> flatteningDefinition.oldName).distinct().toArray(ResourceLocation[]::new);
+			oldIDs = new int[oldNames.length];
+
+			int maxID = 0;
+			for (int i = 0; i < oldNames.length; i++) {
+				oldIDs[i] = blockRegistry.getID(oldNames[i]);
+				maxID = Math.max(maxID, oldIDs[i]);
+			}
+
+			definitions = new FlatteningDefinition[maxID > 0 ? (maxID + 1) * 16 : 0];
+			for (final FlatteningDefinition flatteningDefinition : flatteningDefinitions) {
+				// Only add the definition if the old name exists in this save
+				final int oldID = blockRegistry.getID(flatteningDefinition.oldName);
+				if (oldID > 0) {
+					definitions[oldID * 16 + flatteningDefinition.oldMetadata] = flatteningDefinition;
+					lowBytes[oldID & 255] = true;
+				}
+			}
+		}
+
+		private boolean matches(final ForgeRegistry<Block> blockRegistry) {
+			for (int i = 0; i < oldNames.length; i++)
+				if (blockRegistry.getID(oldNames[i]) != oldIDs[i])
+					return false;
+			return true;
+		}
+
+		private boolean isEmpty() {
+			return definitions.length == 0;
+		}
+
+		@Nullable
+		private FlatteningDefinition get(final int blockID, final int metadata) {
+			final int index = blockID * 16 + metadata;
+			return index < definitions.length ? definitions[index] : null;
+		}
+
+		private boolean mightContain(final byte[] blockIDs) {
+			for (final byte blockID : blockIDs)
+				if (lowBytes[blockID & 255])
+					return true;
+			return false;
+		}
+	}
 
 	static class FlatteningDefinition {
 		final ResourceLocation oldName;
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.datafix;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.shinoow.abyssalcraft.AbyssalCraft;
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+
+/**
+ * Runs the {@link BlockFlattening} fix over every region file of a save ahead of time,
+ * one region file per thread, so chunks don't have to be fixed one by one as they load.
+ * Needs to run after the save's registry IDs have been loaded, but before any chunks are.
+ */
+public class RegionUpgrader {
+
+	private static final String MARKER = "abyssalcraft_flattened";
+
+	private final BlockFlattening flattening;
+
+	public RegionUpgrader(BlockFlattening flattening) {
+		this.flattening = flattening;
+	}
+
+	/**
+	 * Upgrades all region files in a world directory (including other dimensions).
+	 * Does nothing if the directory has already been upgraded.
+	 * @param worldDir Save directory
+	 */
+	public void upgrade(File worldDir) {
+		File marker = new File(worldDir, MARKER);
+		if(marker.exists()) return;
+
+		if(flattening.hasBlocksToFlatten()) {
+			// Close any cached handles first, writing through a second RegionFile while one is open corrupts the file
+			RegionFileCache.clearRegionFileReferences();
+
+			List<File> regions = new ArrayList<>();
+			findRegionFiles(worldDir, regions, 0);
+
+			int threads = Math.max(Runtime.getRuntime().availableProcessors(), 1);
+			ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+					.setNameFormat("AbyssalCraft Region Upgrader #%d").setDaemon(true).build());
+			ACLogger.info("Flattening old blocks in %d region files using %d threads", regions.size(), threads);
+
+			List<Future<Integer>> results = new ArrayList<>();
+			for(File region : regions)
+				results.add(executor.submit(() -> upgradeRegion(region)));
+
+			int chunks = 0;
+			boolean failed = false;
+			for(int i = 0; i < results.size(); i++)
+				try {
+					chunks += results.get(i).get();
+				} catch(InterruptedException | ExecutionException e) {
+					ACLogger.severe("Failed to upgrade region file %s: %s", regions.get(i), e.getCause() != null ? e.getCause() : e);
+					failed = true;
+				}
+			executor.shutdown();
+			// And again afterwards, so nothing keeps reading the old chunk offsets
+			RegionFileCache.clearRegionFileReferences();
+
+			ACLogger.info("Flattened old blocks in %d chunks", chunks);
+			// Leave the marker out so the next start tries again, anything missed is still fixed as it loads
+			if(failed) return;
+		}
+
+		try {
+			marker.createNewFile();
+		} catch(IOException e) {
+			ACLogger.warning("Failed to create %s: %s", marker, e);
+		}
+	}
+
+	private static void findRegionFiles(File dir, List<File> regions, int depth) {
+		File[] files = dir.listFiles();
+		if(files == null) return;
+		for(File file : files)
+			if(file.isDirectory()) {
+				if(file.getName().equals("region")) {
+					File[] regionFiles = file.listFiles((d, name) -> name.endsWith(".mca"));
+					if(regionFiles != null)
+						for(File regionFile : regionFiles)
+							regions.add(regionFile);
+				} else if(depth < 2)
+					findRegionFiles(file, regions, depth + 1);
+			}
+	}
+
+	private int upgradeRegion(File file) throws IOException {
+		RegionFile region = new RegionFile(file);
+		int upgraded = 0;
+		try {
+			for(int x = 0; x < 32; x++)
+				for(int z = 0; z < 32; z++) {
+					NBTTagCompound compound;
+					try(DataInputStream in = region.getChunkDataInputStream(x, z)) {
+						if(in == null) continue;
+						compound = CompressedStreamTools.read(in);
+					}
+
+					NBTTagCompound versions = compound.getCompoundTag("ForgeDataVersion");
+					if(versions.hasKey(AbyssalCraft.modid) && versions.getInteger(AbyssalCraft.modid) >= flattening.getFixVersion())
+						continue;
+					if(!flattening.flatten(compound))
+						continue;
+
+					// Mark the fix as done, so it isn't applied again when the chunk loads
+					versions.setInteger(AbyssalCraft.modid, flattening.getFixVersion());
+					compound.setTag("ForgeDataVersion", versions);
+					try(DataOutputStream out = region.getChunkDataOutputStream(x, z)) {
+						CompressedStreamTools.write(compound, out);
+					}
+					upgraded++;
+				}
+		} finally {
+			region.close();
+		}
+		return upgraded;
+	}
+}
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.entity;
+
+import java.util.*;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Per-dimension tracker of Dread Spawns, Greater Dread Spawns and Lesser Dreadbeasts, keyed by the chunk section they're in.<br>
+ * Merges are evaluated for the whole swarm every {@link #INTERVAL} ticks, and population caps are
+ * counted from the tracked positions instead of an Entity AABB search.
+ */
+public class DreadSwarmTracker {
+
+	/** Ticks between merge evaluations */
+	public static final int INTERVAL = 10;
+	/** Extra blocks searched around a box, as positions are only re-sectioned on chunk changes and every interval */
+	private static final int MARGIN = 4;
+
+	private static final Int2ObjectMap<DreadSwarmTracker> TRACKERS = new Int2ObjectOpenHashMap<>();
+
+	private final World world;
+	private final Int2ObjectMap<Member> members = new Int2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<List<Member>> sections = new Long2ObjectOpenHashMap<>();
+	private int timer;
+
+	private DreadSwarmTracker(World world){
+		this.world = world;
+	}
+
+	/**
+	 * Fetches the tracker for a World
+	 * @param world Current World
+	 * @return The tracker, or null on the client side
+	 */
+	@Nullable
+	public static DreadSwarmTracker get(World world){
+		if(world.isRemote) return null;
+		int dim = world.provider.getDimension();
+		DreadSwarmTracker tracker = TRACKERS.get(dim);
+		if(tracker == null || tracker.world != world){
+			tracker = new DreadSwarmTracker(world);
+			TRACKERS.put(dim, tracker);
+		}
+		return tracker;
+	}
+
+	/**
+	 * Discards the tracker of a World that's being unloaded
+	 */
+	public static void unload(World world){
+		DreadSwarmTracker tracker = TRACKERS.get(world.provider.getDimension());
+		if(tracker != null && tracker.world == world)
+			TRACKERS.remove(world.provider.getDimension());
+	}
+
+	/**
+	 * Counts the population within an area, for spawn caps
+	 * @param world Current World
+	 * @param type Type of swarm Entity to count
+	 * @param bb Area to count in
+	 * @return The amount of living Entities of that type intersecting the area
+	 */
+	public static int count(World world, Class<? extends Entity> type, AxisAlignedBB bb){
+		DreadSwarmTracker tracker = get(world);
+		return tracker != null ? tracker.find(type, bb, null).size() : world.getEntitiesWithinAABB(type, bb).size();
+	}
+
+	/**
+	 * Checks whether an Entity is part of a dread swarm
+	 */
+	public static boolean isSwarmEntity(Entity entity){
+		return entity instanceof EntityDreadSpawn || entity instanceof EntityGreaterDreadSpawn || entity instanceof EntityLesserDreadbeast;
+	}
+
+	/**
+	 * Adds an Entity that joined the World
+	 */
+	public void add(Entity entity){
+		Member member = members.get(entity.getEntityId());
+		if(member != null){
+			if(member.entity == entity) return;
+			remove(member);
+		}
+		member = new Member(entity);
+		members.put(entity.getEntityId(), member);
+		member.section = getSection(entity);
+		getOrCreate(member.section).add(member);
+	}
+
+	/**
+	 * Moves an Entity to the chunk section it's currently in, if it's tracked
+	 */
+	public void moved(Entity entity){
+		Member member = members.get(entity.getEntityId());
+		if(member != null && member.entity == entity)
+			moved(member);
+	}
+
+	/**
+	 * Removes every Entity in a chunk from the tracker
+	 */
+	public void unloadChunk(Chunk chunk){
+		if(members.isEmpty()) return;
+		for(Member member : members.values().toArray(new Member[members.size()]))
+			if(member.entity.chunkCoordX == chunk.x && member.entity.chunkCoordZ == chunk.z)
+				remove(member);
+	}
+
+	/**
+	 * Called at the end of every World tick
+	 */
+	public void tick(){
+		if(members.isEmpty() || ++timer < INTERVAL) return;
+		timer = 0;
+
+		Member[] snapshot = members.values().toArray(new Member[members.size()]);
+		for(Member member : snapshot)
+			if(!isLoaded(member.entity))
+				remove(member);
+			else moved(member);
+
+		for(Member member : snapshot){
+			Entity entity = member.entity;
+			if(entity.isDead) continue;
+			AxisAlignedBB bb = entity.getEntityBoundingBox();
+			if(entity instanceof EntityDreadSpawn){
+				List<Entity> group = find(EntityDreadSpawn.class, bb.grow(2), entity);
+				if(group.size() >= 4 && find(EntityGreaterDreadSpawn.class, bb.grow(32), null).size() < 10)
+					merge(entity, group, new EntityGreaterDreadSpawn(world));
+			} else if(entity instanceof EntityGreaterDreadSpawn){
+				List<Entity> group = find(EntityGreaterDreadSpawn.class, bb.grow(5), entity);
+				if(group.size() >= 4 && find(EntityLesserDreadbeast.class, bb.grow(32), null).size() < 4)
+					merge(entity, group, new EntityLesserDreadbeast(world));
+			}
+		}
+	}
+
+	/**
+	 * Replaces an Entity and four of the ones around it with the next tier
+	 */
+	private void merge(Entity center, List<Entity> group, Entity result){
+		for(int i = 0; i < 4; i++)
+			world.removeEntity(group.get(i));
+		result.copyLocationAndAnglesFrom(center);
+		world.removeEntity(center);
+		world.spawnEntity(result);
+	}
+
+	private List<Entity> find(Class<? extends Entity> type, AxisAlignedBB bb, @Nullable Entity exclude){
+		if(members.isEmpty()) return Collections.emptyList();
+		List<Entity> found = new ArrayList<>();
+		int minX = MathHelper.floor(bb.minX - MARGIN) >> 4, maxX = MathHelper.floor(bb.maxX + MARGIN) >> 4;
+		int minY = MathHelper.floor(bb.minY - MARGIN) >> 4, maxY = MathHelper.floor(bb.maxY + MARGIN) >> 4;
+		int minZ = MathHelper.floor(bb.minZ - MARGIN) >> 4, maxZ = MathHelper.floor(bb.maxZ + MARGIN) >> 4;
+		for(int x = minX; x <= maxX; x++)
+			for(int z = minZ; z <= maxZ; z++)
+				for(int y = minY; y <= maxY; y++){
+					List<Member> list = sections.get(getSection(x, y, z));
+					if(list != null)
+						for(Member member : list)
+							if(member.entity != exclude && !member.entity.isDead && type.isInstance(member.entity)
+							&& member.entity.getEntityBoundingBox().intersects(bb))
+								found.add(member.entity);
+				}
+		return found;
+	}
+
+	/**
+	 * Dead, unloaded and Entities that changed dimension are no longer in the World's Entity ID lookup
+	 */
+	private boolean isLoaded(Entity entity){
+		return !entity.isDead && world.getEntityByID(entity.getEntityId()) == entity;
+	}
+
+	private void moved(Member member){
+		long section = getSection(member.entity);
+		if(section != member.section){
+			removeFromSection(member);
+			member.section = section;
+			getOrCreate(section).add(member);
+		}
+	}
+
+	private void remove(Member member){
+		members.remove(member.entity.getEntityId());
+		removeFromSection(member);
+	}
+
+	private void removeFromSection(Member member){
+		List<Member> list = sections.get(member.section);
+		if(list != null){
+			list.remove(member);
+			if(list.isEmpty())
+				sections.remove(member.section);
+		}
+	}
+
+	private List<Member> getOrCreate(long section){
+		List<Member> list = sections.get(section);
+		if(list == null)
+			sections.put(section, list = new ArrayList<>());
+		return list;
+	}
+
+	private static long getSection(Entity entity){
+		return getSection(MathHelper.floor(entity.posX) >> 4, MathHelper.floor(entity.posY) >> 4, MathHelper.floor(entity.posZ) >> 4);
+	}
+
+	/**
+	 * Packs chunk section coordinates into a long (same layout as {@link net.minecraft.util.math.BlockPos#toLong()})
+	 */
+	private static long getSection(int x, int y, int z){
+		return ((long)x & 0x3FFFFFF) << 38 | ((long)y & 0xFFF) << 26 | (long)z & 0x3FFFFFF;
+	}
+
+	private static class Member {
+
+		private final Entity entity;
+		private long section;
+
+		private Member(Entity entity){
+			this.entity = entity;
+		}
+	}
+}
@@ -537,7 +537,7 @@ public class EntityChagaroth extends EntityMob implements IDreadEntity, com.gith
 		if(!world.isRemote && isEntityAlive())
 		{
 			if(ticksExisted % 600 == 0)
-				if(rand.nextBoolean() && world.getEntitiesWithinAABB(EntityDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < ACConfig.dreadSpawnSpawnLimit / 2) {
+				if(rand.nextBoolean() && DreadSwarmTracker.count(world, EntityDreadSpawn.class, getEntityBoundingBox().grow(32)) < ACConfig.dreadSpawnSpawnLimit / 2) {
 					EntityDreadSpawn mob = new EntityDreadSpawn(world);
 					mob.copyLocationAndAnglesFrom(this);
 					world.spawnEntity(mob);
@@ -566,7 +566,7 @@ public class EntityChagaroth extends EntityMob implements IDreadEntity, com.gith
 				dreadGuard.onInitialSpawn(world.getDifficultyForLocation(getPosition()), null);
 			}
 
-			if(ticksExisted % 4800 == 0 && world.getEntitiesWithinAABB(EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < ACConfig.greaterDreadSpawnSpawnLimit / 2)
+			if(ticksExisted % 4800 == 0 && DreadSwarmTracker.count(world, EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)) < ACConfig.greaterDreadSpawnSpawnLimit / 2)
 			{
 				EntityGreaterDreadSpawn dreadGuard = new EntityGreaterDreadSpawn(world);
 				dreadGuard.copyLocationAndAnglesFrom(this);
@@ -11,8 +11,6 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.common.entity;
 
-import java.util.List;
-
 import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
 import com.shinoow.abyssalcraft.api.entity.EntityUtil;
 import com.shinoow.abyssalcraft.api.entity.IDreadEntity;
@@ -45,7 +43,6 @@ import net.minecraft.world.World;
 public class EntityDreadSpawn extends EntityMob implements IDreadEntity
 {
 	private static final DataParameter<Byte> CLIMBING = EntityDataManager.<Byte>createKey(EntityDreadSpawn.class, DataSerializers.BYTE);
-	private static boolean hasMerged;
 
 	public EntityDreadSpawn(World par1World)
 	{
@@ -111,7 +108,7 @@ public class EntityDreadSpawn extends EntityMob implements IDreadEntity
 	@Override
 	public boolean getCanSpawnHere()
 	{
-		return world.getEntitiesWithinAABB(EntityDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < 4 ? super.getCanSpawnHere() : false;
+		return DreadSwarmTracker.count(world, EntityDreadSpawn.class, getEntityBoundingBox().grow(32)) < 4 ? super.getCanSpawnHere() : false;
 	}
 
 	@Override
@@ -191,25 +188,4 @@ public class EntityDreadSpawn extends EntityMob implements IDreadEntity
 	protected ResourceLocation getLootTable(){
 		return ACLoot.ENTITY_DREAD_SPAWN;
 	}
-
-	@Override
-	public void onLivingUpdate()
-	{
-		super.onLivingUpdate();
-
-		List<EntityDreadSpawn> dreadspawns = world.getEntitiesWithinAABB(getClass(), getEntityBoundingBox().grow(2D, 2D, 2D));
-
-		if(!world.isRemote && world.getEntitiesWithinAABB(EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < 10)
-			if(!dreadspawns.isEmpty())
-				if(dreadspawns.size() >= 5 && !hasMerged){
-					hasMerged = true;
-					for(int i = 0; i < 5; i++)
-						world.removeEntity(dreadspawns.get(i));
-					EntityGreaterDreadSpawn greaterspawn = new EntityGreaterDreadSpawn(world);
-					greaterspawn.copyLocationAndAnglesFrom(this);
-					world.removeEntity(this);
-					world.spawnEntity(greaterspawn);
-					hasMerged = false;
-				}
-	}
 }
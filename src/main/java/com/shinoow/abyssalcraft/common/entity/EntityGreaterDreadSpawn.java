@@ -11,8 +11,6 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.common.entity;
 
-import java.util.List;
-
 import com.shinoow.abyssalcraft.api.AbyssalCraftAPI;
 import com.shinoow.abyssalcraft.api.entity.EntityUtil;
 import com.shinoow.abyssalcraft.api.entity.IDreadEntity;
@@ -44,7 +42,6 @@ import net.minecraft.world.World;
 public class EntityGreaterDreadSpawn extends EntityMob implements IDreadEntity, IRangedAttackMob {
 
 	private static final DataParameter<Byte> CLIMBING = EntityDataManager.<Byte>createKey(EntityGreaterDreadSpawn.class, DataSerializers.BYTE);
-	private static boolean hasMerged;
 
 	private EntityAIAttackRanged arrowAttack = new EntityAIAttackRanged(this, 0.4D, 20, 8.0F);
 	private EntityAIAttackMelee attackOnCollide = new EntityAIAttackMelee(this, 0.35D, true);
@@ -110,7 +107,7 @@ public class EntityGreaterDreadSpawn extends EntityMob implements IDreadEntity,
 	@Override
 	public boolean getCanSpawnHere()
 	{
-		return world.getEntitiesWithinAABB(EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < 4 ? super.getCanSpawnHere() : false;
+		return DreadSwarmTracker.count(world, EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)) < 4 ? super.getCanSpawnHere() : false;
 	}
 
 	@Override
@@ -211,23 +208,9 @@ public class EntityGreaterDreadSpawn extends EntityMob implements IDreadEntity,
 				tasks.removeTask(arrowAttack);
 			}
 
-		List<EntityGreaterDreadSpawn> greaterspawns = world.getEntitiesWithinAABB(getClass(), getEntityBoundingBox().grow(5D, 5D, 5D));
-
-		if(!world.isRemote && world.getEntitiesWithinAABB(EntityLesserDreadbeast.class, getEntityBoundingBox().grow(32)).size() < 4)
-			if(!greaterspawns.isEmpty())
-				if(greaterspawns.size() >= 5 && !hasMerged){
-					hasMerged = true;
-					for(int i = 0; i < 5; i++)
-						world.removeEntity(greaterspawns.get(i));
-					EntityLesserDreadbeast lesserdreadbeast = new EntityLesserDreadbeast(world);
-					lesserdreadbeast.copyLocationAndAnglesFrom(this);
-					world.removeEntity(this);
-					world.spawnEntity(lesserdreadbeast);
-					hasMerged = false;
-				}
-
+		// Merging into Lesser Dreadbeasts is handled by the DreadSwarmTracker
 		if(ticksExisted % 2000 == 0)
-			if(!world.isRemote && world.getEntitiesWithinAABB(EntityDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < ACConfig.dreadSpawnSpawnLimit){
+			if(!world.isRemote && DreadSwarmTracker.count(world, EntityDreadSpawn.class, getEntityBoundingBox().grow(32)) < ACConfig.dreadSpawnSpawnLimit){
 				EntityDreadSpawn spawn = new EntityDreadSpawn(world);
 				spawn.copyLocationAndAnglesFrom(this);
 				world.spawnEntity(spawn);
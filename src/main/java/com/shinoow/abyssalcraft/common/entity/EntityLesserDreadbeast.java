@@ -106,7 +106,7 @@ public class EntityLesserDreadbeast extends EntityMob implements IDreadEntity, I
 	@Override
 	public boolean getCanSpawnHere()
 	{
-		return world.getEntitiesWithinAABB(EntityLesserDreadbeast.class, getEntityBoundingBox().grow(32)).size() < 4 ? super.getCanSpawnHere() : false;
+		return DreadSwarmTracker.count(world, EntityLesserDreadbeast.class, getEntityBoundingBox().grow(32)) < 4 ? super.getCanSpawnHere() : false;
 	}
 
 	@Override
@@ -214,13 +214,13 @@ public class EntityLesserDreadbeast extends EntityMob implements IDreadEntity, I
 			}
 
 		if(ticksExisted % 400 == 0)
-			if(!world.isRemote && world.getEntitiesWithinAABB(EntityDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < ACConfig.dreadSpawnSpawnLimit){
+			if(!world.isRemote && DreadSwarmTracker.count(world, EntityDreadSpawn.class, getEntityBoundingBox().grow(32)) < ACConfig.dreadSpawnSpawnLimit){
 				EntityDreadSpawn spawn = new EntityDreadSpawn(world);
 				spawn.copyLocationAndAnglesFrom(this);
 				world.spawnEntity(spawn);
 			}
 		if(ticksExisted % 10000 == 0)
-			if(!world.isRemote && world.getEntitiesWithinAABB(EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)).size() < ACConfig.greaterDreadSpawnSpawnLimit){
+			if(!world.isRemote && DreadSwarmTracker.count(world, EntityGreaterDreadSpawn.class, getEntityBoundingBox().grow(32)) < ACConfig.greaterDreadSpawnSpawnLimit){
 				EntityGreaterDreadSpawn spawn = new EntityGreaterDreadSpawn(world);
 				spawn.copyLocationAndAnglesFrom(this);
 				world.spawnEntity(spawn);
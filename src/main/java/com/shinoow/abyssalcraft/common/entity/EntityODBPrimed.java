@@ -144,7 +144,7 @@ public class EntityODBPrimed extends Entity {
 	}
 
 	public void finishExplosion(int delay, Explosion explosion) {
-		Scheduler.schedule(new ScheduledProcess(delay) {
+		Scheduler.schedule(world, new ScheduledProcess(delay) {
 
 			@Override
 			public void execute() {
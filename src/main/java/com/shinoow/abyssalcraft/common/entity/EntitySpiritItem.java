@@ -34,6 +34,7 @@ public class EntitySpiritItem extends EntityItem {
 	private int pathIndex;
 	private BlockPos target;
 	private double dX, dY, dZ;
+	private List<ItemStack> cargo = new ArrayList<>();
 
 	public EntitySpiritItem(World worldIn) {
 		super(worldIn);
@@ -69,6 +70,14 @@ public class EntitySpiritItem extends EntityItem {
 		return this;
 	}
 
+	/**
+	 * Sets additional stacks carried alongside the displayed Item
+	 */
+	public EntitySpiritItem setCargo(List<ItemStack> cargo) {
+		this.cargo = new ArrayList<>(cargo);
+		return this;
+	}
+
 	@Override
 	public void onUpdate() {
 		super.onUpdate();
@@ -85,18 +94,11 @@ public class EntitySpiritItem extends EntityItem {
 				if(te != null) {
 					IItemHandler inventory = ItemTransferEventHandler.getInventory(te, facing);
 					if(inventory != null) {
-						ItemStack res = ItemStack.EMPTY;
-						ItemStack stack = getItem().copy();
-						if(stack.getMetadata() != 0 && !stack.getHasSubtypes())
-							res = ItemHandlerHelper.insertItem(inventory, stack, false);
-						else
-							res = ItemHandlerHelper.insertItemStacked(inventory, stack, false);
-						if(res.isEmpty())
-							setDead();
-						else {
-							entityDropItem(res, 1);//drop it on the ground because we failed?
-							setDead();
-						}
+						deliver(inventory, getItem().copy());
+						for(ItemStack stack : cargo)
+							deliver(inventory, stack);
+						cargo.clear();
+						setDead();
 					}
 				}
 			} else {
@@ -112,6 +114,16 @@ public class EntitySpiritItem extends EntityItem {
 		}
 	}
 
+	private void deliver(IItemHandler inventory, ItemStack stack) {
+		ItemStack res = ItemStack.EMPTY;
+		if(stack.getMetadata() != 0 && !stack.getHasSubtypes())
+			res = ItemHandlerHelper.insertItem(inventory, stack, false);
+		else
+			res = ItemHandlerHelper.insertItemStacked(inventory, stack, false);
+		if(!res.isEmpty())
+			entityDropItem(res, 1);//drop it on the ground because we failed?
+	}
+
 	@Override
 	protected boolean pushOutOfBlocks(double x, double y, double z)
 	{
@@ -134,6 +146,11 @@ public class EntitySpiritItem extends EntityItem {
 		tagCompound.setInteger("pathIndex", pathIndex);
 		if(facing != null)
 			tagCompound.setInteger("Facing", facing.getIndex());
+		if(!cargo.isEmpty()) {
+			NBTTagList cargoList = new NBTTagList();
+			cargo.stream().map(stack -> stack.writeToNBT(new NBTTagCompound())).forEach(cargoList::appendTag);
+			tagCompound.setTag("Cargo", cargoList);
+		}
 	}
 
 	@Override
@@ -148,5 +165,12 @@ public class EntitySpiritItem extends EntityItem {
 		pathIndex = tagCompound.getInteger("pathIndex");
 		if(tagCompound.hasKey("Facing"))
 			facing = EnumFacing.getFront(tagCompound.getInteger("Facing"));
+		cargo = new ArrayList<>();
+		NBTTagList cargoList = tagCompound.getTagList("Cargo", NBT.TAG_COMPOUND);
+		for(Iterator<NBTBase> i = cargoList.iterator(); i.hasNext();) {
+			ItemStack stack = new ItemStack((NBTTagCompound)i.next());
+			if(!stack.isEmpty())
+				cargo.add(stack);
+		}
 	}
 }
@@ -29,7 +29,9 @@ import com.shinoow.abyssalcraft.common.entity.anti.EntityAntiPlayer;
 import com.shinoow.abyssalcraft.common.entity.demon.*;
 import com.shinoow.abyssalcraft.common.items.ItemCrystalBag;
 import com.shinoow.abyssalcraft.common.items.ItemNecronomicon;
+import com.shinoow.abyssalcraft.common.world.TerrainPregenerator;
 import com.shinoow.abyssalcraft.common.world.data.NecromancyWorldSavedData;
+import com.shinoow.abyssalcraft.common.world.data.PortalWorldSavedData;
 import com.shinoow.abyssalcraft.init.BlockHandler;
 import com.shinoow.abyssalcraft.init.InitHandler;
 import com.shinoow.abyssalcraft.lib.ACConfig;
@@ -41,6 +43,7 @@ import com.shinoow.abyssalcraft.lib.world.TeleporterDarkRealm;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockStairs;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.*;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -55,10 +58,12 @@ import net.minecraft.util.DamageSource;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.text.translation.I18n;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.event.entity.living.*;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
@@ -66,12 +71,14 @@ import net.minecraftforge.event.entity.player.PlayerInteractEvent.EntityInteract
 import net.minecraftforge.event.entity.player.UseHoeEvent;
 import net.minecraftforge.event.terraingen.BiomeEvent;
 import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Type;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
 import net.minecraftforge.fml.relauncher.Side;
 
 @SuppressWarnings("deprecation")
@@ -79,15 +86,53 @@ public class AbyssalCraftEventHooks {
 
 	@SubscribeEvent
 	public void populateChunk(PopulateChunkEvent.Pre event) {
-		Chunk chunk = event.getWorld().getChunkFromChunkCoords(event.getChunkX(), event.getChunkZ());
+		World world = event.getWorld();
+		Chunk chunk = world.getChunkFromChunkCoords(event.getChunkX(), event.getChunkZ());
+		boolean[] columns = new boolean[256];
+		boolean hasMountains = false;
+		MutableBlockPos pos = new MutableBlockPos();
+		for (int x = 0; x < 16; ++x)
+			for (int z = 0; z < 16; ++z)
+				if(chunk.getBiome(pos.setPos(x, 0, z), world.getBiomeProvider()) == ACBiomes.darklands_mountains)
+					columns[z << 4 | x] = hasMountains = true;
+		if(!hasMountains) return;
+
+		byte[] ids = new byte[4096];
 		for (ExtendedBlockStorage storage : chunk.getBlockStorageArray())
-			if (storage != null && storage.getYLocation() >= 60)
-				for (int x = 0; x < 16; ++x)
-					for (int y = 0; y < 16; ++y)
-						for (int z = 0; z < 16; ++z)
-							if(chunk.getBiome(new BlockPos(x, y, z), event.getWorld().getBiomeProvider()) == ACBiomes.darklands_mountains)
-								if (storage.get(x, y, z).getBlock() == Blocks.STONE)
-									storage.set(x, y, z, ACBlocks.darkstone.getDefaultState());
+			if (storage != null && storage.getYLocation() >= 60 && !storage.isEmpty())
+				replaceStone(storage, columns, ids);
+	}
+
+	/**
+	 * Swaps Stone for Darkstone in the marked columns of a section, working on the
+	 * section's block ID arrays rather than setting every block through its palette
+	 * @param columns Columns (z << 4 | x) to replace Stone in
+	 * @param ids Scratch array for the block IDs
+	 */
+	private void replaceStone(ExtendedBlockStorage storage, boolean[] columns, byte[] ids) {
+		NibbleArray meta = new NibbleArray();
+		NibbleArray add = storage.getData().getDataForNBT(ids, meta);
+		int stone = Block.getIdFromBlock(Blocks.STONE);
+		IBlockState darkstone = ACBlocks.darkstone.getDefaultState();
+		int darkstoneId = Block.getIdFromBlock(darkstone.getBlock());
+		int darkstoneMeta = darkstone.getBlock().getMetaFromState(darkstone);
+		boolean changed = false;
+
+		for (int i = 0; i < 4096; ++i)
+			if((ids[i] & 255) == stone && (add == null || add.getFromIndex(i) == 0) && columns[i & 255]) {
+				if(!changed && darkstoneId > 255 && add == null)
+					add = new NibbleArray();
+				ids[i] = (byte)(darkstoneId & 255);
+				meta.setIndex(i, darkstoneMeta);
+				if(add != null)
+					add.setIndex(i, darkstoneId >> 8 & 15);
+				changed = true;
+			}
+
+		if(changed) {
+			storage.getData().setDataFromNBT(ids, meta, add);
+			storage.recalculateRefCounts();
+		}
 	}
 
 	//	@SubscribeEvent
@@ -483,4 +528,25 @@ public class AbyssalCraftEventHooks {
 		if(event.side == Side.SERVER && event.type == Type.SERVER && event.phase == Phase.START)
 			Scheduler.tick();
 	}
+
+	@SubscribeEvent
+	public void onWorldTick(WorldTickEvent event) {
+		if(event.side == Side.SERVER && event.type == Type.WORLD && event.phase == Phase.START)
+			Scheduler.tick(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event) {
+		// The overworld loads before any other dimension, and before a new save has ticked
+		if(!event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0)
+			PortalWorldSavedData.checkSaveFormat(event.getWorld());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if(!event.getWorld().isRemote) {
+			TerrainPregenerator.unload(event.getWorld());
+			Scheduler.unload(event.getWorld());
+		}
+	}
 }
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.handlers;
+
+import com.shinoow.abyssalcraft.common.entity.DreadSwarmTracker;
+
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Type;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Keeps the {@link DreadSwarmTracker} of each server world in sync with the dread swarm Entities
+ * that join, move and get unloaded, and runs its merge evaluations
+ */
+public class DreadSwarmEventHandler {
+
+	@SubscribeEvent
+	public void onTick(WorldTickEvent event) {
+		if(event.side == Side.SERVER && event.type == Type.WORLD && event.phase == Phase.END) {
+			DreadSwarmTracker tracker = DreadSwarmTracker.get(event.world);
+			if(tracker != null)
+				tracker.tick();
+		}
+	}
+
+	@SubscribeEvent
+	public void onEntityJoin(EntityJoinWorldEvent event) {
+		if(DreadSwarmTracker.isSwarmEntity(event.getEntity())) {
+			DreadSwarmTracker tracker = DreadSwarmTracker.get(event.getWorld());
+			if(tracker != null)
+				tracker.add(event.getEntity());
+		}
+	}
+
+	@SubscribeEvent
+	public void onEnteringChunk(EntityEvent.EnteringChunk event) {
+		if(DreadSwarmTracker.isSwarmEntity(event.getEntity())) {
+			DreadSwarmTracker tracker = DreadSwarmTracker.get(event.getEntity().world);
+			if(tracker != null)
+				tracker.moved(event.getEntity());
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		DreadSwarmTracker tracker = DreadSwarmTracker.get(event.getWorld());
+		if(tracker != null)
+			tracker.unloadChunk(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if(!event.getWorld().isRemote)
+			DreadSwarmTracker.unload(event.getWorld());
+	}
+}
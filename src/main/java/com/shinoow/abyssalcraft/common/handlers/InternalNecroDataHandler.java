@@ -16,8 +16,6 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.imageio.ImageIO;
-
 import com.google.common.io.ByteStreams;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -32,6 +30,7 @@ import com.shinoow.abyssalcraft.api.necronomicon.NecroData.Page;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.*;
 import com.shinoow.abyssalcraft.client.gui.necronomicon.GuiNecronomicon;
 import com.shinoow.abyssalcraft.client.gui.necronomicon.GuiNecronomiconPlacesOfPower;
+import com.shinoow.abyssalcraft.client.lib.NecronomiconImageCache;
 import com.shinoow.abyssalcraft.common.entity.*;
 import com.shinoow.abyssalcraft.common.entity.demon.*;
 import com.shinoow.abyssalcraft.common.util.ACLogger;
@@ -41,7 +40,6 @@ import com.shinoow.abyssalcraft.lib.NecronomiconText;
 import com.shinoow.abyssalcraft.lib.util.NecroDataJsonUtil;
 
 import net.minecraft.client.gui.GuiScreen;
-import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.enchantment.EnchantmentData;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -204,14 +202,7 @@ public class InternalNecroDataHandler extends DummyNecroDataHandler {
 	public void verifyImageURL(String url) {
 		if(FMLCommonHandler.instance().getSide().isServer()) return;
 
-		if(GuiNecronomicon.failcache.contains(url) || GuiNecronomicon.successcache.get(url) != null) return;
-
-		try {
-			DynamicTexture t = new DynamicTexture(ImageIO.read(new URL(url)));
-			GuiNecronomicon.successcache.put(url, t);
-		} catch (Exception e) {
-			GuiNecronomicon.failcache.add(url);
-		}
+		NecronomiconImageCache.instance().prefetch(url);
 	}
 
 	@Override
@@ -11,10 +11,8 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.common.handlers;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
-import com.shinoow.abyssalcraft.api.APIUtils;
 import com.shinoow.abyssalcraft.api.transfer.ItemTransferConfiguration;
 import com.shinoow.abyssalcraft.api.transfer.caps.IItemTransferCapability;
 import com.shinoow.abyssalcraft.api.transfer.caps.ItemTransferCapability;
@@ -27,11 +25,13 @@ import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Type;
@@ -45,6 +45,11 @@ import net.minecraftforge.items.wrapper.SidedInvWrapper;
 
 public class ItemTransferEventHandler {
 
+	/** Amount of ticks between each transfer of a configuration */
+	private static final int CYCLE = 20;
+
+	private static final Map<Integer, TransferWheel> wheels = new HashMap<>();
+
 	@SubscribeEvent
 	public void attachCapability(AttachCapabilitiesEvent<TileEntity> event) {
 		ResourceLocation rl = TileEntity.getKey(event.getObject().getClass());
@@ -57,47 +62,160 @@ public class ItemTransferEventHandler {
 		if(event.side == Side.SERVER && event.type == Type.WORLD && event.phase == Phase.END)
 		{
 			World world = event.world;
-			if(world.getTotalWorldTime() % 20 != 0) return;
-			List<TileEntity> list = new ArrayList<>(world.loadedTileEntityList);
-			list.stream()
-			.filter(t -> world.isBlockLoaded(t.getPos()))
-			.filter(this::hasCap)
-			.filter(ItemTransferEventHandler::hasInventory)//maybe remove
-			.forEach(tile -> {
-				IItemTransferCapability cap = ItemTransferCapability.getCap(tile);
-				for(ItemTransferConfiguration cfg : cap.getTransferConfigurations()) {
-					IItemHandler inventory = getInventory(tile, cfg.getExitFacing());
-					if(inventory != null) {//sided inventories, you never know
-						boolean hasFilter = !cfg.getFilter().isEmpty() && cfg.getFilter().stream().anyMatch(i -> !i.isEmpty());
-						ItemStack stack = ItemStack.EMPTY;
-						int slot = -1;
-						for(int i = 0; i < inventory.getSlots(); i++) {
-							stack = inventory.getStackInSlot(i);
-							if(!stack.isEmpty())
-								if(!hasFilter || isInFilter(cfg.getFilter(), stack, cfg.filterByNBT())) {
-									stack = inventory.extractItem(i, 1, true);
-									slot = i;
-									break;
-								}
-						}
-						if(!stack.isEmpty() && slot > -1) {
-							BlockPos exitPos = cfg.getRoute()[cfg.getRoute().length-1];
-							TileEntity te = world.getTileEntity(exitPos);
-							if(te != null) {
-								IItemHandler exitInv = getInventory(te, cfg.getEntryFacing());
-								if(exitInv != null && ItemHandlerHelper.insertItem(exitInv, stack, true).isEmpty()) {//insertion worked
-									stack = inventory.extractItem(slot, 1, false);
-									BlockPos pos = tile.getPos();
-									EntitySpiritItem spirit = new EntitySpiritItem(world, pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, stack.copy());
-									spirit.setRoute(cfg.getRoute());
-									spirit.setFacing(cfg.getEntryFacing());
-									world.spawnEntity(spirit);
-								}
-							}
-						}
+			TransferWheel wheel = wheels.get(world.provider.getDimension());
+			if(wheel == null) return;
+			Map<BlockPos, TransferNode> bucket = wheel.getBucket(world.getTotalWorldTime());
+			if(bucket.isEmpty()) return;
+			wheel.ticking = true;
+			try {
+				for(Iterator<TransferNode> i = bucket.values().iterator(); i.hasNext();) {
+					TransferNode node = i.next();
+					if(node.tile.isInvalid() || !world.isBlockLoaded(node.tile.getPos()) || !hasCap(node.tile)) {
+						i.remove();
+						wheel.forget(node);
+						continue;
 					}
+					IItemTransferCapability cap = ItemTransferCapability.getCap(node.tile);
+					for(ItemTransferConfiguration cfg : cap.getTransferConfigurations())
+						transfer(world, node.tile, cfg, node.getRoute(cfg, wheel));
+					node.prune(cap.getTransferConfigurations());
+				}
+			} finally {
+				wheel.ticking = false;
+			}
+			wheel.addPending();
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		if(!event.getWorld().isRemote)
+			for(TileEntity tile : event.getChunk().getTileEntityMap().values())
+				if(hasCap(tile))
+					track(tile);
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		if(!event.getWorld().isRemote) {
+			TransferWheel wheel = wheels.get(event.getWorld().provider.getDimension());
+			if(wheel != null)
+				for(BlockPos pos : event.getChunk().getTileEntityMap().keySet()) {
+					wheel.remove(pos);
+					wheel.invalidate(pos);
 				}
-			});
+		}
+	}
+
+	@SubscribeEvent
+	public void onNeighborNotify(NeighborNotifyEvent event) {
+		if(!event.getWorld().isRemote) {
+			TransferWheel wheel = wheels.get(event.getWorld().provider.getDimension());
+			if(wheel != null)
+				wheel.invalidate(event.getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if(!event.getWorld().isRemote)
+			wheels.remove(event.getWorld().provider.getDimension());
+	}
+
+	/**
+	 * Adds a Tile Entity to the transfer schedule of its world. Should be called
+	 * whenever a Tile Entity's Item Transfer Capability is set to running.
+	 * @param tile Tile Entity with the Item Transfer Capability
+	 */
+	public static void track(TileEntity tile) {
+		World world = tile.getWorld();
+		if(world == null || world.isRemote) return;
+		wheels.computeIfAbsent(world.provider.getDimension(), d -> new TransferWheel())
+		.add(tile, world.getTotalWorldTime());
+	}
+
+	private void transfer(World world, TileEntity tile, ItemTransferConfiguration cfg, RouteCache route) {
+		if(!route.resolve(world, tile)) return;
+		IItemHandler inventory = route.sourceInv;
+		IItemHandler exitInv = route.exitInv;
+		int amount = cfg.getTransferAmount();
+		List<ItemStack> batch = new ArrayList<>();
+		ClaimedSpace space = null;
+		for(int i = 0; i < inventory.getSlots() && amount > 0; i++) {
+			ItemStack stack = inventory.getStackInSlot(i);
+			if(!stack.isEmpty() && cfg.isInFilter(stack)) {
+				stack = inventory.extractItem(i, amount, true);
+				if(stack.isEmpty()) continue;
+				if(space == null)
+					space = new ClaimedSpace(exitInv);
+				int count = space.insert(stack, true);
+				if(count > 0) {//insertion worked
+					stack = inventory.extractItem(i, count, false);
+					amount -= stack.getCount();
+					space.insert(stack, false);
+					addToBatch(batch, stack);
+				}
+			}
+		}
+		if(!batch.isEmpty()) {
+			BlockPos pos = tile.getPos();
+			EntitySpiritItem spirit = new EntitySpiritItem(world, pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, batch.remove(0));
+			spirit.setRoute(cfg.getRoute());
+			spirit.setFacing(cfg.getEntryFacing());
+			spirit.setCargo(batch);
+			world.spawnEntity(spirit);
+		}
+	}
+
+	/**
+	 * Merges the stack into the batch, only adding a new stack if it can't be merged into one already in it
+	 */
+	private void addToBatch(List<ItemStack> batch, ItemStack stack) {
+		for(ItemStack stack1 : batch)
+			if(ItemHandlerHelper.canItemStacksStack(stack1, stack)) {
+				int count = Math.min(stack.getCount(), stack1.getMaxStackSize() - stack1.getCount());
+				stack1.grow(count);
+				stack.shrink(count);
+				if(stack.isEmpty())
+					return;
+			}
+		batch.add(stack);
+	}
+
+	/**
+	 * The exit inventory with the space already claimed by the current batch taken out,
+	 * so a batch never holds more than the exit inventory can accept
+	 */
+	private static class ClaimedSpace {
+
+		private final IItemHandler inv;
+		private final ItemStack[] claimed;
+
+		private ClaimedSpace(IItemHandler inv) {
+			this.inv = inv;
+			claimed = new ItemStack[inv.getSlots()];
+			Arrays.fill(claimed, ItemStack.EMPTY);
+		}
+
+		/**
+		 * Claims space for a stack, slot by slot like {@link ItemHandlerHelper#insertItem(IItemHandler, ItemStack, boolean)}
+		 * @return The amount of items that fit
+		 */
+		private int insert(ItemStack stack, boolean simulate) {
+			int remaining = stack.getCount();
+			for(int i = 0; i < claimed.length && remaining > 0; i++) {
+				ItemStack slot = claimed[i];
+				if(!slot.isEmpty() && !ItemHandlerHelper.canItemStacksStack(slot, stack)) continue;
+				int accepted = remaining + slot.getCount() - inv.insertItem(i, ItemHandlerHelper.copyStackWithSize(stack, remaining + slot.getCount()), true).getCount();
+				int count = Math.min(remaining, accepted - slot.getCount());
+				if(count <= 0) continue;
+				if(!simulate)
+					if(slot.isEmpty())
+						claimed[i] = ItemHandlerHelper.copyStackWithSize(stack, count);
+					else slot.grow(count);
+				remaining -= count;
+			}
+			return stack.getCount() - remaining;
 		}
 	}
 
@@ -125,12 +243,176 @@ public class ItemTransferEventHandler {
 		return false;
 	}
 
-	private boolean isInFilter(NonNullList<ItemStack> filter, ItemStack stack, boolean nbt) {
+	/**
+	 * Per-world schedule of running Tile Entities, spread over
+	 * {@link #CYCLE} buckets so that only a fraction of them is
+	 * serviced each tick.
+	 */
+	private static class TransferWheel {
 
-		for(ItemStack stack1 : filter)
-			if(APIUtils.areStacksEqual(stack, stack1, nbt))
+		private final Map<BlockPos, Integer> slots = new HashMap<>();
+		private final List<Map<BlockPos, TransferNode>> buckets = new ArrayList<>(CYCLE);
+		/** Cached routes that have to be resolved again if the block at the position changes */
+		private final Map<BlockPos, Set<RouteCache>> watchers = new HashMap<>();
+		/** Tiles tracked while a bucket is being serviced (chunks loaded by a transfer), added once it's done */
+		private final List<TileEntity> pending = new ArrayList<>();
+		private boolean ticking;
+
+		private TransferWheel() {
+			for(int i = 0; i < CYCLE; i++)
+				buckets.add(new LinkedHashMap<>());
+		}
+
+		private void add(TileEntity tile, long time) {
+			if(ticking) {
+				pending.add(tile);
+				return;
+			}
+			BlockPos pos = tile.getPos();
+			Integer slot = slots.get(pos);
+			if(slot == null) {
+				slot = (int)(time % CYCLE);
+				slots.put(pos, slot);
+			}
+			TransferNode node = buckets.get(slot).get(pos);
+			if(node == null || node.tile != tile) {
+				if(node != null)
+					node.clear();
+				buckets.get(slot).put(pos, new TransferNode(tile));
+			}
+		}
+
+		private void addPending() {
+			if(pending.isEmpty()) return;
+			TileEntity[] tiles = pending.toArray(new TileEntity[pending.size()]);
+			pending.clear();
+			for(TileEntity tile : tiles)
+				if(!tile.isInvalid())
+					add(tile, tile.getWorld().getTotalWorldTime());
+		}
+
+		private void remove(BlockPos pos) {
+			Integer slot = slots.remove(pos);
+			if(slot != null) {
+				TransferNode node = buckets.get(slot).remove(pos);
+				if(node != null)
+					node.clear();
+			}
+		}
+
+		/**
+		 * Cleans up after a node that has already been taken out of its bucket
+		 */
+		private void forget(TransferNode node) {
+			slots.remove(node.tile.getPos());
+			node.clear();
+		}
+
+		private void invalidate(BlockPos pos) {
+			Set<RouteCache> routes = watchers.remove(pos);
+			if(routes != null)
+				for(RouteCache route : routes)
+					route.valid = false;
+		}
+
+		private void watch(BlockPos pos, RouteCache route) {
+			watchers.computeIfAbsent(pos, p -> new HashSet<>()).add(route);
+		}
+
+		private void unwatch(BlockPos pos, RouteCache route) {
+			Set<RouteCache> routes = watchers.get(pos);
+			if(routes != null && routes.remove(route) && routes.isEmpty())
+				watchers.remove(pos);
+		}
+
+		private Map<BlockPos, TransferNode> getBucket(long time) {
+			return buckets.get((int)(time % CYCLE));
+		}
+	}
+
+	/**
+	 * A running Tile Entity along with the resolved routes of its configurations
+	 */
+	private static class TransferNode {
+
+		private final TileEntity tile;
+		private final Map<ItemTransferConfiguration, RouteCache> routes = new IdentityHashMap<>();
+
+		private TransferNode(TileEntity tile) {
+			this.tile = tile;
+		}
+
+		private RouteCache getRoute(ItemTransferConfiguration cfg, TransferWheel wheel) {
+			return routes.computeIfAbsent(cfg, c -> new RouteCache(c, wheel));
+		}
+
+		/**
+		 * Drops cached routes for configurations that have since been removed
+		 */
+		private void prune(List<ItemTransferConfiguration> configurations) {
+			if(routes.size() > configurations.size())
+				for(Iterator<RouteCache> i = routes.values().iterator(); i.hasNext();) {
+					RouteCache route = i.next();
+					if(configurations.stream().noneMatch(c -> c == route.cfg)) {
+						route.unwatch();
+						i.remove();
+					}
+				}
+		}
+
+		private void clear() {
+			routes.values().forEach(RouteCache::unwatch);
+			routes.clear();
+		}
+	}
+
+	/**
+	 * Resolved inventories at both ends of a configuration's route,
+	 * kept until a block at either end changes
+	 */
+	private static class RouteCache {
+
+		private final ItemTransferConfiguration cfg;
+		private final TransferWheel wheel;
+		private final BlockPos exitPos;
+		private BlockPos sourcePos;
+		private IItemHandler sourceInv, exitInv;
+		private TileEntity exitTile;
+		private boolean valid;
+
+		private RouteCache(ItemTransferConfiguration cfg, TransferWheel wheel) {
+			this.cfg = cfg;
+			this.wheel = wheel;
+			exitPos = cfg.getRoute()[cfg.getRoute().length-1];
+		}
+
+		/**
+		 * Resolves the inventories at both ends if needed, without loading the exit's chunk
+		 * @return True if both inventories are available
+		 */
+		private boolean resolve(World world, TileEntity tile) {
+			if(valid && !exitTile.isInvalid())
 				return true;
+			unwatch();
+			if(!world.isBlockLoaded(exitPos))
+				return false;
+			sourcePos = tile.getPos();
+			sourceInv = getInventory(tile, cfg.getExitFacing());
+			exitTile = world.getTileEntity(exitPos);
+			exitInv = exitTile != null ? getInventory(exitTile, cfg.getEntryFacing()) : null;
+			valid = sourceInv != null && exitInv != null;
+			if(valid) {
+				wheel.watch(sourcePos, this);
+				wheel.watch(exitPos, this);
+			}
+			return valid;
+		}
 
-		return false;
+		private void unwatch() {
+			if(sourcePos != null)
+				wheel.unwatch(sourcePos, this);
+			wheel.unwatch(exitPos, this);
+			valid = false;
+		}
 	}
 }
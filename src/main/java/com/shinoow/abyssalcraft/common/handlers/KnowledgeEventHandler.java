@@ -11,12 +11,16 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.common.handlers;
 
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.common.collect.Maps;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.TriggerIndex;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapability;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapabilityProvider;
 import com.shinoow.abyssalcraft.common.network.PacketDispatcher;
-import com.shinoow.abyssalcraft.common.network.client.KnowledgeUnlockMessage;
-import com.shinoow.abyssalcraft.common.network.client.NecroDataCapMessage;
+import com.shinoow.abyssalcraft.common.network.client.KnowledgeSyncMessage;
 import com.shinoow.abyssalcraft.lib.ACConfig;
 
 import net.minecraft.entity.Entity;
@@ -30,13 +34,34 @@ import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 
 public class KnowledgeEventHandler {
 
+	private static final Map<UUID, KnowledgeSyncMessage.Tracker> trackers = Maps.newHashMap();
+
+	/**
+	 * Sends a player's Necronomicon knowledge to their client
+	 * @param player Player to sync
+	 * @param full Whether to send everything, or only what was unlocked since the last sync
+	 */
+	public static void syncKnowledge(EntityPlayerMP player, boolean full){
+		KnowledgeSyncMessage.Tracker tracker = full ? trackers.computeIfAbsent(player.getUniqueID(), k -> new KnowledgeSyncMessage.Tracker())
+				: trackers.get(player.getUniqueID());
+		if(tracker == null) return;
+		INecroDataCapability cap = NecroDataCapability.getCap(player);
+		KnowledgeSyncMessage message = tracker.createMessage(cap, full);
+		if(full)
+			cap.setLastSyncTime(System.currentTimeMillis());
+		if(message != null)
+			PacketDispatcher.sendTo(message, player);
+	}
+
 	@SubscribeEvent
 	public void attachCapability(AttachCapabilitiesEvent<Entity> event){
 		if(event.getObject() instanceof EntityPlayer)
@@ -52,16 +77,16 @@ public class KnowledgeEventHandler {
 				cap.incrementSyncTimer();
 			else if(cap.getSyncTimer() == ACConfig.knowledgeSyncDelay) {
 				cap.incrementSyncTimer();
-				NecroDataCapability.getCap(player).setLastSyncTime(System.currentTimeMillis());
-				PacketDispatcher.sendTo(new NecroDataCapMessage(player), player);
-			}
+				syncKnowledge(player, true);
+			} else if(player.ticksExisted % 20 == 0)
+				syncKnowledge(player, false);
 
 			Biome b = player.world.getBiome(player.getPosition());
 			if(player.ticksExisted % 200 == 0 && ForgeRegistries.BIOMES.getKey(b) != null) {
 				String name = ForgeRegistries.BIOMES.getKey(b).toString();
-				if(!cap.getBiomeTriggers().contains(name)) {
-					cap.triggerBiomeUnlock(ForgeRegistries.BIOMES.getKey(b).toString());
-					PacketDispatcher.sendTo(new KnowledgeUnlockMessage(0, name), player);
+				if(!cap.hasTrigger(TriggerIndex.BIOMES, name)) {
+					cap.triggerBiomeUnlock(name);
+					syncKnowledge(player, false);
 				}
 			}
 		}
@@ -70,9 +95,9 @@ public class KnowledgeEventHandler {
 	@SubscribeEvent
 	public void onPlayerChangedDimension(PlayerChangedDimensionEvent event){
 		INecroDataCapability cap = NecroDataCapability.getCap(event.player);
-		if(!cap.getDimensionTriggers().contains(event.toDim)) {
+		if(!cap.hasDimensionTrigger(event.toDim)) {
 			cap.triggerDimensionUnlock(event.toDim);
-			PacketDispatcher.sendTo(new KnowledgeUnlockMessage(2, event.toDim), (EntityPlayerMP) event.player);
+			syncKnowledge((EntityPlayerMP) event.player, false);
 		}
 	}
 
@@ -83,9 +108,9 @@ public class KnowledgeEventHandler {
 			if(event.getSource() != null && event.getSource().getTrueSource() instanceof EntityPlayer && EntityList.getKey(e) != null) {
 				String name = EntityList.getKey(e).toString();
 				INecroDataCapability cap = NecroDataCapability.getCap((EntityPlayer)event.getSource().getTrueSource());
-				if(!cap.getEntityTriggers().contains(name)) {
+				if(!cap.hasTrigger(TriggerIndex.ENTITIES, name)) {
 					cap.triggerEntityUnlock(name);
-					PacketDispatcher.sendTo(new KnowledgeUnlockMessage(1, name), (EntityPlayerMP) event.getSource().getTrueSource());
+					syncKnowledge((EntityPlayerMP) event.getSource().getTrueSource(), false);
 				}
 			}
 		}
@@ -97,6 +122,21 @@ public class KnowledgeEventHandler {
 			NecroDataCapability.getCap((EntityPlayer)event.getEntity()).resetSyncTimer();
 	}
 
+	@SubscribeEvent
+	public void onLogout(PlayerLoggedOutEvent event){
+		trackers.remove(event.player.getUniqueID());
+	}
+
+	@SubscribeEvent
+	public void onContainerOpen(PlayerContainerEvent.Open event){
+		NecroDataCapability.getCap(event.getEntityPlayer()).markInventoryChanged();
+	}
+
+	@SubscribeEvent
+	public void onContainerClose(PlayerContainerEvent.Close event){
+		NecroDataCapability.getCap(event.getEntityPlayer()).markInventoryChanged();
+	}
+
 	@SubscribeEvent
 	public void onClonePlayer(PlayerEvent.Clone event) {
 		NecroDataCapability.getCap(event.getEntityPlayer()).copy(NecroDataCapability.getCap(event.getOriginal()));
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.handlers;
+
+import java.util.*;
+
+import com.shinoow.abyssalcraft.api.energy.PENetwork;
+import com.shinoow.abyssalcraft.api.energy.PEReceiverIndex;
+import com.shinoow.abyssalcraft.lib.ACConfig;
+import com.shinoow.abyssalcraft.lib.util.blocks.IBatchedEnergyTile;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.EntityEquipmentSlot;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Type;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Keeps the {@link PENetwork} of each server world in sync with the tiles that are loaded, placed and broken,
+ * and the {@link PEReceiverIndex} with the Entities that join, move and change held items,
+ * and runs the batched PE transfer phase of the {@link IBatchedEnergyTile}s in it
+ */
+public class PENetworkEventHandler {
+
+	private static final Map<Integer, EnergyPhase> phases = new HashMap<>();
+
+	@SubscribeEvent
+	public void onTick(WorldTickEvent event) {
+		if(event.side == Side.SERVER && event.type == Type.WORLD && event.phase == Phase.END)
+		{
+			EnergyPhase phase = phases.get(event.world.provider.getDimension());
+			if(phase != null)
+				phase.tick(event.world);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		PENetwork network = PENetwork.get(event.getWorld());
+		if(network != null)
+			network.loadChunk(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		PENetwork network = PENetwork.get(event.getWorld());
+		if(network != null)
+			network.unloadChunk(event.getChunk());
+		PEReceiverIndex index = PEReceiverIndex.get(event.getWorld());
+		if(index != null)
+			index.unloadChunk(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onEntityJoin(EntityJoinWorldEvent event) {
+		if(event.getEntity() instanceof EntityItem || event.getEntity() instanceof EntityPlayer) {
+			PEReceiverIndex index = PEReceiverIndex.get(event.getWorld());
+			if(index != null)
+				index.update(event.getEntity());
+		}
+	}
+
+	@SubscribeEvent
+	public void onEnteringChunk(EntityEvent.EnteringChunk event) {
+		PEReceiverIndex index = PEReceiverIndex.get(event.getEntity().world);
+		if(index != null)
+			index.moved(event.getEntity());
+	}
+
+	@SubscribeEvent
+	public void onEquipmentChange(LivingEquipmentChangeEvent event) {
+		if(event.getEntity() instanceof EntityPlayer && event.getSlot().getSlotType() == EntityEquipmentSlot.Type.HAND) {
+			PEReceiverIndex index = PEReceiverIndex.get(event.getEntity().world);
+			if(index != null)
+				index.update(event.getEntity());
+		}
+	}
+
+	@SubscribeEvent
+	public void onPopulate(PopulateChunkEvent.Post event) {
+		// Tiles placed during population don't notify their neighbors
+		World world = event.getWorld();
+		PENetwork network = PENetwork.get(world);
+		if(network != null)
+			for(int x = 0; x < 2; x++)
+				for(int z = 0; z < 2; z++)
+					if(world.isChunkGeneratedAt(event.getChunkX() + x, event.getChunkZ() + z))
+						network.loadChunk(world.getChunkFromChunkCoords(event.getChunkX() + x, event.getChunkZ() + z));
+	}
+
+	@SubscribeEvent
+	public void onNeighborNotify(NeighborNotifyEvent event) {
+		PENetwork network = PENetwork.get(event.getWorld());
+		if(network != null)
+			network.blockChanged(event.getPos());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if(!event.getWorld().isRemote) {
+			PENetwork.unload(event.getWorld());
+			PEReceiverIndex.unload(event.getWorld());
+			phases.remove(event.getWorld().provider.getDimension());
+		}
+	}
+
+	/**
+	 * Adds a Tile Entity to the PE transfer phase of its world. Should be called
+	 * (server side) when the Tile Entity is loaded, it's dropped again once it's
+	 * invalidated, unloaded or replaced.
+	 * @param tile Tile Entity implementing {@link IBatchedEnergyTile}
+	 */
+	public static void schedule(TileEntity tile) {
+		World world = tile.getWorld();
+		if(world == null || world.isRemote || !(tile instanceof IBatchedEnergyTile)) return;
+		phases.computeIfAbsent(world.provider.getDimension(), d -> new EnergyPhase()).add(tile);
+	}
+
+	/**
+	 * Per-world schedule of PE tiles, spread over {@link ACConfig#peTransferInterval} buckets
+	 * so each tile gets processed once per interval, and only a share of them on any given tick
+	 */
+	private static class EnergyPhase {
+
+		private List<TileEntity>[] buckets = newBuckets(ACConfig.peTransferInterval);
+		/** Tiles scheduled while a bucket is being processed (chunks loaded by a transfer), added once it's done */
+		private final List<TileEntity> pending = new ArrayList<>();
+		private boolean ticking;
+
+		@SuppressWarnings("unchecked")
+		private static List<TileEntity>[] newBuckets(int interval) {
+			List<TileEntity>[] buckets = new List[Math.max(interval, 1)];
+			for(int i = 0; i < buckets.length; i++)
+				buckets[i] = new ArrayList<>();
+			return buckets;
+		}
+
+		private void add(TileEntity tile) {
+			if(ticking) {
+				pending.add(tile);
+				return;
+			}
+			buckets[Math.floorMod(tile.getPos().hashCode(), buckets.length)].add(tile);
+		}
+
+		private void tick(World world) {
+			if(buckets.length != Math.max(ACConfig.peTransferInterval, 1)) {
+				List<TileEntity>[] old = buckets;
+				buckets = newBuckets(ACConfig.peTransferInterval);
+				for(List<TileEntity> bucket : old)
+					for(TileEntity tile : bucket)
+						add(tile);
+			}
+			List<TileEntity> bucket = buckets[(int)(world.getTotalWorldTime() % buckets.length)];
+			ticking = true;
+			try {
+				for(Iterator<TileEntity> i = bucket.iterator(); i.hasNext();) {
+					TileEntity tile = i.next();
+					if(tile.isInvalid() || !world.isBlockLoaded(tile.getPos()) || world.getTileEntity(tile.getPos()) != tile) {
+						i.remove();
+						continue;
+					}
+					((IBatchedEnergyTile) tile).transferEnergy(buckets.length);
+				}
+			} finally {
+				ticking = false;
+			}
+			if(!pending.isEmpty()) {
+				for(TileEntity tile : pending)
+					if(!tile.isInvalid())
+						add(tile);
+				pending.clear();
+			}
+		}
+	}
+}
@@ -56,7 +56,9 @@ public class ContainerConfigurator extends Container
 	@Override
 	public boolean enchantItem(EntityPlayer playerIn, int id)
 	{
-		inventory.setField(id, inventory.getField(id) == 1 ? 0 : 1);
+		if(id == 2)
+			inventory.setField(id, inventory.getField(id) + 1);
+		else inventory.setField(id, inventory.getField(id) == 1 ? 0 : 1);
 		return false;
 	}
 
@@ -11,7 +11,6 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.common.inventory;
 
-import com.shinoow.abyssalcraft.api.recipe.Materialization;
 import com.shinoow.abyssalcraft.api.recipe.MaterializerRecipes;
 import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityMaterializer;
 import com.shinoow.abyssalcraft.common.items.ItemCrystalBag;
@@ -167,18 +166,7 @@ public class ContainerMaterializer extends Container {
 
 	private int getMaxCount(ItemStack stack, ItemStack bag) {
 
-		int count = 0;
-
-		ItemStack[] inventory = MaterializerRecipes.instance().extractItemsFromBag(bag);
-
-		if(inventory == null) return 0;
-
-		Materialization mat = MaterializerRecipes.instance().getMaterializationFor(stack);
-
-		if(mat == null) return 0;
-
-		while(MaterializerRecipes.instance().consumeCrystals(inventory, mat.input))
-			count++;
+		int count = MaterializerRecipes.instance().getMaxMaterializations(stack, bag);
 
 		return count > stack.getMaxStackSize() ? stack.getMaxStackSize() : count;
 	}
@@ -24,6 +24,9 @@ import net.minecraft.util.text.ITextComponent;
 
 public class InventoryConfigurator implements IInventory
 {
+	/** Selectable amounts of Items moved per transfer */
+	public static final int[] TRANSFER_AMOUNTS = {1, 4, 8, 16, 32, 64, 128, 256};
+
 	private String name;
 
 	private NonNullList<ItemStack> inventory;
@@ -155,6 +158,12 @@ public class InventoryConfigurator implements IInventory
 			return invItem.getTagCompound().getBoolean("FilterSubtype") ? 1 : 0;
 		else if (id == 1)
 			return invItem.getTagCompound().getBoolean("FilterNBT") ? 1 : 0;
+		else if (id == 2) {
+			int amount = invItem.getTagCompound().getInteger("TransferAmount");
+			for(int i = 0; i < TRANSFER_AMOUNTS.length; i++)
+				if(TRANSFER_AMOUNTS[i] == amount)
+					return i;
+		}
 		return 0;
 	}
 
@@ -164,6 +173,8 @@ public class InventoryConfigurator implements IInventory
 			invItem.getTagCompound().setBoolean("FilterSubtype", value == 1 ? true : false);
 		else if(id == 1)
 			invItem.getTagCompound().setBoolean("FilterNBT", value == 1 ? true : false);
+		else if(id == 2)
+			invItem.getTagCompound().setInteger("TransferAmount", TRANSFER_AMOUNTS[value % TRANSFER_AMOUNTS.length]);
 	}
 
 	@Override
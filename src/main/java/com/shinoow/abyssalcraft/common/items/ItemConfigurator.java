@@ -136,11 +136,13 @@ public class ItemConfigurator extends ItemACBasic {
 								.setEntryFacing(facing)
 								.setFilter(filter)
 								.setFilterSubtypes(nbt.getBoolean("FilterSubtype"))
-								.setFilterNBT(nbt.getBoolean("FilterNBT"));
+								.setFilterNBT(nbt.getBoolean("FilterNBT"))
+								.setTransferAmount(nbt.getInteger("TransferAmount"));
 						cfg.setupSubtypeFilter();
 
 						cap.addTransferConfiguration(cfg);
 						cap.setRunning(true);
+						ItemTransferEventHandler.track(te);
 						player.sendMessage(new TextComponentTranslation("message.configurator.3"));
 					} else player.sendMessage(new TextComponentTranslation("message.configurator.error.3"));
 				} else player.sendMessage(new TextComponentTranslation("message.configurator.error.4"));
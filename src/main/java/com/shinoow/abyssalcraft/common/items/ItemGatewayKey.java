@@ -21,6 +21,7 @@ import com.shinoow.abyssalcraft.api.ritual.RitualRegistry;
 import com.shinoow.abyssalcraft.common.blocks.BlockPortalAnchor;
 import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityPortalAnchor;
 import com.shinoow.abyssalcraft.common.entity.EntityPortal;
+import com.shinoow.abyssalcraft.common.world.data.PortalWorldSavedData;
 import com.shinoow.abyssalcraft.lib.ACTabs;
 
 import net.minecraft.block.state.IBlockState;
@@ -149,6 +150,8 @@ public class ItemGatewayKey extends ItemACBasic {
 					worldIn.setBlockState(pos, worldIn.getBlockState(pos).cycleProperty(BlockPortalAnchor.ACTIVE), 2);
 					worldIn.getEntitiesWithinAABB(EntityPortal.class, new AxisAlignedBB(pos).grow(2))
 					.stream().forEach(e -> worldIn.removeEntity(e));
+					if(!worldIn.isRemote)
+						PortalWorldSavedData.get(worldIn).removePortal(pos);
 				} else {
 					ItemStack stack = player.getHeldItem(hand);
 					if(!stack.hasTagCompound())
@@ -65,14 +65,13 @@ public class PacketDispatcher
 		registerMessage(StaffOfRendingMessage.class);
 		registerMessage(InterdimensionalCageMessage.class);
 		registerMessage(OpenSpellbookMessage.class);
-		registerMessage(NecroDataCapMessage.class);
+		registerMessage(KnowledgeSyncMessage.class);
 		registerMessage(CleansingRitualMessage.class);
 		registerMessage(UpdateModeMessage.class);
 		registerMessage(StaffModeMessage.class);
 		registerMessage(PEStreamMessage.class);
 		registerMessage(MobSpellMessage.class);
 		registerMessage(TransferStackMessage.class);
-		registerMessage(KnowledgeUnlockMessage.class);
 		registerMessage(RitualMessage.class);
 		registerMessage(ShouldSyncMessage.class);
 		registerMessage(PrepareSyncMessage.class);
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.network.client;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import com.shinoow.abyssalcraft.api.necronomicon.condition.TriggerIndex;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapability;
+import com.shinoow.abyssalcraft.common.network.AbstractMessage.AbstractClientMessage;
+import com.shinoow.abyssalcraft.common.network.PacketDispatcher;
+import com.shinoow.abyssalcraft.common.network.server.PrepareSyncMessage;
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+
+import it.unimi.dsi.fastutil.ints.*;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Syncs Necronomicon knowledge to the client.<br>
+ * Triggers are sent as the server's {@link TriggerIndex} IDs, gap-encoded as varints. The name behind
+ * an ID is only sent the first time the client needs it. A full sync starts a new sequence, after which
+ * only newly unlocked triggers are sent. If the client receives a message out of sequence it asks for a
+ * full sync.
+ */
+public class KnowledgeSyncMessage extends AbstractClientMessage<KnowledgeSyncMessage> {
+
+	private static final int PROTOCOL_VERSION = 1;
+
+	private static final TriggerIndex[] INDEXES = {TriggerIndex.BIOMES, TriggerIndex.ENTITIES, TriggerIndex.ARTIFACTS,
+			TriggerIndex.PAGES, TriggerIndex.WHISPERS, TriggerIndex.MISC};
+
+	/** Server IDs to trigger names, per index (client side) */
+	private static final Int2ObjectMap<String>[] remoteNames = createNameTables();
+	private static int lastSequence = -1;
+	private static boolean resyncRequested;
+
+	private int version, sequence;
+	private boolean full, allKnowledge;
+	private Int2ObjectMap<String>[] names = createNameTables();
+	private BitSet[] ids = new BitSet[INDEXES.length];
+	private IntList dimensions = new IntArrayList();
+
+	public KnowledgeSyncMessage() {}
+
+	private KnowledgeSyncMessage(int sequence, boolean full, boolean allKnowledge) {
+		version = PROTOCOL_VERSION;
+		this.sequence = sequence;
+		this.full = full;
+		this.allKnowledge = allKnowledge;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Int2ObjectMap<String>[] createNameTables(){
+		Int2ObjectMap<String>[] tables = new Int2ObjectMap[INDEXES.length];
+		for(int i = 0; i < tables.length; i++)
+			tables[i] = new Int2ObjectOpenHashMap<>();
+		return tables;
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		version = buffer.readUnsignedByte();
+		if(version != PROTOCOL_VERSION) return;
+		sequence = ByteBufUtils.readVarInt(buffer, 5);
+		full = buffer.readBoolean();
+		allKnowledge = buffer.readBoolean();
+		for(int i = 0; i < INDEXES.length; i++){
+			for(int n = ByteBufUtils.readVarInt(buffer, 5); n > 0; n--)
+				names[i].put(ByteBufUtils.readVarInt(buffer, 5), ByteBufUtils.readUTF8String(buffer));
+			ids[i] = new BitSet();
+			for(int n = ByteBufUtils.readVarInt(buffer, 5), id = -1; n > 0; n--){
+				id += ByteBufUtils.readVarInt(buffer, 5) + 1;
+				ids[i].set(id);
+			}
+		}
+		for(int n = ByteBufUtils.readVarInt(buffer, 5); n > 0; n--){
+			int zigzag = ByteBufUtils.readVarInt(buffer, 5);
+			dimensions.add(zigzag >>> 1 ^ -(zigzag & 1));
+		}
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeByte(version);
+		ByteBufUtils.writeVarInt(buffer, sequence, 5);
+		buffer.writeBoolean(full);
+		buffer.writeBoolean(allKnowledge);
+		for(int i = 0; i < INDEXES.length; i++){
+			ByteBufUtils.writeVarInt(buffer, names[i].size(), 5);
+			for(Int2ObjectMap.Entry<String> entry : names[i].int2ObjectEntrySet()){
+				ByteBufUtils.writeVarInt(buffer, entry.getIntKey(), 5);
+				ByteBufUtils.writeUTF8String(buffer, entry.getValue());
+			}
+			ByteBufUtils.writeVarInt(buffer, ids[i].cardinality(), 5);
+			for(int id = ids[i].nextSetBit(0), prev = -1; id >= 0; prev = id, id = ids[i].nextSetBit(id + 1))
+				ByteBufUtils.writeVarInt(buffer, id - prev - 1, 5);
+		}
+		ByteBufUtils.writeVarInt(buffer, dimensions.size(), 5);
+		for(int dim : dimensions)
+			ByteBufUtils.writeVarInt(buffer, dim << 1 ^ dim >> 31, 5);
+	}
+
+	@Override
+	public void process(EntityPlayer player, Side side) {
+		if(version != PROTOCOL_VERSION){
+			ACLogger.warning("Received knowledge sync with protocol version %d (expected %d), ignoring it", version, PROTOCOL_VERSION);
+			return;
+		}
+		if(!full && (resyncRequested || sequence != lastSequence + 1)){
+			requestResync(player);
+			return;
+		}
+		lastSequence = sequence;
+		resyncRequested = false;
+
+		INecroDataCapability cap = NecroDataCapability.getCap(player);
+		boolean missingNames = false;
+		for(int i = 0; i < INDEXES.length; i++){
+			if(full)
+				remoteNames[i].clear();
+			remoteNames[i].putAll(names[i]);
+			for(int id = ids[i].nextSetBit(0); id >= 0; id = ids[i].nextSetBit(id + 1)){
+				String name = remoteNames[i].get(id);
+				if(name == null)
+					missingNames = true;
+				else unlock(cap, INDEXES[i], name);
+			}
+		}
+		for(int dim : dimensions)
+			cap.triggerDimensionUnlock(dim);
+		cap.unlockAllKnowledge(allKnowledge);
+		if(full)
+			cap.setLastSyncTime(System.currentTimeMillis());
+		// Everything that could be resolved is applied, the rest comes with the full sync
+		if(missingNames)
+			requestResync(player);
+	}
+
+	/**
+	 * Forgets the trigger names and sequence of the last server (client side), called on disconnect
+	 */
+	public static void reset(){
+		for(Int2ObjectMap<String> table : remoteNames)
+			table.clear();
+		lastSequence = -1;
+		resyncRequested = false;
+	}
+
+	private static void requestResync(EntityPlayer player){
+		if(resyncRequested) return;
+		resyncRequested = true;
+		PacketDispatcher.sendToServer(new PrepareSyncMessage(player.getUniqueID()));
+	}
+
+	private static void unlock(INecroDataCapability cap, TriggerIndex index, String name){
+		if(index == TriggerIndex.BIOMES) cap.triggerBiomeUnlock(name);
+		else if(index == TriggerIndex.ENTITIES) cap.triggerEntityUnlock(name);
+		else if(index == TriggerIndex.ARTIFACTS) cap.triggerArtifactUnlock(name);
+		else if(index == TriggerIndex.PAGES) cap.triggerPageUnlock(name);
+		else if(index == TriggerIndex.WHISPERS) cap.triggerWhisperUnlock(name);
+		else cap.triggerMiscUnlock(name);
+	}
+
+	/**
+	 * Keeps track of what a player's client has been sent so far (server side)
+	 */
+	public static class Tracker {
+
+		private int sequence;
+		private final BitSet[] sent = new BitSet[INDEXES.length];
+		private final BitSet[] namesSent = new BitSet[INDEXES.length];
+		private final IntSet sentDimensions = new IntOpenHashSet();
+		private boolean sentAllKnowledge;
+
+		public Tracker(){
+			for(int i = 0; i < INDEXES.length; i++){
+				sent[i] = new BitSet();
+				namesSent[i] = new BitSet();
+			}
+		}
+
+		/**
+		 * Creates the next message for the client
+		 * @param cap The player's Necronomicon data
+		 * @param full Whether to resend everything and start a new sequence
+		 * @return A message, or null if nothing changed since the last one
+		 */
+		public KnowledgeSyncMessage createMessage(INecroDataCapability cap, boolean full){
+			if(full){
+				sequence = 0;
+				// The client drops deltas while it waits for a full sync, so names sent in them may never have arrived
+				for(int i = 0; i < INDEXES.length; i++){
+					sent[i].clear();
+					namesSent[i].clear();
+				}
+				sentDimensions.clear();
+			}
+			KnowledgeSyncMessage message = new KnowledgeSyncMessage(sequence, full, cap.hasUnlockedAllKnowledge());
+			boolean changed = full || sentAllKnowledge != message.allKnowledge;
+			for(int i = 0; i < INDEXES.length; i++){
+				BitSet ids = (BitSet)cap.getTriggerIds(INDEXES[i]).clone();
+				ids.andNot(sent[i]);
+				if(ids.isEmpty()) continue;
+				changed = true;
+				message.ids[i] = ids;
+				sent[i].or(ids);
+				for(int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1))
+					if(!namesSent[i].get(id)){
+						namesSent[i].set(id);
+						message.names[i].put(id, INDEXES[i].getName(id));
+					}
+			}
+			for(int dim : cap.getDimensionTriggers())
+				if(sentDimensions.add(dim)){
+					changed = true;
+					message.dimensions.add(dim);
+				}
+			if(!changed) return null;
+			for(int i = 0; i < INDEXES.length; i++)
+				if(message.ids[i] == null)
+					message.ids[i] = new BitSet();
+			sentAllKnowledge = message.allKnowledge;
+			sequence++;
+			return message;
+		}
+	}
+}
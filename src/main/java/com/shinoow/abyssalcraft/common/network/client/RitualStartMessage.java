@@ -58,12 +58,7 @@ public class RitualStartMessage extends AbstractClientMessage<RitualStartMessage
 
 	@Override
 	public void process(EntityPlayer player, Side side) {
-		NecronomiconRitual ritual = null;
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().equals(name)) {
-				ritual = r;
-				break;
-			}
+		NecronomiconRitual ritual = RitualRegistry.instance().getRitual(name);
 
 		TileEntity te = player.world.getTileEntity(pos);
 		if(te instanceof IRitualAltar) {
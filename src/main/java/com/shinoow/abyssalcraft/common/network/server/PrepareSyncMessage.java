@@ -14,9 +14,8 @@ package com.shinoow.abyssalcraft.common.network.server;
 import java.io.IOException;
 import java.util.UUID;
 
+import com.shinoow.abyssalcraft.common.handlers.KnowledgeEventHandler;
 import com.shinoow.abyssalcraft.common.network.AbstractMessage.AbstractServerMessage;
-import com.shinoow.abyssalcraft.common.network.PacketDispatcher;
-import com.shinoow.abyssalcraft.common.network.client.NecroDataCapMessage;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -46,6 +45,6 @@ public class PrepareSyncMessage extends AbstractServerMessage<PrepareSyncMessage
 	@Override
 	public void process(EntityPlayer player, Side side) {
 		if(player.getUniqueID().equals(playerUUID))
-			PacketDispatcher.sendTo(new NecroDataCapMessage(player), (EntityPlayerMP)player);
+			KnowledgeEventHandler.syncKnowledge((EntityPlayerMP)player, true);
 	}
 }
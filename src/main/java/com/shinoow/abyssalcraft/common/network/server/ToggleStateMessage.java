@@ -15,6 +15,7 @@ import java.io.IOException;
 
 import com.shinoow.abyssalcraft.api.transfer.caps.IItemTransferCapability;
 import com.shinoow.abyssalcraft.api.transfer.caps.ItemTransferCapability;
+import com.shinoow.abyssalcraft.common.handlers.ItemTransferEventHandler;
 import com.shinoow.abyssalcraft.common.network.AbstractMessage.AbstractServerMessage;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -55,6 +56,8 @@ public class ToggleStateMessage extends AbstractServerMessage<ToggleStateMessage
 			IItemTransferCapability cap = ItemTransferCapability.getCap(te);
 			if(cap != null) {
 				cap.setRunning(!cap.isRunning());
+				if(cap.isRunning())
+					ItemTransferEventHandler.track(te);
 				hadTe = true;
 				((WorldServer)player.world).spawnParticle(cap.isRunning() ? EnumParticleTypes.VILLAGER_HAPPY : EnumParticleTypes.VILLAGER_ANGRY, pos.getX() + 0.5, pos.getY() + 1, pos.getZ() + 0.5, 1, 0, 0, 0, 1.0);
 			}
@@ -70,6 +73,8 @@ public class ToggleStateMessage extends AbstractServerMessage<ToggleStateMessage
 							IItemTransferCapability cap = ItemTransferCapability.getCap(te1);
 							if(cap != null) {
 								cap.setRunning(!cap.isRunning());
+								if(cap.isRunning())
+									ItemTransferEventHandler.track(te1);
 								((WorldServer)player.world).spawnParticle(cap.isRunning() ? EnumParticleTypes.VILLAGER_HAPPY : EnumParticleTypes.VILLAGER_ANGRY, pos1.getX() + 0.5, pos1.getY() + 1, pos1.getZ() + 0.5, 1, 0, 0, 0, 1.0);
 							}
 						}
@@ -13,7 +13,6 @@ package com.shinoow.abyssalcraft.common.network.server;
 
 import java.io.IOException;
 
-import com.shinoow.abyssalcraft.api.APIUtils;
 import com.shinoow.abyssalcraft.api.recipe.MaterializerRecipes;
 import com.shinoow.abyssalcraft.common.inventory.ContainerMaterializer;
 import com.shinoow.abyssalcraft.common.network.AbstractMessage.AbstractServerMessage;
@@ -58,10 +57,6 @@ public class TransferStackMessage extends AbstractServerMessage<TransferStackMes
 
 	private boolean canMaterialize(ItemStack stack, ItemStack bag){
 
-		for(ItemStack stack1 : MaterializerRecipes.instance().getMaterializationResult(bag))
-			if(APIUtils.areStacksEqual(stack, stack1))
-				return true;
-
-		return false;
+		return MaterializerRecipes.instance().getMaxMaterializations(stack, bag) > 0;
 	}
 }
@@ -81,7 +81,7 @@ public class NecronomiconCleansingRitual extends NecronomiconRitual {
 
 				if(!(world.getBiome(pos1) instanceof IDarklandsBiome)) continue;
 
-				Scheduler.schedule(new ScheduledProcess(num * 2) {
+				Scheduler.schedule(world, new ScheduledProcess(num * 2) {
 
 					@Override
 					public void execute() {
@@ -76,7 +76,7 @@ public class NecronomiconCorruptionRitual extends NecronomiconRitual {
 
 				if(!isApplicable(world, pos1)) continue;
 
-				Scheduler.schedule(new ScheduledProcess(num * 2) {
+				Scheduler.schedule(world, new ScheduledProcess(num * 2) {
 
 					@Override
 					public void execute() {
@@ -77,7 +77,7 @@ public class NecronomiconCuringRitual extends NecronomiconRitual {
 
 				if(!(world.getBiome(pos1) instanceof IDreadlandsBiome)) continue;
 
-				Scheduler.schedule(new ScheduledProcess(num * 2) {
+				Scheduler.schedule(world, new ScheduledProcess(num * 2) {
 
 					@Override
 					public void execute() {
@@ -13,3099 +13,25 @@ package com.shinoow.abyssalcraft.common.structures;
 
 import java.util.Random;
 
-import com.shinoow.abyssalcraft.api.block.ACBlocks;
+import com.shinoow.abyssalcraft.AbyssalCraft;
+import com.shinoow.abyssalcraft.common.structures.template.CompiledStructure;
 
-import net.minecraft.init.Blocks;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Rotation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
-@SuppressWarnings("deprecation")
 public class StructureHouse extends WorldGenerator
 {
+	private static final ResourceLocation HOUSE = new ResourceLocation(AbyssalCraft.modid, "house");
 
 	public StructureHouse() { }
 
 	@Override
 	public boolean generate(World world, Random rand, BlockPos pos) {
 
-		int i = pos.getX();
-		int j = pos.getY();
-		int k = pos.getZ();
-
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 0, k - 1), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 1, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 2, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 3, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 4, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 5, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 22), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 21), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 20), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 19), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 18), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 17), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 16), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 15), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 14), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 13), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 12), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 11), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 10), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 9), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 8), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 7), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 6), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 5), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 3), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 2), ACBlocks.ethaxium_brick_stairs.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 9, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 19), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 14), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 7), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 7), Blocks.WATER.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 3), ACBlocks.ethaxium_brick.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 0, k - 1), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 0, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 21), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 20), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 19), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 18), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 17), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 0, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 21), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 17), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 0, k + 0), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 21), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 19), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 13), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 12), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 6), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 5), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 22), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 11), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 4), ACBlocks.ethaxium_brick.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 0, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 21), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 17), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 4), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 0, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 21), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 20), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 19), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 18), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 17), ACBlocks.darkstone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 0, k - 1), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-
-		generate2(world, rand, i, j, k);
-		return true;
-	}
-
-	public boolean generate2(World world, Random rand, int i, int j, int k) {
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 3), ACBlocks.ethaxium_brick.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 21), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 20), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 19), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 18), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 17), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 16), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 15), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 14), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 13), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 12), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 11), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 10), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 9), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 8), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 7), ACBlocks.darkstone_cobblestone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 22), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 6), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 3), ACBlocks.ethaxium_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 19), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 14), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 7), ACBlocks.glowing_darkstone_bricks.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 21), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 20), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 19), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 18), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 17), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 16), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 15), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 14), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 13), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 12), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 11), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 10), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 9), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 8), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 7), ACBlocks.darkstone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 23), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 0, k - 1), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 1, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 2, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 3, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 4, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 23), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 22), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 21), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 20), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 19), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 18), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 17), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 16), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 15), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 14), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 13), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 12), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 11), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 10), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 9), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 8), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 7), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 6), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 5), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 4), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 3), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 2), ACBlocks.ethaxium_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 5, k - 1), ACBlocks.ethaxium_pillar.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 23), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 22), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 21), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 20), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 19), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 18), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 17), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 16), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 15), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 14), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 13), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 12), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 11), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 10), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 9), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 8), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 7), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 6), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 5), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 4), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 3), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 2), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(1), 2);
-		world.setBlockState(new BlockPos(i + 9, j + 6, k - 1), ACBlocks.ethaxium_brick_stairs.getStateFromMeta(3), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 8, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 7, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 6, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 5, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 0, j + 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 16), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 5, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 12), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 6, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 19), Blocks.AIR.getDefaultState(), 2);
-
-		generate3(world, rand, i, j, k);
-		return true;
-	}
-
-	public boolean generate3(World world, Random rand, int i, int j, int k) {
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 21), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 20), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 19), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 18), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 17), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 15), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 14), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 13), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 11), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 10), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 9), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 8), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 7), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 4), Blocks.LAVA.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 7, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 0, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 8, j + 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-
+		CompiledStructure.get(HOUSE).place(world, pos, Rotation.NONE, null);
 		return true;
 	}
 }
@@ -13,11 +13,14 @@ package com.shinoow.abyssalcraft.common.structures.abyss;
 
 import java.util.Random;
 
+import com.shinoow.abyssalcraft.AbyssalCraft;
 import com.shinoow.abyssalcraft.api.block.ACBlocks;
+import com.shinoow.abyssalcraft.common.structures.template.CompiledStructure;
 import com.shinoow.abyssalcraft.lib.ACLoot;
 
-import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Rotation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
@@ -26,10 +29,11 @@ import net.minecraft.world.storage.loot.LootTableList;
 public class Abyruin extends WorldGenerator
 {
 
+	private static final ResourceLocation RUIN = new ResourceLocation(AbyssalCraft.modid, "abyssal_ruin");
+
 	public Abyruin() { }
 
 	@Override
-	@SuppressWarnings("deprecation")
 	public boolean generate(World world, Random rand, BlockPos pos) {
 
 		while(world.isAirBlock(pos) && pos.getY() > 2)
@@ -41,579 +45,18 @@ public class Abyruin extends WorldGenerator
 				world.getBlockState(pos).getBlock() != ACBlocks.abyssal_sand)
 			return false;
 
+		CompiledStructure.get(RUIN).place(world, pos, Rotation.NONE, null);
+
 		int i = pos.getX();
 		int j = pos.getY();
 		int k = pos.getZ();
 
-		world.setBlockState(new BlockPos(i - 4, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 3, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 4, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 4, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 7, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 7, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 7, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 7, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 6, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 6, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 6, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 6, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 5, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j - 5, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 2), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k - 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 3), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 8, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 8, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 8, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 8, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 4, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 4, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 4, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 4, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 4, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 3, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 3, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 3, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 2, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 2, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 2, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 1, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 1, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 1, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 4), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 3), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k - 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k + 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 5, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 8, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 8, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 8, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 8, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 7, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 7, k - 3), Blocks.CHEST.getStateFromMeta(3), 2);
 		TileEntityChest tileentitychest = (TileEntityChest)world.getTileEntity(new BlockPos(i, j - 7, k - 3));
 		if(tileentitychest != null)
 			tileentitychest.setLootTable(ACLoot.CHEST_ABYSSAL_STRONGHOLD_CORRIDOR, rand.nextLong());
-		world.setBlockState(new BlockPos(i, j - 7, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 4, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 4, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 4, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 4, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 3, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 3, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 2, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 2, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 1, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 1, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 3), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 2), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k - 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k), ACBlocks.coralium_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k + 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k + 1), Blocks.CHEST.getStateFromMeta(2), 2);
 		TileEntityChest tileentitychest2 = (TileEntityChest)world.getTileEntity(new BlockPos(i, j + 1, k + 1));
 		if(tileentitychest2 != null)
 			tileentitychest2.setLootTable(LootTableList.CHESTS_SIMPLE_DUNGEON, rand.nextLong());
-		world.setBlockState(new BlockPos(i, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 5, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 5, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 5, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 8, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 8, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 8, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 8, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 4, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 4, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 4, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 4, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 4, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 3, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 3, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 3, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 2, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 2, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 2, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 1, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 1, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 1, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 4), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 3), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k - 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k + 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 7, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 7, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 7, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 7, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 6, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 6, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 6, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 6, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 5, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j - 5, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 2), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k - 1), ACBlocks.abyssal_stone.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 3), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 5, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 5, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 1, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 2, k + 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 4), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 2), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k), ACBlocks.abyssal_stone_brick_fence.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 3, k + 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 6), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 4), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 2), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 4, k - 1), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 5), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 4, j + 5, k - 3), ACBlocks.abyssal_stone_brick.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 3, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 3), Blocks.TORCH.getStateFromMeta(5), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k), Blocks.TORCH.getStateFromMeta(5), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 2, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 7, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 6, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j - 5, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i - 1, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 7, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 7, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 7, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 6, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j - 5, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 4, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 3, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 2, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j - 1, k), Blocks.LADDER.getStateFromMeta(2), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 1, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 7, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 6, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j - 5, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 6), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 1, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 3), Blocks.TORCH.getStateFromMeta(5), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k), Blocks.TORCH.getStateFromMeta(5), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 2, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 1, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 2, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 3, k + 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 5), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 4), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 3), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 2), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k - 1), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k), Blocks.AIR.getDefaultState(), 2);
-		world.setBlockState(new BlockPos(i + 3, j + 4, k + 1), Blocks.AIR.getDefaultState(), 2);
 
 		return true;
 	}
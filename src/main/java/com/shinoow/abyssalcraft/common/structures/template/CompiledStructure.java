@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.structures.template;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTSizeTracker;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+/**
+ * A structure compiled into a palette of block states, a run-length encoded volume and a tile entity list.<br>
+ * Compiled structures are read from "assets/[domain]/structures/compiled/[path].acs", and are placed
+ * by writing straight into the chunk sections, relighting each touched chunk once afterwards.
+ *
+ * @author shinoow
+ *
+ * @since 2.0.0
+ */
+public class CompiledStructure {
+
+	private static final int MAGIC = 0x41435354;
+	private static final int VERSION = 1;
+
+	private static final Map<ResourceLocation, CompiledStructure> CACHE = new HashMap<>();
+
+	private final int sizeX, sizeY, sizeZ;
+	private final BlockPos offset;
+	/** Palette states, index 0 is reserved for positions the structure doesn't touch */
+	private final IBlockState[] palette;
+	/** Palette indexes, ordered by y, then z, then x */
+	private final short[] volume;
+	private final Map<BlockPos, NBTTagCompound> tileEntities;
+
+	private CompiledStructure(int sizeX, int sizeY, int sizeZ, BlockPos offset, IBlockState[] palette, short[] volume, Map<BlockPos, NBTTagCompound> tileEntities){
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		this.offset = offset;
+		this.palette = palette;
+		this.volume = volume;
+		this.tileEntities = tileEntities;
+	}
+
+	/**
+	 * Fetches a compiled structure, loading it on first use
+	 * @param location Structure location, resolved to "assets/[domain]/structures/compiled/[path].acs"
+	 * @return The compiled structure
+	 */
+	public static CompiledStructure get(ResourceLocation location){
+		synchronized(CACHE){
+			CompiledStructure structure = CACHE.get(location);
+			if(structure == null){
+				String path = "/assets/" + location.getResourceDomain() + "/structures/compiled/" + location.getResourcePath() + ".acs";
+				try(InputStream in = CompiledStructure.class.getResourceAsStream(path)){
+					if(in == null) throw new FileNotFoundException(path);
+					structure = read(in);
+				} catch(IOException e){
+					throw new IllegalStateException("Failed to load compiled structure " + location, e);
+				}
+				CACHE.put(location, structure);
+			}
+			return structure;
+		}
+	}
+
+	public int getSizeX(){
+		return sizeX;
+	}
+
+	public int getSizeY(){
+		return sizeY;
+	}
+
+	public int getSizeZ(){
+		return sizeZ;
+	}
+
+	/**
+	 * Offset from the position passed to {@link #place} to the lowest corner of the structure (before rotation)
+	 */
+	public BlockPos getOffset(){
+		return offset;
+	}
+
+	/**
+	 * Calculates the area the structure will occupy
+	 * @param pos Position the structure is placed at
+	 * @param rotation Rotation around that position
+	 */
+	public StructureBoundingBox getBoundingBox(BlockPos pos, Rotation rotation){
+		BlockPos min = transform(offset, rotation);
+		BlockPos max = transform(offset.add(sizeX - 1, sizeY - 1, sizeZ - 1), rotation);
+		return new StructureBoundingBox(pos.add(min), pos.add(max));
+	}
+
+	/**
+	 * Places the structure.<br>
+	 * Blocks are written directly into the chunk sections (like a ChunkPrimer would during generation),
+	 * so neighbors aren't notified and {@link Block#onBlockAdded} isn't called. Blocks with tile entities
+	 * still go through {@link World#setBlockState}.
+	 * @param world Current World
+	 * @param pos Position to place the structure at
+	 * @param rotation Rotation around that position
+	 * @param processor Optional function applied to every palette state before rotating it
+	 * (can be used to randomize blocks, eg. swap bricks for cracked ones)
+	 */
+	@SuppressWarnings("deprecation")
+	public void place(World world, BlockPos pos, Rotation rotation, @Nullable UnaryOperator<IBlockState> processor){
+		IBlockState[] states = new IBlockState[palette.length];
+		for(int i = 1; i < palette.length; i++)
+			if(palette[i] != null)
+				states[i] = palette[i].withRotation(rotation);
+
+		StructureBoundingBox box = getBoundingBox(pos, rotation);
+		List<Chunk> chunks = new ArrayList<>();
+		List<BlockPos> deferredPositions = new ArrayList<>();
+		List<IBlockState> deferredStates = new ArrayList<>();
+		List<BlockPos> lightChecks = new ArrayList<>();
+		MutableBlockPos mpos = new MutableBlockPos();
+
+		for(int cx = box.minX >> 4; cx <= box.maxX >> 4; cx++)
+			for(int cz = box.minZ >> 4; cz <= box.maxZ >> 4; cz++){
+				Chunk chunk = world.getChunkFromChunkCoords(cx, cz);
+				ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+				boolean modified = false;
+
+				for(int x = Math.max(box.minX, cx << 4); x <= Math.min(box.maxX, (cx << 4) + 15); x++)
+					for(int z = Math.max(box.minZ, cz << 4); z <= Math.min(box.maxZ, (cz << 4) + 15); z++){
+						int column = untransform(x - pos.getX(), z - pos.getZ(), rotation);
+						int lx = (short)(column >> 16) - offset.getX();
+						int lz = (short)column - offset.getZ();
+
+						for(int ly = 0; ly < sizeY; ly++){
+							int index = volume[(ly * sizeZ + lz) * sizeX + lx];
+							if(states[index] == null) continue;
+							int y = pos.getY() + offset.getY() + ly;
+							if(y < 0 || y > 255) continue;
+
+							IBlockState state = processor == null ? states[index] : processor.apply(palette[index]).withRotation(rotation);
+							ExtendedBlockStorage storage = storages[y >> 4];
+							if(storage == Chunk.NULL_BLOCK_STORAGE){
+								if(state.getBlock() == Blocks.AIR) continue;
+								storage = storages[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, world.provider.hasSkyLight());
+							}
+							IBlockState old = storage.get(x & 15, y & 15, z & 15);
+							if(old == state) continue;
+
+							mpos.setPos(x, y, z);
+							if(old.getBlock().hasTileEntity(old) || state.getBlock().hasTileEntity(state)){
+								deferredPositions.add(mpos.toImmutable());
+								deferredStates.add(state);
+								continue;
+							}
+							storage.set(x & 15, y & 15, z & 15, state);
+							if(old.getLightValue() != state.getLightValue())
+								lightChecks.add(mpos.toImmutable());
+							modified = true;
+						}
+					}
+
+				if(modified){
+					chunk.setModified(true);
+					chunk.generateSkylightMap();
+					chunks.add(chunk);
+				}
+			}
+
+		for(int i = 0; i < deferredPositions.size(); i++)
+			world.setBlockState(deferredPositions.get(i), deferredStates.get(i), 2);
+
+		for(Map.Entry<BlockPos, NBTTagCompound> entry : tileEntities.entrySet()){
+			BlockPos tilePos = pos.add(transform(offset.add(entry.getKey()), rotation));
+			TileEntity tile = world.getTileEntity(tilePos);
+			if(tile != null){
+				NBTTagCompound nbt = entry.getValue().copy();
+				nbt.setInteger("x", tilePos.getX());
+				nbt.setInteger("y", tilePos.getY());
+				nbt.setInteger("z", tilePos.getZ());
+				tile.readFromNBT(nbt);
+				tile.rotate(rotation);
+				tile.markDirty();
+			}
+		}
+
+		for(BlockPos lightPos : lightChecks)
+			world.checkLight(lightPos);
+
+		if(world instanceof WorldServer){
+			PlayerChunkMap pcm = ((WorldServer)world).getPlayerChunkMap();
+			for(Chunk c : chunks){
+				PlayerChunkMapEntry w = pcm.getEntry(c.x, c.z);
+				if(w != null)
+					w.sendPacket(new SPacketChunkData(c, 65535));
+			}
+		}
+	}
+
+	private static BlockPos transform(BlockPos pos, Rotation rotation){
+		switch(rotation){
+		case CLOCKWISE_90:
+			return new BlockPos(-pos.getZ(), pos.getY(), pos.getX());
+		case CLOCKWISE_180:
+			return new BlockPos(-pos.getX(), pos.getY(), -pos.getZ());
+		case COUNTERCLOCKWISE_90:
+			return new BlockPos(pos.getZ(), pos.getY(), -pos.getX());
+		default:
+			return pos;
+		}
+	}
+
+	/**
+	 * Reverses {@link #transform} for a column, packing x into the upper and z into the lower 16 bits
+	 */
+	private static int untransform(int x, int z, Rotation rotation){
+		switch(rotation){
+		case CLOCKWISE_90:
+			return z << 16 | -x & 0xFFFF;
+		case CLOCKWISE_180:
+			return -x << 16 | -z & 0xFFFF;
+		case COUNTERCLOCKWISE_90:
+			return -z << 16 | x & 0xFFFF;
+		default:
+			return x << 16 | z & 0xFFFF;
+		}
+	}
+
+	/**
+	 * Reads a compiled structure
+	 * @param stream GZIP compressed structure data
+	 * @throws IOException If the data is malformed
+	 */
+	public static CompiledStructure read(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+		if(in.readInt() != MAGIC) throw new IOException("Not a compiled structure");
+		int version = in.readUnsignedByte();
+		if(version != VERSION) throw new IOException("Unsupported compiled structure version " + version);
+
+		int sizeX = in.readShort(), sizeY = in.readShort(), sizeZ = in.readShort();
+		BlockPos offset = new BlockPos(in.readInt(), in.readInt(), in.readInt());
+
+		IBlockState[] palette = new IBlockState[readVarInt(in) + 1];
+		for(int i = 1; i < palette.length; i++)
+			palette[i] = getState(in.readUTF(), in.readUnsignedByte());
+
+		short[] volume = new short[sizeX * sizeY * sizeZ];
+		for(int i = 0; i < volume.length;){
+			int run = readVarInt(in);
+			int index = readVarInt(in);
+			if(run <= 0 || i + run > volume.length || index >= palette.length) throw new IOException("Malformed structure volume");
+			Arrays.fill(volume, i, i + run, (short)index);
+			i += run;
+		}
+
+		int tiles = readVarInt(in);
+		Map<BlockPos, NBTTagCompound> tileEntities = new HashMap<>(tiles);
+		for(int i = 0; i < tiles; i++){
+			NBTTagCompound nbt = CompressedStreamTools.read(in, NBTSizeTracker.INFINITE);
+			tileEntities.put(new BlockPos(nbt.getInteger("x"), nbt.getInteger("y"), nbt.getInteger("z")), nbt);
+		}
+
+		return new CompiledStructure(sizeX, sizeY, sizeZ, offset, palette, volume, tileEntities);
+	}
+
+	/**
+	 * Writes the structure in the format {@link #read} expects
+	 * @param stream Stream to write to (will be GZIP compressed)
+	 */
+	@SuppressWarnings("deprecation")
+	public void write(OutputStream stream) throws IOException {
+		GZIPOutputStream gzip = new GZIPOutputStream(stream);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeShort(sizeX);
+		out.writeShort(sizeY);
+		out.writeShort(sizeZ);
+		out.writeInt(offset.getX());
+		out.writeInt(offset.getY());
+		out.writeInt(offset.getZ());
+
+		writeVarInt(out, palette.length - 1);
+		for(int i = 1; i < palette.length; i++){
+			IBlockState state = palette[i] != null ? palette[i] : Blocks.AIR.getDefaultState();
+			out.writeUTF(state.getBlock().getRegistryName().toString());
+			out.writeByte(state.getBlock().getMetaFromState(state));
+		}
+
+		for(int i = 0; i < volume.length;){
+			int run = 1;
+			while(i + run < volume.length && volume[i + run] == volume[i])
+				run++;
+			writeVarInt(out, run);
+			writeVarInt(out, volume[i]);
+			i += run;
+		}
+
+		writeVarInt(out, tileEntities.size());
+		for(Map.Entry<BlockPos, NBTTagCompound> entry : tileEntities.entrySet()){
+			NBTTagCompound nbt = entry.getValue().copy();
+			nbt.setInteger("x", entry.getKey().getX());
+			nbt.setInteger("y", entry.getKey().getY());
+			nbt.setInteger("z", entry.getKey().getZ());
+			CompressedStreamTools.write(nbt, out);
+		}
+
+		out.flush();
+		gzip.finish();
+	}
+
+	@SuppressWarnings("deprecation")
+	private static IBlockState getState(String name, int meta){
+		ResourceLocation location = new ResourceLocation(name);
+		if(!ForgeRegistries.BLOCKS.containsKey(location)){
+			ACLogger.warning("Compiled structure references unknown block %s, it will be skipped", name);
+			return null;
+		}
+		return ForgeRegistries.BLOCKS.getValue(location).getStateFromMeta(meta);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+		for(int shift = 0; shift < 35; shift += 7){
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("VarInt too big");
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException {
+		while((value & ~0x7F) != 0){
+			out.writeByte(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Collects block states and tile entities and compiles them into a structure.<br>
+	 * Positions are relative to the point the structure will be placed at, and later writes replace earlier ones.
+	 */
+	public static class Builder {
+
+		private final Map<BlockPos, IBlockState> blocks = new HashMap<>();
+		private final Map<BlockPos, NBTTagCompound> tileEntities = new HashMap<>();
+
+		public Builder setBlockState(BlockPos pos, IBlockState state){
+			blocks.put(pos.toImmutable(), state);
+			return this;
+		}
+
+		public Builder setTileEntity(BlockPos pos, NBTTagCompound nbt){
+			tileEntities.put(pos.toImmutable(), nbt.copy());
+			return this;
+		}
+
+		public CompiledStructure build(){
+			if(blocks.isEmpty()) throw new IllegalStateException("Can't compile an empty structure");
+			int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+			int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+			for(BlockPos pos : blocks.keySet()){
+				minX = Math.min(minX, pos.getX());
+				minY = Math.min(minY, pos.getY());
+				minZ = Math.min(minZ, pos.getZ());
+				maxX = Math.max(maxX, pos.getX());
+				maxY = Math.max(maxY, pos.getY());
+				maxZ = Math.max(maxZ, pos.getZ());
+			}
+			int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+			if(sizeX > Short.MAX_VALUE || sizeZ > Short.MAX_VALUE || sizeY > 256)
+				throw new IllegalStateException("Structure too large to compile");
+
+			List<IBlockState> palette = new ArrayList<>();
+			palette.add(null);
+			Map<IBlockState, Integer> indexes = new HashMap<>();
+			short[] volume = new short[sizeX * sizeY * sizeZ];
+			for(Map.Entry<BlockPos, IBlockState> entry : blocks.entrySet()){
+				Integer index = indexes.get(entry.getValue());
+				if(index == null){
+					index = palette.size();
+					palette.add(entry.getValue());
+					indexes.put(entry.getValue(), index);
+				}
+				BlockPos pos = entry.getKey();
+				volume[((pos.getY() - minY) * sizeZ + pos.getZ() - minZ) * sizeX + pos.getX() - minX] = index.shortValue();
+			}
+
+			BlockPos min = new BlockPos(minX, minY, minZ);
+			Map<BlockPos, NBTTagCompound> tiles = new HashMap<>();
+			for(Map.Entry<BlockPos, NBTTagCompound> entry : tileEntities.entrySet())
+				tiles.put(entry.getKey().subtract(min), entry.getValue());
+
+			return new CompiledStructure(sizeX, sizeY, sizeZ, min, palette.toArray(new IBlockState[palette.size()]), volume, tiles);
+		}
+	}
+}
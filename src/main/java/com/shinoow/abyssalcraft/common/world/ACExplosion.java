@@ -13,14 +13,12 @@ package com.shinoow.abyssalcraft.common.world;
 
 import java.util.*;
 
-import com.google.common.collect.Lists;
 import com.shinoow.abyssalcraft.api.block.ACBlocks;
 import com.shinoow.abyssalcraft.common.entity.EntityODBPrimed;
 import com.shinoow.abyssalcraft.common.entity.EntityODBcPrimed;
 import com.shinoow.abyssalcraft.lib.util.ScheduledProcess;
 import com.shinoow.abyssalcraft.lib.util.Scheduler;
 
-import gnu.trove.set.hash.THashSet;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.enchantment.EnchantmentProtection;
@@ -36,6 +34,7 @@ import net.minecraft.util.DamageSource;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.*;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.Explosion;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -61,13 +60,14 @@ public class ACExplosion extends Explosion
 	public double explosionZ;
 	public Entity exploder;
 	public float explosionSize;
-	/** A list of BlockPos of blocks affected by this explosion */
+	/** A list of BlockPos of blocks affected by this explosion (only filled for explosions up to size 32) */
 	public List<BlockPos> affectedBlockPositions = new ArrayList<>();
-	private List<BlockPos> innerBlocks = new ArrayList<>();
-	private List<BlockPos> outerBlocks = new ArrayList<>();
+	/** Sections touched by the crater, grouped per chunk */
+	private List<Section> sections = new ArrayList<>();
 	private Map<EntityPlayer, Vec3d> playerKnockbackMap = new HashMap<>();
-	private Map<ChunkPos, Chunk> chunkCache = new HashMap<>();
-	private Set<Chunk> chunks = new THashSet<>();
+	private Set<Chunk> chunks = new LinkedHashSet<>();
+	private Iterator<Chunk> relight;
+	private int phase, cursor;
 
 	public ACExplosion(World world, Entity entity, double x, double y, double z, float strength, boolean antimatter, boolean smoke)
 	{
@@ -82,19 +82,6 @@ public class ACExplosion extends Explosion
 		isSmoking = smoke;
 	}
 
-	private void checkAndAdd(BlockPos pos, List<BlockPos> list){
-
-		if(!worldObj.isOutsideBuildHeight(pos)) {
-			Chunk c = getChunk(pos);
-			IBlockState iblockstate = c.getBlockState(pos);
-
-			float f2 = exploder != null ? exploder.getExplosionResistance(this, worldObj, pos, iblockstate) : iblockstate.getBlock().getExplosionResistance(worldObj, pos, (Entity)null, this);
-
-			if(f2 < 600000 && iblockstate.getMaterial() != Material.AIR)
-				list.add(pos);
-		}
-	}
-
 	/**
 	 * Does the first part of the explosion (destroy blocks)
 	 */
@@ -115,55 +102,49 @@ public class ACExplosion extends Explosion
 		final int ceilRadiusY = (int) Math.ceil(radiusY);
 		final int ceilRadiusZ = (int) Math.ceil(radiusZ);
 
-		double nextXn = 0;
-		forX: for (int x = 0; x <= ceilRadiusX; ++x) {
-			final double xn = nextXn;
-			nextXn = (x + 1) * invRadiusX;
-			double nextYn = 0;
-			forY: for (int y = 0; y <= ceilRadiusY; ++y) {
-				final double yn = nextYn;
-				nextYn = (y + 1) * invRadiusY;
-				double nextZn = 0;
-				forZ: for (int z = 0; z <= ceilRadiusZ; ++z) {
-					final double zn = nextZn;
-					nextZn = (z + 1) * invRadiusZ;
-
-					double distanceSq = xn*xn + yn*yn + zn*zn;
-					if (distanceSq > 1) {
-						if (z == 0) {
-							if (y == 0)
-								break forX;
-							break forY;
+		MutableBlockPos mpos = new MutableBlockPos();
+		for(int cx = pos.getX() - ceilRadiusX >> 4; cx <= pos.getX() + ceilRadiusX >> 4; cx++)
+			for(int cz = pos.getZ() - ceilRadiusZ >> 4; cz <= pos.getZ() + ceilRadiusZ >> 4; cz++) {
+				if(distanceSq(nearest(pos.getX(), cx), invRadiusX, 0, invRadiusY, nearest(pos.getZ(), cz), invRadiusZ) > 1)
+					continue;
+				Chunk chunk = worldObj.getChunkFromChunkCoords(cx, cz);
+				for(int cy = Math.max(pos.getY() - ceilRadiusY, 0) >> 4; cy <= Math.min(pos.getY() + ceilRadiusY, 255) >> 4; cy++) {
+					ExtendedBlockStorage storage = chunk.getBlockStorageArray()[cy];
+					if(storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) continue;
+					int nx = nearest(pos.getX(), cx), ny = nearest(pos.getY(), cy), nz = nearest(pos.getZ(), cz);
+					if(distanceSq(nx, invRadiusX, ny, invRadiusY, nz, invRadiusZ) > 1) continue;
+					int fx = farthest(pos.getX(), cx), fy = farthest(pos.getY(), cy), fz = farthest(pos.getZ(), cz);
+					boolean allInner = isInner(fx, invRadiusX, fy, invRadiusY, fz, invRadiusZ);
+
+					Section section = new Section(chunk, cy);
+					boolean clearable = allInner;
+					for(int i = 0; i < 4096; i++) {
+						int x = i & 15, z = i >> 4 & 15, y = i >> 8;
+						int dx = Math.abs((cx << 4 | x) - pos.getX()), dy = Math.abs((cy << 4 | y) - pos.getY()), dz = Math.abs((cz << 4 | z) - pos.getZ());
+						boolean inner = allInner || isInner(dx, invRadiusX, dy, invRadiusY, dz, invRadiusZ);
+						if(!inner && distanceSq(dx, invRadiusX, dy, invRadiusY, dz, invRadiusZ) > 1) continue;
+
+						IBlockState state = storage.get(x, y, z);
+						if(state.getMaterial() == Material.AIR) continue;
+						mpos.setPos(cx << 4 | x, cy << 4 | y, cz << 4 | z);
+						float resistance = exploder != null ? exploder.getExplosionResistance(this, worldObj, mpos, state) : state.getBlock().getExplosionResistance(worldObj, mpos, (Entity)null, this);
+						if(resistance >= 600000) {
+							clearable = false;
+							continue;
 						}
-						break forZ;
-					}
-
-					if (nextXn*nextXn + yn*yn + zn*zn <= 1 && xn*xn + nextYn*nextYn + zn*zn <= 1 && xn*xn + yn*yn + nextZn*nextZn <= 1) {
-						checkAndAdd(pos.add(x, y, z), innerBlocks);
-						checkAndAdd(pos.add(-x, y, z), innerBlocks);
-						checkAndAdd(pos.add(x, -y, z), innerBlocks);
-						checkAndAdd(pos.add(x, y, -z), innerBlocks);
-						checkAndAdd(pos.add(-x, -y, z), innerBlocks);
-						checkAndAdd(pos.add(x, -y, -z), innerBlocks);
-						checkAndAdd(pos.add(-x, y, -z), innerBlocks);
-						checkAndAdd(pos.add(-x, -y, -z), innerBlocks);
-					} else {
-						checkAndAdd(pos.add(x, y, z), outerBlocks);
-						checkAndAdd(pos.add(-x, y, z), outerBlocks);
-						checkAndAdd(pos.add(x, -y, z), outerBlocks);
-						checkAndAdd(pos.add(x, y, -z), outerBlocks);
-						checkAndAdd(pos.add(-x, -y, z), outerBlocks);
-						checkAndAdd(pos.add(x, -y, -z), outerBlocks);
-						checkAndAdd(pos.add(-x, y, -z), outerBlocks);
-						checkAndAdd(pos.add(-x, -y, -z), outerBlocks);
+						(inner ? section.inner : section.outer).set(i);
 					}
+					section.cleared = clearable;
+					if(!section.inner.isEmpty() || !section.outer.isEmpty())
+						sections.add(section);
 				}
 			}
-		}
 
 		if(explosionSize <= 32) {
-			affectedBlockPositions.addAll(innerBlocks);
-			affectedBlockPositions.addAll(outerBlocks);
+			for(Section section : sections)
+				section.addPositions(section.inner, affectedBlockPositions);
+			for(Section section : sections)
+				section.addPositions(section.outer, affectedBlockPositions);
 		}
 
 		if(!worldObj.isRemote){
@@ -223,12 +204,27 @@ public class ACExplosion extends Explosion
 		}
 	}
 
-	private Chunk getChunk(BlockPos pos) {
+	/** Offset from the center to the closest block of a section (on one axis) */
+	private static int nearest(int center, int section) {
+		int min = section << 4, max = min + 15;
+		return center < min ? min - center : center > max ? center - max : 0;
+	}
+
+	/** Offset from the center to the farthest block of a section (on one axis) */
+	private static int farthest(int center, int section) {
+		int min = section << 4;
+		return Math.max(Math.abs(center - min), Math.abs(min + 15 - center));
+	}
 
-		ChunkPos cp = new ChunkPos(pos);
-		chunkCache.putIfAbsent(cp, worldObj.getChunkFromChunkCoords(cp.x, cp.z));
+	private static double distanceSq(int x, double invRadiusX, int y, double invRadiusY, int z, double invRadiusZ) {
+		double xn = x * invRadiusX, yn = y * invRadiusY, zn = z * invRadiusZ;
+		return xn*xn + yn*yn + zn*zn;
+	}
 
-		return chunkCache.get(cp);
+	/** Whether a block is inside the crater, and not part of its shell */
+	private static boolean isInner(int x, double invRadiusX, int y, double invRadiusY, int z, double invRadiusZ) {
+		return distanceSq(x + 1, invRadiusX, y, invRadiusY, z, invRadiusZ) <= 1 && distanceSq(x, invRadiusX, y + 1, invRadiusY, z, invRadiusZ) <= 1
+				&& distanceSq(x, invRadiusX, y, invRadiusY, z + 1, invRadiusZ) <= 1;
 	}
 
 	/**
@@ -244,101 +240,89 @@ public class ACExplosion extends Explosion
 		else
 			worldObj.spawnParticle(EnumParticleTypes.EXPLOSION_LARGE, explosionX, explosionY, explosionZ, 1.0D, 0.0D, 0.0D);
 
-		int num = 1;
-		int index = 0;
-		if (isSmoking){
-			List<List<BlockPos>> innerLists = Lists.partition(innerBlocks, 1000);
-			for(List<BlockPos> innerList : innerLists) {
-				Scheduler.schedule(new ScheduledProcess(num) {
-
-					@Override
-					public void execute() {
-						for(BlockPos pos : innerList) {
-							Chunk chunk = getChunk(pos);
-							ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
-							if(storage != null)
-								storage.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, Blocks.AIR.getDefaultState());
-							chunks.add(chunk);
-						}
-
-					}
-
-				});
-				index++;
-				if(index % 1000 == 0)
-					num++;
-			}
+		phase = isSmoking ? 0 : isAntimatter ? 2 : 3;
+		scheduleNextStep(par1);
+	}
 
-			List<List<BlockPos>> outerLists = Lists.partition(outerBlocks, 100);
-			for(List<BlockPos> outerList : outerLists) {
-				ACExplosion explosion = this;
-				Scheduler.schedule(new ScheduledProcess(num) {
-
-					@Override
-					public void execute() {
-						for(BlockPos pos : outerList)
-							if(par1)
-								worldObj.getBlockState(pos).getBlock().onBlockExploded(worldObj, pos, explosion);
-							else {
-								Chunk chunk = getChunk(pos);
-								ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
-								if(storage != null)
-									storage.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, Blocks.AIR.getDefaultState());
-								chunks.add(chunk);
-							}
-					}
+	private void scheduleNextStep(boolean par1) {
+		Scheduler.schedule(worldObj, new ScheduledProcess(1) {
 
-				});
-				index++;
-				if(index % 100 == 0)
-					num++;
+			@Override
+			public void execute() {
+				long deadline = System.nanoTime() + getTickBudget();
+				while(phase < 4 && System.nanoTime() < deadline)
+					step(par1);
+				if(phase < 4)
+					scheduleNextStep(par1);
+				else if(exploder instanceof EntityODBPrimed)
+					((EntityODBPrimed)exploder).finishExplosion(10, ACExplosion.this);
 			}
-		}
 
-		if (isAntimatter) {
-			List<List<BlockPos>> extraLists = Lists.partition(explosionSize <= 32 ? affectedBlockPositions : outerBlocks, 100);
-			for(List<BlockPos> extraList : extraLists) {
-				Scheduler.schedule(new ScheduledProcess(num) {
-
-					@Override
-					public void execute() {
-						for(BlockPos pos1 : extraList)
-						{
-							IBlockState block = worldObj.getBlockState(pos1);
-							IBlockState block1 = worldObj.getBlockState(pos1.down());
+		});
+	}
 
-							if (block.getMaterial() == Material.AIR && block1.isFullBlock() && explosionRNG.nextInt(3) == 0)
-								worldObj.setBlockState(pos1, ACBlocks.liquid_antimatter.getDefaultState());
-						}
-					}
+	/**
+	 * How long the explosion can work each tick, based on how much time the server has left over
+	 */
+	private long getTickBudget() {
+		long[] tickTimes = worldObj.getMinecraftServer().tickTimeArray;
+		long total = 0;
+		for(long time : tickTimes)
+			total += time;
+		return MathHelper.clamp(40000000L - total / tickTimes.length, 2000000L, 20000000L);
+	}
 
-				});
-				index++;
-				if(index % 100 == 0)
-					num++;
+	/**
+	 * Processes the next section (or chunk, when relighting and resending)
+	 */
+	private void step(boolean par1) {
+		if(phase == 3) {
+			if(relight == null)
+				relight = chunks.iterator();
+			if(!relight.hasNext()) {
+				phase++;
+				return;
 			}
+			Chunk c = relight.next();
+			c.setModified(true);
+			c.generateSkylightMap();
+
+			PlayerChunkMap pcm = ((WorldServer)worldObj).getPlayerChunkMap();
+			PlayerChunkMapEntry w = pcm != null ? pcm.getEntry(c.x, c.z) : null;
+			if(w != null)
+				w.sendPacket(new SPacketChunkData(c, 65535));
+			return;
 		}
-
-		Scheduler.schedule(new ScheduledProcess(num+1) {
-
-			@Override
-			public void execute() {
-				PlayerChunkMap pcm = ((WorldServer)worldObj).getPlayerChunkMap();
-				if(pcm != null)
-					for(Chunk c : chunks) {
-						c.setModified(true);
-						c.generateSkylightMap();
-
-						PlayerChunkMapEntry w = pcm.getEntry(c.x, c.z);
-						if(w != null)
-							w.sendPacket(new SPacketChunkData(c, 65535));
-					}
+		if(cursor >= sections.size()) {
+			cursor = 0;
+			phase = phase == 0 ? 1 : phase == 1 && isAntimatter ? 2 : 3;
+			return;
+		}
+		Section section = sections.get(cursor++);
+		switch(phase) {
+		case 0:
+			if(section.cleared)
+				section.chunk.getBlockStorageArray()[section.y] = Chunk.NULL_BLOCK_STORAGE;
+			else section.clear(section.inner);
+			chunks.add(section.chunk);
+			break;
+		case 1:
+			if(par1)
+				for(int i = section.outer.nextSetBit(0); i >= 0; i = section.outer.nextSetBit(i + 1)) {
+					BlockPos pos = section.getPos(i);
+					worldObj.getBlockState(pos).getBlock().onBlockExploded(worldObj, pos, this);
+				}
+			else {
+				section.clear(section.outer);
+				chunks.add(section.chunk);
 			}
-
-		});
-
-		if(exploder instanceof EntityODBPrimed)
-			((EntityODBPrimed)exploder).finishExplosion(num + 10, this);
+			break;
+		case 2:
+			if(explosionSize <= 32)
+				section.spawnAntimatter(section.inner);
+			section.spawnAntimatter(section.outer);
+			break;
+		}
 	}
 
 	@Override
@@ -350,7 +334,7 @@ public class ACExplosion extends Explosion
 	@Override
 	public List<BlockPos> getAffectedBlockPositions()
 	{
-		return explosionSize <= 32 ? affectedBlockPositions : innerBlocks;
+		return affectedBlockPositions;
 	}
 
 	/**
@@ -361,4 +345,49 @@ public class ACExplosion extends Explosion
 	{
 		return exploder == null ? null : exploder instanceof EntityODBPrimed ? ((EntityODBPrimed)exploder).getODBPlacedBy() : exploder instanceof EntityODBcPrimed ? ((EntityODBcPrimed)exploder).getODBCPlacedBy() : exploder instanceof EntityLivingBase ? (EntityLivingBase)exploder : null;
 	}
+
+	/**
+	 * Blocks of a chunk section affected by the explosion, stored as bits indexed by y << 8 | z << 4 | x
+	 */
+	private class Section {
+
+		private final Chunk chunk;
+		private final int y;
+		private final BitSet inner = new BitSet(4096);
+		private final BitSet outer = new BitSet(4096);
+		/** Whether the whole section can be removed at once */
+		private boolean cleared;
+
+		private Section(Chunk chunk, int y) {
+			this.chunk = chunk;
+			this.y = y;
+		}
+
+		private BlockPos getPos(int index) {
+			return new BlockPos(chunk.x << 4 | index & 15, y << 4 | index >> 8, chunk.z << 4 | index >> 4 & 15);
+		}
+
+		private void addPositions(BitSet bits, List<BlockPos> list) {
+			for(int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+				list.add(getPos(i));
+		}
+
+		private void clear(BitSet bits) {
+			ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y];
+			if(storage != Chunk.NULL_BLOCK_STORAGE)
+				for(int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+					storage.set(i & 15, i >> 8, i >> 4 & 15, Blocks.AIR.getDefaultState());
+		}
+
+		private void spawnAntimatter(BitSet bits) {
+			for(int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+				BlockPos pos1 = getPos(i);
+				IBlockState block = worldObj.getBlockState(pos1);
+				IBlockState block1 = worldObj.getBlockState(pos1.down());
+
+				if (block.getMaterial() == Material.AIR && block1.isFullBlock() && explosionRNG.nextInt(3) == 0)
+					worldObj.setBlockState(pos1, ACBlocks.liquid_antimatter.getDefaultState());
+			}
+		}
+	}
 }
@@ -16,15 +16,18 @@ import java.util.Random;
 import com.shinoow.abyssalcraft.api.biome.IDarklandsBiome;
 import com.shinoow.abyssalcraft.api.block.ACBlocks;
 import com.shinoow.abyssalcraft.common.structures.StructureShoggothPit;
+import com.shinoow.abyssalcraft.common.world.GenerationTimings.Stage;
 import com.shinoow.abyssalcraft.init.InitHandler;
 import com.shinoow.abyssalcraft.lib.ACConfig;
 
 import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Biomes;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraft.world.gen.feature.WorldGenMinable;
@@ -45,39 +48,41 @@ public class AbyssalCraftWorldGenerator implements IWorldGenerator {
 
 	public void generateSurface(World world, Random random, int chunkX, int chunkZ) {
 
+		SurfaceCache surface = new SurfaceCache(world, chunkX, chunkZ);
 		boolean blacklisted = InitHandler.INSTANCE.isDimBlacklistedFromStructureGen(world.provider.getDimension());
-		if(ACConfig.generateDarklandsStructures && !blacklisted && world.getBiome(new BlockPos(chunkX, 0, chunkZ)) instanceof IDarklandsBiome){
+		if(ACConfig.generateDarklandsStructures && !blacklisted && surface.getBiome(chunkX, chunkZ) instanceof IDarklandsBiome){
+			IBlockState grass = Blocks.GRASS.getDefaultState();
 
 			int x = chunkX + random.nextInt(16) + 8;
 			int z = chunkZ + random.nextInt(16) + 8;
-			DarklandsStructureGenerator.generate(1, world, random, world.getHeight(new BlockPos(x, 0, z)));
+			DarklandsStructureGenerator.generate(1, world, random, surface, x, z, grass);
 
 			x = chunkX + random.nextInt(16) + 8;
 			z = chunkZ + random.nextInt(16) + 8;
-			DarklandsStructureGenerator.generate(2, world, random, world.getHeight(new BlockPos(x, 0, z)));
+			DarklandsStructureGenerator.generate(2, world, random, surface, x, z, grass);
 
 			x = chunkX + random.nextInt(16) + 8;
 			z = chunkZ + random.nextInt(16) + 8;
-			DarklandsStructureGenerator.generate(3, world, random, world.getHeight(new BlockPos(x, 0, z)));
+			DarklandsStructureGenerator.generate(3, world, random, surface, x, z, grass);
 
 			x = chunkX + random.nextInt(16) + 8;
 			z = chunkZ + random.nextInt(16) + 8;
-			DarklandsStructureGenerator.generate(4, world, random, world.getHeight(new BlockPos(x, 0, z)),
-					Blocks.GRASS.getDefaultState(), ACBlocks.darkstone.getDefaultState());
+			DarklandsStructureGenerator.generate(4, world, random, surface, x, z, grass, ACBlocks.darkstone.getDefaultState());
 
 			x = chunkX + random.nextInt(16) + 8;
 			z = chunkZ + random.nextInt(16) + 8;
-			DarklandsStructureGenerator.generate(0, world, random, world.getHeight(new BlockPos(x, 0, z)));
+			DarklandsStructureGenerator.generate(0, world, random, surface, x, z, grass);
 		}
 
 		if(!InitHandler.INSTANCE.isDimBlacklistedFromOreGen(world.provider.getDimension())) {
 			if(ACConfig.generateCoraliumOre){
+				long time = System.nanoTime();
 				for(int rarity = 0; rarity < InitHandler.coraliumOreGeneration[0]/2; rarity++) {
 					int veinSize = InitHandler.coraliumOreGeneration[1];
 					int x = chunkX + random.nextInt(16);
 					int y = random.nextInt(InitHandler.coraliumOreGeneration[2]);
 					int z = chunkZ + random.nextInt(16);
-					if(BiomeDictionary.hasType(world.getBiome(new BlockPos(x, 0, z)), Type.SWAMP))
+					if(BiomeDictionary.hasType(surface.getBiome(x, z), Type.SWAMP))
 						new WorldGenMinable(ACBlocks.coralium_ore.getDefaultState(), veinSize).generate(world, random, new BlockPos(x, y, z));
 				}
 
@@ -86,15 +91,17 @@ public class AbyssalCraftWorldGenerator implements IWorldGenerator {
 					int x = chunkX + random.nextInt(16);
 					int y = random.nextInt(InitHandler.coraliumOreGeneration[2]);
 					int z = chunkZ + random.nextInt(16);
-					if(BiomeDictionary.hasType(world.getBiome(new BlockPos(x, 0, z)), Type.OCEAN) &&
-							world.getBiome(new BlockPos(x, 0, z))!=Biomes.DEEP_OCEAN)
-						new WorldGenMinable(ACBlocks.coralium_ore.getDefaultState(), veinSize).generate(world, random, new BlockPos(x, y, z));
-					if(world.getBiome(new BlockPos(x, 0, z))==Biomes.DEEP_OCEAN)
+					Biome biome = surface.getBiome(x, z);
+					if(biome == Biomes.DEEP_OCEAN)
 						new WorldGenMinable(ACBlocks.coralium_ore.getDefaultState(), veinSize).generate(world, random, new BlockPos(x, y-20, z));
+					else if(BiomeDictionary.hasType(biome, Type.OCEAN))
+						new WorldGenMinable(ACBlocks.coralium_ore.getDefaultState(), veinSize).generate(world, random, new BlockPos(x, y, z));
 				}
+				GenerationTimings.record(Stage.CORALIUM_ORE, time);
 			}
 
-			if(ACConfig.generateNitreOre)
+			if(ACConfig.generateNitreOre) {
+				long time = System.nanoTime();
 				for(int rarity = 0; rarity < 3; rarity++) {
 					int veinSize = 4 + random.nextInt(2);
 					int x = chunkX + random.nextInt(16);
@@ -103,21 +110,28 @@ public class AbyssalCraftWorldGenerator implements IWorldGenerator {
 
 					new WorldGenMinable(ACBlocks.nitre_ore.getDefaultState(), veinSize).generate(world, random, new BlockPos(x, y, z));
 				}
+				GenerationTimings.record(Stage.NITRE_ORE, time);
+			}
 		}
 
-		if(ACConfig.generateShoggothLairs && !blacklisted)
+		if(ACConfig.generateShoggothLairs && !blacklisted) {
+			long time = System.nanoTime();
 			for(int i = 0; i < 1; i++){
 				int x = chunkX + random.nextInt(16) + 8;
 				int z = chunkZ + random.nextInt(2) + 28;
-				BlockPos pos1 = world.getHeight(new BlockPos(x, 0, z));
-				boolean swamp = BiomeDictionary.hasType(world.getBiome(pos1), Type.SWAMP);
-				if(world.getBlockState(pos1).getMaterial() == Material.PLANTS) pos1 = pos1.down();
-				if(swamp || BiomeDictionary.hasType(world.getBiome(pos1), Type.RIVER) &&
-						!BiomeDictionary.hasType(world.getBiome(pos1), Type.OCEAN))
+				Biome biome = surface.getBiome(x, z);
+				boolean swamp = BiomeDictionary.hasType(biome, Type.SWAMP);
+				if(swamp || BiomeDictionary.hasType(biome, Type.RIVER) &&
+						!BiomeDictionary.hasType(biome, Type.OCEAN))
 					if(swamp ? ACConfig.shoggothLairSpawnRate > 0 && random.nextInt(ACConfig.shoggothLairSpawnRate) == 0 :
-						ACConfig.shoggothLairSpawnRateRivers > 0 && random.nextInt(ACConfig.shoggothLairSpawnRateRivers) == 0)
+						ACConfig.shoggothLairSpawnRateRivers > 0 && random.nextInt(ACConfig.shoggothLairSpawnRateRivers) == 0) {
+						BlockPos pos1 = surface.getHeight(x, z);
+						if(world.getBlockState(pos1).getMaterial() == Material.PLANTS) pos1 = pos1.down();
 						if(!world.isAirBlock(pos1.north(13)) && !world.isAirBlock(pos1.north(20)) && !world.isAirBlock(pos1.north(27)))
 							shoggothLair.generate(world, random, pos1);
+					}
 			}
+			GenerationTimings.record(Stage.SHOGGOTH_LAIRS, time);
+		}
 	}
 }
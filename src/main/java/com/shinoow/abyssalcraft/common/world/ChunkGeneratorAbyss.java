@@ -24,17 +24,20 @@ import com.shinoow.abyssalcraft.common.structures.StructureShoggothPit;
 import com.shinoow.abyssalcraft.common.structures.abyss.Abyruin;
 import com.shinoow.abyssalcraft.common.structures.abyss.Chains;
 import com.shinoow.abyssalcraft.common.structures.abyss.stronghold.MapGenAbyStronghold;
+import com.shinoow.abyssalcraft.common.world.gen.IParallelTerrainGenerator;
 import com.shinoow.abyssalcraft.common.world.gen.MapGenCavesAC;
 import com.shinoow.abyssalcraft.common.world.gen.MapGenRavineAC;
+import com.shinoow.abyssalcraft.common.world.gen.TerrainNoise;
 import com.shinoow.abyssalcraft.common.world.gen.WorldGenAbyLake;
 import com.shinoow.abyssalcraft.lib.ACConfig;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.Biome;
@@ -44,7 +47,7 @@ import net.minecraft.world.gen.*;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.event.terraingen.TerrainGen;
 
-public class ChunkGeneratorAbyss implements IChunkGenerator
+public class ChunkGeneratorAbyss implements IChunkGenerator, IParallelTerrainGenerator
 {
 
 	private Random rand;
@@ -61,8 +64,9 @@ public class ChunkGeneratorAbyss implements IChunkGenerator
 	private World worldObj;
 	private final boolean mapFeaturesEnabled;
 	private WorldType worldType;
-	private final double[] field_147434_q;
-	private final float[] parabolicField;
+	private final TerrainNoise terrainNoise;
+	/** Base terrain generated ahead of time, see {@link IParallelTerrainGenerator} */
+	private final Long2ObjectMap<ChunkPrimer> pregenerated = new Long2ObjectOpenHashMap<>();
 	private double[] stoneNoise = new double[256];
 	private MapGenBase caveGenerator = new MapGenCavesAC();
 
@@ -71,10 +75,6 @@ public class ChunkGeneratorAbyss implements IChunkGenerator
 	private StructureShoggothPit shoggothLair = new StructureShoggothPit();
 	private Biome[] biomesForGeneration;
 
-	double[] doubleArray1;
-	double[] doubleArray2;
-	double[] doubleArray3;
-	double[] doubleArray4;
 	int[][] field_73219_j = new int[32][32];
 	{
 		caveGenerator = TerrainGen.getModdedMapGen(caveGenerator, CAVE);
@@ -94,79 +94,33 @@ public class ChunkGeneratorAbyss implements IChunkGenerator
 		noiseGen5 = new NoiseGeneratorOctaves(rand, 10);
 		noiseGen6 = new NoiseGeneratorOctaves(rand, 16);
 		mobSpawnerNoise = new NoiseGeneratorOctaves(rand, 8);
-		field_147434_q = new double[825];
-		parabolicField = new float[25];
-
-		for (int j = -2; j <= 2; ++j)
-			for (int k = -2; k <= 2; ++k)
-			{
-				float f = 10.0F / MathHelper.sqrt(j * j + k * k + 0.2F);
-				parabolicField[j + 2 + (k + 2) * 5] = f;
-			}
+		terrainNoise = new TerrainNoise(noiseGen1, noiseGen2, noiseGen3, noiseGen6, worldType);
 	}
 
 	public void setBlocksInChunk(int x, int z, ChunkPrimer primer)
 	{
-		byte b0 = 63;
 		biomesForGeneration = worldObj.getBiomeProvider().getBiomesForGeneration(biomesForGeneration, x * 4 - 2, z * 4 - 2, 10, 10);
-		generateNoise(x * 4, 0, z * 4);
+		terrainNoise.fillPrimer(x, z, biomesForGeneration, primer, ACBlocks.abyssal_stone.getDefaultState(), ACBlocks.liquid_coralium.getDefaultState());
+	}
 
-		for (int k = 0; k < 4; ++k)
-		{
-			int l = k * 5;
-			int i1 = (k + 1) * 5;
+	@Override
+	public Biome[] getTerrainBiomes(int x, int z)
+	{
+		return worldObj.getBiomeProvider().getBiomesForGeneration(null, x * 4 - 2, z * 4 - 2, 10, 10);
+	}
 
-			for (int j1 = 0; j1 < 4; ++j1)
-			{
-				int k1 = (l + j1) * 33;
-				int l1 = (l + j1 + 1) * 33;
-				int i2 = (i1 + j1) * 33;
-				int j2 = (i1 + j1 + 1) * 33;
-
-				for (int k2 = 0; k2 < 32; ++k2)
-				{
-					double d0 = 0.125D;
-					double d1 = field_147434_q[k1 + k2];
-					double d2 = field_147434_q[l1 + k2];
-					double d3 = field_147434_q[i2 + k2];
-					double d4 = field_147434_q[j2 + k2];
-					double d5 = (field_147434_q[k1 + k2 + 1] - d1) * d0;
-					double d6 = (field_147434_q[l1 + k2 + 1] - d2) * d0;
-					double d7 = (field_147434_q[i2 + k2 + 1] - d3) * d0;
-					double d8 = (field_147434_q[j2 + k2 + 1] - d4) * d0;
-
-					for (int l2 = 0; l2 < 8; ++l2)
-					{
-						double d9 = 0.25D;
-						double d10 = d1;
-						double d11 = d2;
-						double d12 = (d3 - d1) * d9;
-						double d13 = (d4 - d2) * d9;
-
-						for (int i3 = 0; i3 < 4; ++i3)
-						{
-							double d14 = 0.25D;
-							double d16 = (d11 - d10) * d14;
-							double d15 = d10 - d16;
-
-							for (int k3 = 0; k3 < 4; ++k3)
-								if ((d15 += d16) > 0.0D)
-									primer.setBlockState(k * 4 + i3, k2 * 8 + l2, j1 * 4 + k3, ACBlocks.abyssal_stone.getDefaultState());
-								else if (k2 * 8 + l2 < b0)
-									primer.setBlockState(k * 4 + i3, k2 * 8 + l2, j1 * 4 + k3, ACBlocks.liquid_coralium.getDefaultState());
-
-							d10 += d12;
-							d11 += d13;
-						}
-
-						d1 += d5;
-						d2 += d6;
-						d3 += d7;
-						d4 += d8;
-					}
-				}
-			}
-		}
+	@Override
+	public ChunkPrimer generateTerrain(int x, int z, Biome[] biomes)
+	{
+		ChunkPrimer primer = new ChunkPrimer();
+		terrainNoise.fillPrimer(x, z, biomes, primer, ACBlocks.abyssal_stone.getDefaultState(), ACBlocks.liquid_coralium.getDefaultState());
+		return primer;
+	}
+
+	@Override
+	public void offerTerrain(int x, int z, ChunkPrimer primer)
+	{
+		pregenerated.put(ChunkPos.asLong(x, z), primer);
 	}
 
 	public void replaceBlocksForBiome(int x, int z, ChunkPrimer primer, Biome[] par5BiomeArray)
@@ -192,8 +146,12 @@ public class ChunkGeneratorAbyss implements IChunkGenerator
 	public Chunk generateChunk(int x, int z)
 	{
 		rand.setSeed(x * 341873128712L + z * 132897987541L);
-		ChunkPrimer primer = new ChunkPrimer();
-		setBlocksInChunk(x, z, primer);
+		ChunkPrimer primer = pregenerated.remove(ChunkPos.asLong(x, z));
+		if (primer == null)
+		{
+			primer = new ChunkPrimer();
+			setBlocksInChunk(x, z, primer);
+		}
 		biomesForGeneration = worldObj.getBiomeProvider().getBiomes(biomesForGeneration, x * 16, z * 16, 16, 16);
 		replaceBlocksForBiome(x, z, primer, biomesForGeneration);
 		caveGenerator.generate(worldObj, x, z, primer);
@@ -212,106 +170,6 @@ public class ChunkGeneratorAbyss implements IChunkGenerator
 		return chunk;
 	}
 
-	private void generateNoise(int x, int y, int z)
-	{
-		doubleArray4 = noiseGen6.generateNoiseOctaves(doubleArray4, x, z, 5, 5, 200.0D, 200.0D, 0.5D);
-		doubleArray1 = noiseGen3.generateNoiseOctaves(doubleArray1, x, y, z, 5, 33, 5, 8.555150000000001D, 4.277575000000001D, 8.555150000000001D);
-		doubleArray2 = noiseGen1.generateNoiseOctaves(doubleArray2, x, y, z, 5, 33, 5, 684.412D, 684.412D, 684.412D);
-		doubleArray3 = noiseGen2.generateNoiseOctaves(doubleArray3, x, y, z, 5, 33, 5, 684.412D, 684.412D, 684.412D);
-		int l = 0;
-		int i1 = 0;
-		for (int j1 = 0; j1 < 5; ++j1)
-			for (int k1 = 0; k1 < 5; ++k1)
-			{
-				float f = 0.0F;
-				float f1 = 0.0F;
-				float f2 = 0.0F;
-				byte b0 = 2;
-				Biome Biome = biomesForGeneration[j1 + 2 + (k1 + 2) * 10];
-
-				for (int l1 = -b0; l1 <= b0; ++l1)
-					for (int i2 = -b0; i2 <= b0; ++i2)
-					{
-						Biome Biome1 = biomesForGeneration[j1 + l1 + 2 + (k1 + i2 + 2) * 10];
-						float f3 = Biome1.getBaseHeight();
-						float f4 = Biome1.getHeightVariation();
-
-						if (worldType == WorldType.AMPLIFIED && ACConfig.useAmplifiedWorldType && f3 > 0.0F)
-						{
-							f3 = 1.0F + f3 * 2.0F;
-							f4 = 1.0F + f4 * 4.0F;
-						}
-
-						float f5 = parabolicField[l1 + 2 + (i2 + 2) * 5] / (f3 + 2.0F);
-
-						if (Biome1.getBaseHeight() > Biome.getBaseHeight())
-							f5 /= 2.0F;
-
-						f += f4 * f5;
-						f1 += f3 * f5;
-						f2 += f5;
-					}
-
-				f /= f2;
-				f1 /= f2;
-				f = f * 0.9F + 0.1F;
-				f1 = (f1 * 4.0F - 1.0F) / 8.0F;
-				double d13 = doubleArray4[i1] / 8000.0D;
-
-				if (d13 < 0.0D)
-					d13 = -d13 * 0.3D;
-
-				d13 = d13 * 3.0D - 2.0D;
-
-				if (d13 < 0.0D)
-				{
-					d13 /= 2.0D;
-
-					if (d13 < -1.0D)
-						d13 = -1.0D;
-
-					d13 /= 1.4D;
-					d13 /= 2.0D;
-				}
-				else
-				{
-					if (d13 > 1.0D)
-						d13 = 1.0D;
-
-					d13 /= 8.0D;
-				}
-
-				++i1;
-				double d12 = f1;
-				double d14 = f;
-				d12 += d13 * 0.2D;
-				d12 = d12 * 8.5D / 8.0D;
-				double d5 = 8.5D + d12 * 4.0D;
-
-				for (int j2 = 0; j2 < 33; ++j2)
-				{
-					double d6 = (j2 - d5) * 12.0D * 128.0D / 256.0D / d14;
-
-					if (d6 < 0.0D)
-						d6 *= 4.0D;
-
-					double d7 = doubleArray2[l] / 512.0D;
-					double d8 = doubleArray3[l] / 512.0D;
-					double d9 = (doubleArray1[l] / 10.0D + 1.0D) / 2.0D;
-					double d10 = MathHelper.clampedLerp(d7, d8, d9) - d6;
-
-					if (j2 > 29)
-					{
-						double d11 = (j2 - 29) / 3.0F;
-						d10 = d10 * (1.0D - d11) + -10.0D * d11;
-					}
-
-					field_147434_q[l] = d10;
-					++l;
-				}
-			}
-	}
-
 	/**
 	 * Populates chunk with ores etc etc
 	 */
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Random;
 
 import com.shinoow.abyssalcraft.common.structures.overworld.*;
+import com.shinoow.abyssalcraft.common.world.GenerationTimings.Stage;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -39,38 +40,59 @@ public class DarklandsStructureGenerator {
 	}
 
 	public static void generate(int type, World world, Random random, BlockPos pos, IBlockState spawnBlock, IBlockState...extra){
+		WorldGenerator structure = getStructure(type, random);
+
+		if(random.nextFloat() < 0.03F)
+			placeStructure(structure, world, random, pos, type == 3 ? 5 : 3, spawnBlock, extra);
+	}
+
+	/**
+	 * Same as {@link #generate(int, World, Random, BlockPos, IBlockState, IBlockState...)}, but only looks up
+	 * the surface height (through the cache) once the chance roll has passed
+	 * @return True if a structure was generated
+	 */
+	public static boolean generate(int type, World world, Random random, SurfaceCache surface, int x, int z, IBlockState spawnBlock, IBlockState...extra){
+		long time = System.nanoTime();
+		WorldGenerator structure = getStructure(type, random);
+
+		boolean generated = random.nextFloat() < 0.03F && placeStructure(structure, world, random, surface.getHeight(x, z), type == 3 ? 5 : 3, spawnBlock, extra);
+		if(generated)
+			surface.invalidateHeights();
+		GenerationTimings.record(Stage.DARKLANDS_STRUCTURES, time);
+		return generated;
+	}
+
+	private static WorldGenerator getStructure(int type, Random random){
+		List<WorldGenerator> list;
 		switch(type){
-		case 0:
-			generateRandomStructure(structures, world, random, pos, 3, spawnBlock, extra);
-			break;
 		case 1:
-			generateRandomStructure(shrines, world, random, pos, 3, spawnBlock, extra);
+			list = shrines;
 			break;
 		case 2:
-			generateRandomStructure(ritual_grounds, world, random, pos, 3, spawnBlock, extra);
+			list = ritual_grounds;
 			break;
 		case 3:
-			generateRandomStructure(houses, world, random, pos, 5, spawnBlock, extra);
+			list = houses;
 			break;
 		case 4:
-			generateRandomStructure(misc, world, random, pos, 3, spawnBlock, extra);
+			list = misc;
 			break;
 		default:
-			generateRandomStructure(structures, world, random, pos, 3, spawnBlock, extra);
+			list = structures;
 			break;
 		}
+		return list.get(random.nextInt(list.size()));
 	}
 
-	private static void generateRandomStructure(List<WorldGenerator> structures, World world, Random random, BlockPos pos, int bounds, IBlockState spawnBlock, IBlockState...extra){
-
-		WorldGenerator structure = structures.get(random.nextInt(structures.size()));
+	private static boolean placeStructure(WorldGenerator structure, World world, Random random, BlockPos pos, int bounds, IBlockState spawnBlock, IBlockState...extra){
+		long time = System.nanoTime();
 
 		while(world.isAirBlock(pos) && pos.getY() > 2)
 			pos = pos.down();
-		if(!checkBlocks(world, pos, bounds, spawnBlock, extra)) return;
+		boolean generated = checkBlocks(world, pos, bounds, spawnBlock, extra) && structure.generate(world, random, pos);
 
-		if(random.nextFloat() < 0.03F)
-			structure.generate(world, random, pos);
+		GenerationTimings.record(Stage.DARKLANDS_PLACEMENT, time);
+		return generated;
 	}
 
 	private static boolean checkBlocks(World world, BlockPos pos, int bounds, IBlockState spawnBlock, IBlockState...extra){
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps track of how much time each stage of AbyssalCraft's Overworld generation has spent<br>
+ * (safe to record from several generation threads at once)
+ */
+public class GenerationTimings {
+
+	public enum Stage {
+		DARKLANDS_STRUCTURES("Darklands Structures"),
+		DARKLANDS_PLACEMENT("Darklands Structures (placement)"),
+		CORALIUM_ORE("Coralium Ore"),
+		NITRE_ORE("Nitre Ore"),
+		SHOGGOTH_LAIRS("Shoggoth Lairs");
+
+		private final String name;
+
+		Stage(String name){
+			this.name = name;
+		}
+
+		public String getName(){
+			return name;
+		}
+	}
+
+	private static final AtomicLongArray nanos = new AtomicLongArray(Stage.values().length);
+	private static final AtomicLongArray calls = new AtomicLongArray(Stage.values().length);
+
+	/**
+	 * Records a stage run
+	 * @param stage Stage that ran
+	 * @param start {@link System#nanoTime()} from when the stage started
+	 */
+	public static void record(Stage stage, long start){
+		nanos.addAndGet(stage.ordinal(), System.nanoTime() - start);
+		calls.incrementAndGet(stage.ordinal());
+	}
+
+	public static long getNanos(Stage stage){
+		return nanos.get(stage.ordinal());
+	}
+
+	public static long getCalls(Stage stage){
+		return calls.get(stage.ordinal());
+	}
+
+	public static void reset(){
+		for(int i = 0; i < nanos.length(); i++){
+			nanos.set(i, 0);
+			calls.set(i, 0);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world;
+
+import java.util.Arrays;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * Caches surface heights and biomes for the 2x2 chunk area a chunk populates into,
+ * so generators rolling several positions in the same columns only look them up once.
+ */
+public class SurfaceCache {
+
+	private final World world;
+	private final int originX, originZ;
+	private final int[] heights = new int[32 * 32];
+	private final Biome[] biomes = new Biome[32 * 32];
+
+	/**
+	 * @param world Current World
+	 * @param originX Block X coordinate of the chunk being populated
+	 * @param originZ Block Z coordinate of the chunk being populated
+	 */
+	public SurfaceCache(World world, int originX, int originZ){
+		this.world = world;
+		this.originX = originX;
+		this.originZ = originZ;
+		invalidateHeights();
+	}
+
+	/**
+	 * Equivalent to {@link World#getHeight(BlockPos)} at y 0
+	 */
+	public BlockPos getHeight(int x, int z){
+		int index = index(x, z);
+		if(index < 0)
+			return new BlockPos(x, world.getHeight(x, z), z);
+		if(heights[index] == Integer.MIN_VALUE)
+			heights[index] = world.getHeight(x, z);
+		return new BlockPos(x, heights[index], z);
+	}
+
+	public Biome getBiome(int x, int z){
+		int index = index(x, z);
+		if(index < 0)
+			return world.getBiome(new BlockPos(x, 0, z));
+		if(biomes[index] == null)
+			biomes[index] = world.getBiome(new BlockPos(x, 0, z));
+		return biomes[index];
+	}
+
+	/**
+	 * Forgets all cached heights, should be called after something was generated on the surface
+	 */
+	public void invalidateHeights(){
+		Arrays.fill(heights, Integer.MIN_VALUE);
+	}
+
+	private int index(int x, int z){
+		x -= originX;
+		z -= originZ;
+		return x < 0 || x > 31 || z < 0 || z > 31 ? -1 : z << 5 | x;
+	}
+}
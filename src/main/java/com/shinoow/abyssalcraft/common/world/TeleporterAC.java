@@ -17,6 +17,7 @@ import com.shinoow.abyssalcraft.api.block.ACBlocks;
 import com.shinoow.abyssalcraft.common.blocks.BlockPortalAnchor;
 import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityPortalAnchor;
 import com.shinoow.abyssalcraft.common.entity.EntityPortal;
+import com.shinoow.abyssalcraft.common.world.data.PortalWorldSavedData;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -92,30 +93,12 @@ public class TeleporterAC extends Teleporter
 		}
 		else {
 			BlockPos blockpos4 = new BlockPos(entityIn);
+			BlockPos portal = PortalWorldSavedData.get(worldServerInstance).findNearestPortal(worldServerInstance, blockpos4, prevDimension, 128);
 
-			for (int l = -128; l <= 128; ++l) {
-				BlockPos blockpos1;
-
-				for (int i1 = -128; i1 <= 128; ++i1)
-					for (BlockPos blockpos = blockpos4.add(l, worldServerInstance.getActualHeight() - 1 - blockpos4.getY(), i1); blockpos.getY() >= 6; blockpos = blockpos1) {
-						blockpos1 = blockpos.down();
-
-						if (worldServerInstance.getBlockState(blockpos) == ACBlocks.portal_anchor.getDefaultState().withProperty(BlockPortalAnchor.ACTIVE, true)) {
-							TileEntity te = worldServerInstance.getTileEntity(blockpos);
-
-							if(te instanceof TileEntityPortalAnchor && ((TileEntityPortalAnchor) te).getDestination() == prevDimension) {
-
-								double d1 = blockpos.distanceSq(blockpos4);
-
-								if (d0 < 0.0D || d1 < d0) {
-									d0 = d1;
-									object = blockpos;
-								}
-							}
-						}
-					}
+			if (portal != null) {
+				d0 = portal.distanceSq(blockpos4);
+				object = portal;
 			}
-
 		}
 
 		if (d0 >= 0.0D) {
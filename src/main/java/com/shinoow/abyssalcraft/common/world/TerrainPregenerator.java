@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+import com.shinoow.abyssalcraft.common.world.gen.IParallelTerrainGenerator;
+import com.shinoow.abyssalcraft.lib.util.ScheduledProcess;
+import com.shinoow.abyssalcraft.lib.util.Scheduler;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * Generates every missing chunk in an area.<br>
+ * The area is worked through in square tiles of chunks. The base terrain of each tile is generated on
+ * the common fork-join pool, and the finished primers are handed back to the server thread, which builds
+ * and populates the chunks as usual (spending at most {@link #TICK_BUDGET} nanoseconds on it per tick).<br>
+ * A chunk only populates once the chunks at +x, +z and +x+z are loaded with it, so the last column of a tile
+ * stays loaded until the next tile in the row is done, and the last row of a tile stays loaded until the next
+ * row of tiles is done. The area is extended by one chunk at +x and +z, so every chunk inside it populates.
+ */
+public class TerrainPregenerator {
+
+	private static final int TILE_SIZE = 16;
+	private static final long TICK_BUDGET = 25000000L;
+	private static final Map<Integer, TerrainPregenerator> running = new HashMap<>();
+
+	private final WorldServer world;
+	private final int dimension;
+	private final ChunkProviderServer provider;
+	private final IParallelTerrainGenerator generator;
+	private final ICommandSender sender;
+	private final int minX, minZ, maxX, maxZ;
+	private final Queue<Result> finished = new ConcurrentLinkedQueue<>();
+	private int tileX, tileZ, inFlight, total, done;
+	private boolean keptLoaded, stopped;
+	/** Chunks loaded by the current tile */
+	private LongList tile = new LongArrayList();
+	/** Last column of the previous tile in the row */
+	private LongList edge = new LongArrayList();
+	/** Last rows of the previous and current row of tiles */
+	private LongList line = new LongArrayList(), nextLine = new LongArrayList();
+
+	private TerrainPregenerator(WorldServer world, IParallelTerrainGenerator generator, int minX, int minZ, int maxX, int maxZ, ICommandSender sender) {
+		this.world = world;
+		dimension = world.provider.getDimension();
+		provider = world.getChunkProvider();
+		this.generator = generator;
+		this.minX = minX;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxZ = maxZ;
+		this.sender = sender;
+	}
+
+	/**
+	 * Starts pregenerating an area
+	 * @param world World to generate in
+	 * @param minX Lowest chunk X coordinate
+	 * @param minZ Lowest chunk Z coordinate
+	 * @param maxX Highest chunk X coordinate
+	 * @param maxZ Highest chunk Z coordinate
+	 * @param sender Receives progress messages
+	 * @return False if the dimension's chunk generator doesn't support it
+	 */
+	public static boolean start(WorldServer world, int minX, int minZ, int maxX, int maxZ, ICommandSender sender) {
+		if(!(world.getChunkProvider().chunkGenerator instanceof IParallelTerrainGenerator)) return false;
+
+		TerrainPregenerator pregenerator = new TerrainPregenerator(world, (IParallelTerrainGenerator)world.getChunkProvider().chunkGenerator, minX, minZ, maxX + 1, maxZ + 1, sender);
+		for(int x = minX; x <= maxX + 1; x++)
+			for(int z = minZ; z <= maxZ + 1; z++)
+				if(!pregenerator.provider.isChunkGeneratedAt(x, z))
+					pregenerator.total++;
+
+		// The dimension would otherwise unload as soon as no players are in it
+		pregenerator.keptLoaded = DimensionManager.keepDimensionLoaded(pregenerator.dimension, true);
+		running.put(pregenerator.dimension, pregenerator);
+		sender.sendMessage(new TextComponentString(String.format("Pregenerating %d chunks", pregenerator.total)));
+		pregenerator.scheduleTick();
+		return true;
+	}
+
+	/**
+	 * Checks if an area is currently being pregenerated in a world
+	 */
+	public static boolean isRunning(World world) {
+		return running.containsKey(world.provider.getDimension());
+	}
+
+	/**
+	 * Stops pregenerating in a world that's unloading
+	 */
+	public static void unload(World world) {
+		TerrainPregenerator pregenerator = running.get(world.provider.getDimension());
+		if(pregenerator != null)
+			pregenerator.finish(String.format("Stopped pregenerating after %d/%d chunks, the dimension was unloaded", pregenerator.done, pregenerator.total));
+	}
+
+	private void scheduleTick() {
+		Scheduler.schedule(world, new ScheduledProcess(1) {
+
+			@Override
+			public void execute() {
+				tick();
+			}
+		});
+	}
+
+	private void tick() {
+		if(stopped) return;
+		long deadline = System.nanoTime() + TICK_BUDGET;
+		if(inFlight == 0) {
+			if(minZ + tileZ * TILE_SIZE > maxZ) {
+				unload(line);
+				finish(String.format("Finished pregenerating %d chunks", done));
+				return;
+			}
+			startTile();
+		}
+
+		for(Result result; System.nanoTime() < deadline && (result = finished.poll()) != null;) {
+			inFlight--;
+			// Chunks that got generated some other way in the meantime are only loaded
+			boolean generated = provider.isChunkGeneratedAt(result.x, result.z);
+			if(!generated && result.primer != null)
+				generator.offerTerrain(result.x, result.z, result.primer);
+			provider.provideChunk(result.x, result.z);
+			tile.add(ChunkPos.asLong(result.x, result.z));
+			if(!generated)
+				done++;
+		}
+
+		if(inFlight == 0)
+			finishTile();
+		else retain();
+		scheduleTick();
+	}
+
+	/**
+	 * Unloads the chunks of the finished tile that no later tile needs, and moves on to the next tile
+	 */
+	private void finishTile() {
+		int x1 = Math.min(minX + (tileX + 1) * TILE_SIZE - 1, maxX), z1 = Math.min(minZ + (tileZ + 1) * TILE_SIZE - 1, maxZ);
+		boolean lastColumn = x1 == maxX, lastRow = z1 == maxZ;
+
+		unload(edge);
+		edge = new LongArrayList();
+		LongList unused = new LongArrayList();
+		for(long pos : tile) {
+			int x = (int)pos, z = (int)(pos >> 32);
+			if(z == z1 && !lastRow)
+				nextLine.add(pos);
+			else if(x == x1 && !lastColumn)
+				edge.add(pos);
+			else unused.add(pos);
+		}
+		unload(unused);
+		tile = new LongArrayList();
+
+		if(lastColumn) {
+			unload(line);
+			line = nextLine;
+			nextLine = new LongArrayList();
+			tileX = 0;
+			tileZ++;
+		} else tileX++;
+		retain();
+		sender.sendMessage(new TextComponentString(String.format("Pregenerated %d/%d chunks", done, total)));
+	}
+
+	/**
+	 * Marks the chunks that are still needed as in use, since the world queues all of its chunks
+	 * for unloading when there are no players in it
+	 */
+	private void retain() {
+		for(LongList positions : new LongList[] {tile, edge, line, nextLine})
+			for(long pos : positions)
+				provider.getLoadedChunk((int)pos, (int)(pos >> 32));
+	}
+
+	private void finish(String message) {
+		stopped = true;
+		running.remove(dimension);
+		if(keptLoaded)
+			DimensionManager.keepDimensionLoaded(dimension, false);
+		sender.sendMessage(new TextComponentString(message));
+	}
+
+	/**
+	 * Fetches the biomes for the missing chunks of the next tile (which has to happen on the server thread)
+	 * and submits their terrain. Chunks that already exist are only loaded, so their neighbours can populate.
+	 */
+	private void startTile() {
+		int x0 = minX + tileX * TILE_SIZE, z0 = minZ + tileZ * TILE_SIZE;
+		int x1 = Math.min(x0 + TILE_SIZE - 1, maxX), z1 = Math.min(z0 + TILE_SIZE - 1, maxZ);
+		for(int x = x0; x <= x1; x++)
+			for(int z = z0; z <= z1; z++) {
+				inFlight++;
+				if(provider.isChunkGeneratedAt(x, z)) {
+					finished.add(new Result(x, z, null));
+					continue;
+				}
+				int cx = x, cz = z;
+				Biome[] biomes = generator.getTerrainBiomes(cx, cz);
+				ForkJoinPool.commonPool().execute(() -> {
+					ChunkPrimer primer = null;
+					try {
+						primer = generator.generateTerrain(cx, cz, biomes);
+					} catch(Throwable t) {
+						// The chunk's terrain is generated on the server thread instead
+						ACLogger.severe("Failed to pregenerate terrain at chunk %d, %d: %s", cx, cz, t);
+					}
+					finished.add(new Result(cx, cz, primer));
+				});
+			}
+	}
+
+	private void unload(LongList positions) {
+		for(long pos : positions) {
+			int x = (int)pos, z = (int)(pos >> 32);
+			// Chunks near players are unloaded by the player chunk map once they're out of view
+			if(world.getPlayerChunkMap().contains(x, z)) continue;
+			Chunk chunk = provider.getLoadedChunk(x, z);
+			if(chunk != null)
+				provider.queueUnload(chunk);
+		}
+	}
+
+	private static class Result {
+
+		private final int x, z;
+		private final ChunkPrimer primer;
+
+		private Result(int x, int z, ChunkPrimer primer) {
+			this.x = x;
+			this.z = z;
+			this.primer = primer;
+		}
+	}
+}
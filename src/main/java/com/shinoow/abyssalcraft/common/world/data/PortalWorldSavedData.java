@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world.data;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.shinoow.abyssalcraft.api.block.ACBlocks;
+import com.shinoow.abyssalcraft.common.blocks.BlockPortalAnchor;
+import com.shinoow.abyssalcraft.common.blocks.tile.TileEntityPortalAnchor;
+import com.shinoow.abyssalcraft.common.util.ACLogger;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Per-dimension index of active Portal Anchors, grouped in cells of 8x8 chunks.<br>
+ * Lets {@link com.shinoow.abyssalcraft.common.world.TeleporterAC} find the closest
+ * linked portal without scanning (and loading) the area around the destination.
+ */
+public class PortalWorldSavedData extends WorldSavedData {
+
+	private static final String DATA_NAME = "abyssalcraft_portals";
+	private static final String FORMAT_NAME = "abyssalcraft_portal_format";
+	/** Cell size in blocks, as a shift. Matches the 128 block search radius of the teleporter */
+	private static final int CELL_SHIFT = 7;
+
+	private final Long2ObjectMap<List<Anchor>> cells = new Long2ObjectOpenHashMap<>();
+	/** Set for dimensions of saves that were played before the index existed, their anchors are picked up chunk by chunk */
+	private boolean legacy;
+	private final LongSet scannedChunks = new LongOpenHashSet();
+
+	public PortalWorldSavedData() {
+		super(DATA_NAME);
+	}
+
+	public PortalWorldSavedData(String s) {
+		super(s);
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbt) {
+		NBTTagList list = nbt.getTagList("Portals", NBT.TAG_COMPOUND);
+		for(int i = 0; i < list.tagCount(); i++) {
+			NBTTagCompound tag = list.getCompoundTagAt(i);
+			addInternal(BlockPos.fromLong(tag.getLong("Pos")), tag.getInteger("Destination"));
+		}
+		legacy = nbt.getBoolean("Legacy");
+		int[] scanned = nbt.getIntArray("ScannedChunks");
+		for(int i = 0; i + 1 < scanned.length; i += 2)
+			scannedChunks.add(ChunkPos.asLong(scanned[i], scanned[i + 1]));
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound compound) {
+		compound.setInteger("Version", 1);
+
+		NBTTagList list = new NBTTagList();
+		for(List<Anchor> anchors : cells.values())
+			for(Anchor anchor : anchors) {
+				NBTTagCompound tag = new NBTTagCompound();
+				tag.setLong("Pos", anchor.pos.toLong());
+				tag.setInteger("Destination", anchor.destination);
+				list.appendTag(tag);
+			}
+		compound.setTag("Portals", list);
+
+		compound.setBoolean("Legacy", legacy);
+		if(legacy) {
+			int[] scanned = new int[scannedChunks.size() * 2];
+			int i = 0;
+			for(long chunk : scannedChunks) {
+				scanned[i++] = (int)chunk;
+				scanned[i++] = (int)(chunk >> 32);
+			}
+			compound.setTag("ScannedChunks", new NBTTagIntArray(scanned));
+		}
+
+		return compound;
+	}
+
+	/**
+	 * Adds (or updates) an active Portal Anchor
+	 */
+	public void addPortal(BlockPos pos, int destination) {
+		if(addInternal(pos.toImmutable(), destination))
+			markDirty();
+	}
+
+	private boolean addInternal(BlockPos pos, int destination) {
+		List<Anchor> anchors = cells.computeIfAbsent(cellKey(pos.getX(), pos.getZ()), k -> new ArrayList<>(1));
+		for(Anchor anchor : anchors)
+			if(anchor.pos.equals(pos)) {
+				if(anchor.destination == destination) return false;
+				anchor.destination = destination;
+				return true;
+			}
+		anchors.add(new Anchor(pos, destination));
+		return true;
+	}
+
+	/**
+	 * Removes a Portal Anchor that was broken or deactivated
+	 */
+	public void removePortal(BlockPos pos) {
+		long key = cellKey(pos.getX(), pos.getZ());
+		List<Anchor> anchors = cells.get(key);
+		if(anchors != null && anchors.removeIf(anchor -> anchor.pos.equals(pos))) {
+			if(anchors.isEmpty())
+				cells.remove(key);
+			markDirty();
+		}
+	}
+
+	/**
+	 * Finds the closest active Portal Anchor leading to a dimension, within a square
+	 * of the supplied radius (horizontally) around a position.<br>
+	 * Entries that no longer match the world are dropped along the way.
+	 * @param world The world this index belongs to
+	 * @param pos Position to search around
+	 * @param destination Dimension the anchor has to lead to
+	 * @param radius Search radius, up to 128 blocks
+	 * @return The position of the closest anchor, or null if there's none
+	 */
+	@Nullable
+	public BlockPos findNearestPortal(World world, BlockPos pos, int destination, int radius) {
+		scanLegacyChunks(world, pos, radius);
+
+		while(true) {
+			Anchor closest = null;
+			double closestDist = -1;
+			for(int cx = pos.getX() - radius >> CELL_SHIFT; cx <= pos.getX() + radius >> CELL_SHIFT; cx++)
+				for(int cz = pos.getZ() - radius >> CELL_SHIFT; cz <= pos.getZ() + radius >> CELL_SHIFT; cz++) {
+					List<Anchor> anchors = cells.get(ChunkPos.asLong(cx, cz));
+					if(anchors != null)
+						for(Anchor anchor : anchors) {
+							if(anchor.destination != destination || Math.abs(anchor.pos.getX() - pos.getX()) > radius
+									|| Math.abs(anchor.pos.getZ() - pos.getZ()) > radius) continue;
+							double dist = anchor.pos.distanceSq(pos);
+							if(closestDist < 0 || dist < closestDist) {
+								closestDist = dist;
+								closest = anchor;
+							}
+						}
+				}
+
+			if(closest == null) return null;
+			if(isActiveAnchor(world, closest.pos, destination)) return closest.pos;
+			removePortal(closest.pos);
+		}
+	}
+
+	/**
+	 * Indexes the anchors in chunks (around a position) that were saved before the index existed.
+	 * Each chunk is only looked at once, and chunks that were never generated are skipped.
+	 */
+	private void scanLegacyChunks(World world, BlockPos pos, int radius) {
+		if(!legacy) return;
+
+		IChunkProvider provider = world.getChunkProvider();
+		for(int cx = pos.getX() - radius >> 4; cx <= pos.getX() + radius >> 4; cx++)
+			for(int cz = pos.getZ() - radius >> 4; cz <= pos.getZ() + radius >> 4; cz++) {
+				if(!scannedChunks.add(ChunkPos.asLong(cx, cz))) continue;
+				markDirty();
+				if(!provider.isChunkGeneratedAt(cx, cz)) continue;
+
+				Chunk chunk = provider.getLoadedChunk(cx, cz);
+				if(chunk == null)
+					readSavedAnchors(world.getChunkSaveLocation(), cx, cz);
+				else for(TileEntity te : chunk.getTileEntityMap().values())
+					if(te instanceof TileEntityPortalAnchor && isActiveAnchor(world, te.getPos(), ((TileEntityPortalAnchor) te).getDestination()))
+						addPortal(te.getPos(), ((TileEntityPortalAnchor) te).getDestination());
+			}
+	}
+
+	/**
+	 * Indexes the anchors of a chunk that isn't loaded straight from its region file, so the chunk isn't
+	 * loaded (and doesn't populate its neighbours). Whether they're active is checked once they're looked up.
+	 */
+	private void readSavedAnchors(@Nullable File dir, int x, int z) {
+		if(dir == null) return;
+		ResourceLocation anchor = TileEntity.getKey(TileEntityPortalAnchor.class);
+		try(DataInputStream stream = RegionFileCache.getChunkInputStream(dir, x, z)) {
+			if(stream == null) return;
+			NBTTagList list = CompressedStreamTools.read(stream).getCompoundTag("Level").getTagList("TileEntities", NBT.TAG_COMPOUND);
+			for(int i = 0; i < list.tagCount(); i++) {
+				NBTTagCompound tag = list.getCompoundTagAt(i);
+				if(new ResourceLocation(tag.getString("id")).equals(anchor))
+					addPortal(new BlockPos(tag.getInteger("x"), tag.getInteger("y"), tag.getInteger("z")), tag.getInteger("Destination"));
+			}
+		} catch(IOException e) {
+			ACLogger.warning("Failed to read Portal Anchors from chunk %d, %d: %s", x, z, e);
+		}
+	}
+
+	private static boolean isActiveAnchor(World world, BlockPos pos, int destination) {
+		IBlockState state = world.getBlockState(pos);
+		if(state.getBlock() != ACBlocks.portal_anchor || !state.getValue(BlockPortalAnchor.ACTIVE)) return false;
+		TileEntity te = world.getTileEntity(pos);
+		return te instanceof TileEntityPortalAnchor && ((TileEntityPortalAnchor) te).getDestination() == destination;
+	}
+
+	private static long cellKey(int x, int z) {
+		return ChunkPos.asLong(x >> CELL_SHIFT, z >> CELL_SHIFT);
+	}
+
+	public static PortalWorldSavedData get(World world) {
+		MapStorage storage = world.getPerWorldStorage();
+		PortalWorldSavedData instance = (PortalWorldSavedData) storage.getOrLoadData(PortalWorldSavedData.class, DATA_NAME);
+
+		if (instance == null) {
+			instance = new PortalWorldSavedData();
+			instance.legacy = isLegacySave(world);
+			instance.markDirty();
+			storage.setData(DATA_NAME, instance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Records whether the save predates the index. Has to be called when the overworld loads,
+	 * while a new save still hasn't ticked.
+	 */
+	public static void checkSaveFormat(World world) {
+		MapStorage storage = world.getMapStorage();
+		if(storage.getOrLoadData(SaveFormat.class, FORMAT_NAME) == null) {
+			SaveFormat format = new SaveFormat(FORMAT_NAME);
+			format.legacy = world.getTotalWorldTime() > 0;
+			format.markDirty();
+			storage.setData(FORMAT_NAME, format);
+		}
+	}
+
+	/** Whether the save was played before the index existed, in which case it can contain anchors that were never indexed */
+	private static boolean isLegacySave(World world) {
+		SaveFormat format = (SaveFormat) world.getMapStorage().getOrLoadData(SaveFormat.class, FORMAT_NAME);
+		return format == null || format.legacy;
+	}
+
+	/**
+	 * Save-wide marker, written once when the overworld is first loaded with the index
+	 */
+	public static class SaveFormat extends WorldSavedData {
+
+		private boolean legacy;
+
+		public SaveFormat(String s) {
+			super(s);
+		}
+
+		@Override
+		public void readFromNBT(NBTTagCompound nbt) {
+			legacy = nbt.getBoolean("Legacy");
+		}
+
+		@Override
+		public NBTTagCompound writeToNBT(NBTTagCompound compound) {
+			compound.setBoolean("Legacy", legacy);
+			return compound;
+		}
+	}
+
+	private static class Anchor {
+
+		private final BlockPos pos;
+		private int destination;
+
+		private Anchor(BlockPos pos, int destination) {
+			this.pos = pos;
+			this.destination = destination;
+		}
+	}
+}
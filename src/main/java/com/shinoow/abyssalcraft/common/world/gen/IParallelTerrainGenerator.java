@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world.gen;
+
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkPrimer;
+
+/**
+ * A chunk generator whose base terrain can be generated off the server thread
+ */
+public interface IParallelTerrainGenerator {
+
+	/**
+	 * Fetches the biomes the base terrain of a chunk depends on (server thread only)
+	 * @param x Chunk X coordinate
+	 * @param z Chunk Z coordinate
+	 */
+	Biome[] getTerrainBiomes(int x, int z);
+
+	/**
+	 * Generates the base terrain of a chunk. This can be called from any thread.
+	 * @param x Chunk X coordinate
+	 * @param z Chunk Z coordinate
+	 * @param biomes Biomes from {@link #getTerrainBiomes(int, int)}
+	 */
+	ChunkPrimer generateTerrain(int x, int z, Biome[] biomes);
+
+	/**
+	 * Hands over terrain from {@link #generateTerrain(int, int, Biome[])} to be used
+	 * the next time the chunk is generated, instead of generating it again (server thread only)
+	 */
+	void offerTerrain(int x, int z, ChunkPrimer primer);
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.common.world.gen;
+
+import com.shinoow.abyssalcraft.lib.ACConfig;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.gen.NoiseGeneratorOctaves;
+
+/**
+ * The density noise and base block filling used by the Abyssal Wasteland and Dreadlands.<br>
+ * Holds no state that changes while generating (each thread gets its own noise buffers),
+ * so chunks can be filled on several threads at once.
+ */
+public class TerrainNoise {
+
+	private final NoiseGeneratorOctaves minLimitNoise, maxLimitNoise, mainNoise, depthNoise;
+	private final WorldType worldType;
+	private final float[] parabolicField = new float[25];
+	private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+	public TerrainNoise(NoiseGeneratorOctaves minLimitNoise, NoiseGeneratorOctaves maxLimitNoise, NoiseGeneratorOctaves mainNoise,
+			NoiseGeneratorOctaves depthNoise, WorldType worldType)
+	{
+		this.minLimitNoise = minLimitNoise;
+		this.maxLimitNoise = maxLimitNoise;
+		this.mainNoise = mainNoise;
+		this.depthNoise = depthNoise;
+		this.worldType = worldType;
+
+		for (int j = -2; j <= 2; ++j)
+			for (int k = -2; k <= 2; ++k)
+			{
+				float f = 10.0F / MathHelper.sqrt(j * j + k * k + 0.2F);
+				parabolicField[j + 2 + (k + 2) * 5] = f;
+			}
+	}
+
+	/**
+	 * Fills a chunk with its base terrain
+	 * @param x Chunk X coordinate
+	 * @param z Chunk Z coordinate
+	 * @param biomes The 10x10 biomes from {@link net.minecraft.world.biome.BiomeProvider#getBiomesForGeneration}
+	 * at x * 4 - 2, z * 4 - 2 (these have to be fetched on the server thread)
+	 * @param primer Primer to fill
+	 * @param solid Block placed where the density is positive
+	 * @param sea Block placed below sea level where it isn't
+	 */
+	public void fillPrimer(int x, int z, Biome[] biomes, ChunkPrimer primer, IBlockState solid, IBlockState sea)
+	{
+		byte b0 = 63;
+		double[] field_147434_q = generateNoise(x * 4, 0, z * 4, biomes);
+
+		for (int k = 0; k < 4; ++k)
+		{
+			int l = k * 5;
+			int i1 = (k + 1) * 5;
+
+			for (int j1 = 0; j1 < 4; ++j1)
+			{
+				int k1 = (l + j1) * 33;
+				int l1 = (l + j1 + 1) * 33;
+				int i2 = (i1 + j1) * 33;
+				int j2 = (i1 + j1 + 1) * 33;
+
+				for (int k2 = 0; k2 < 32; ++k2)
+				{
+					double d0 = 0.125D;
+					double d1 = field_147434_q[k1 + k2];
+					double d2 = field_147434_q[l1 + k2];
+					double d3 = field_147434_q[i2 + k2];
+					double d4 = field_147434_q[j2 + k2];
+					double d5 = (field_147434_q[k1 + k2 + 1] - d1) * d0;
+					double d6 = (field_147434_q[l1 + k2 + 1] - d2) * d0;
+					double d7 = (field_147434_q[i2 + k2 + 1] - d3) * d0;
+					double d8 = (field_147434_q[j2 + k2 + 1] - d4) * d0;
+
+					for (int l2 = 0; l2 < 8; ++l2)
+					{
+						double d9 = 0.25D;
+						double d10 = d1;
+						double d11 = d2;
+						double d12 = (d3 - d1) * d9;
+						double d13 = (d4 - d2) * d9;
+
+						for (int i3 = 0; i3 < 4; ++i3)
+						{
+							double d14 = 0.25D;
+							double d16 = (d11 - d10) * d14;
+							double d15 = d10 - d16;
+
+							for (int k3 = 0; k3 < 4; ++k3)
+								if ((d15 += d16) > 0.0D)
+									primer.setBlockState(k * 4 + i3, k2 * 8 + l2, j1 * 4 + k3, solid);
+								else if (k2 * 8 + l2 < b0)
+									primer.setBlockState(k * 4 + i3, k2 * 8 + l2, j1 * 4 + k3, sea);
+
+							d10 += d12;
+							d11 += d13;
+						}
+
+						d1 += d5;
+						d2 += d6;
+						d3 += d7;
+						d4 += d8;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Generates the density field for a chunk into the calling thread's buffer
+	 */
+	private double[] generateNoise(int x, int y, int z, Biome[] biomesForGeneration)
+	{
+		Buffers buffers = this.buffers.get();
+		double[] doubleArray4 = buffers.doubleArray4 = depthNoise.generateNoiseOctaves(buffers.doubleArray4, x, z, 5, 5, 200.0D, 200.0D, 0.5D);
+		double[] doubleArray1 = buffers.doubleArray1 = mainNoise.generateNoiseOctaves(buffers.doubleArray1, x, y, z, 5, 33, 5, 8.555150000000001D, 4.277575000000001D, 8.555150000000001D);
+		double[] doubleArray2 = buffers.doubleArray2 = minLimitNoise.generateNoiseOctaves(buffers.doubleArray2, x, y, z, 5, 33, 5, 684.412D, 684.412D, 684.412D);
+		double[] doubleArray3 = buffers.doubleArray3 = maxLimitNoise.generateNoiseOctaves(buffers.doubleArray3, x, y, z, 5, 33, 5, 684.412D, 684.412D, 684.412D);
+		double[] field_147434_q = buffers.field_147434_q;
+		int l = 0;
+		int i1 = 0;
+		for (int j1 = 0; j1 < 5; ++j1)
+			for (int k1 = 0; k1 < 5; ++k1)
+			{
+				float f = 0.0F;
+				float f1 = 0.0F;
+				float f2 = 0.0F;
+				byte b0 = 2;
+				Biome Biome = biomesForGeneration[j1 + 2 + (k1 + 2) * 10];
+
+				for (int l1 = -b0; l1 <= b0; ++l1)
+					for (int i2 = -b0; i2 <= b0; ++i2)
+					{
+						Biome Biome1 = biomesForGeneration[j1 + l1 + 2 + (k1 + i2 + 2) * 10];
+						float f3 = Biome1.getBaseHeight();
+						float f4 = Biome1.getHeightVariation();
+
+						if (worldType == WorldType.AMPLIFIED && ACConfig.useAmplifiedWorldType && f3 > 0.0F)
+						{
+							f3 = 1.0F + f3 * 2.0F;
+							f4 = 1.0F + f4 * 4.0F;
+						}
+
+						float f5 = parabolicField[l1 + 2 + (i2 + 2) * 5] / (f3 + 2.0F);
+
+						if (Biome1.getBaseHeight() > Biome.getBaseHeight())
+							f5 /= 2.0F;
+
+						f += f4 * f5;
+						f1 += f3 * f5;
+						f2 += f5;
+					}
+
+				f /= f2;
+				f1 /= f2;
+				f = f * 0.9F + 0.1F;
+				f1 = (f1 * 4.0F - 1.0F) / 8.0F;
+				double d13 = doubleArray4[i1] / 8000.0D;
+
+				if (d13 < 0.0D)
+					d13 = -d13 * 0.3D;
+
+				d13 = d13 * 3.0D - 2.0D;
+
+				if (d13 < 0.0D)
+				{
+					d13 /= 2.0D;
+
+					if (d13 < -1.0D)
+						d13 = -1.0D;
+
+					d13 /= 1.4D;
+					d13 /= 2.0D;
+				}
+				else
+				{
+					if (d13 > 1.0D)
+						d13 = 1.0D;
+
+					d13 /= 8.0D;
+				}
+
+				++i1;
+				double d12 = f1;
+				double d14 = f;
+				d12 += d13 * 0.2D;
+				d12 = d12 * 8.5D / 8.0D;
+				double d5 = 8.5D + d12 * 4.0D;
+
+				for (int j2 = 0; j2 < 33; ++j2)
+				{
+					double d6 = (j2 - d5) * 12.0D * 128.0D / 256.0D / d14;
+
+					if (d6 < 0.0D)
+						d6 *= 4.0D;
+
+					double d7 = doubleArray2[l] / 512.0D;
+					double d8 = doubleArray3[l] / 512.0D;
+					double d9 = (doubleArray1[l] / 10.0D + 1.0D) / 2.0D;
+					double d10 = MathHelper.clampedLerp(d7, d8, d9) - d6;
+
+					if (j2 > 29)
+					{
+						double d11 = (j2 - 29) / 3.0F;
+						d10 = d10 * (1.0D - d11) + -10.0D * d11;
+					}
+
+					field_147434_q[l] = d10;
+					++l;
+				}
+			}
+
+		return field_147434_q;
+	}
+
+	private static class Buffers {
+		private double[] doubleArray1, doubleArray2, doubleArray3, doubleArray4;
+		private final double[] field_147434_q = new double[825];
+	}
+}
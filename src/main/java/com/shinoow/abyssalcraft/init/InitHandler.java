@@ -123,6 +123,8 @@ public class InitHandler implements ILifeCycleHandler {
 		MinecraftForge.EVENT_BUS.register(new PlagueEventHandler());
 		MinecraftForge.EVENT_BUS.register(new PurgeEventHandler());
 		MinecraftForge.EVENT_BUS.register(new ItemTransferEventHandler());
+		MinecraftForge.EVENT_BUS.register(new PENetworkEventHandler());
+		MinecraftForge.EVENT_BUS.register(new DreadSwarmEventHandler());
 		NetworkRegistry.INSTANCE.registerGuiHandler(AbyssalCraft.instance, new GuiHandler());
 		AbyssalCraftAPI.setInternalNDHandler(new InternalNecroDataHandler());
 		AbyssalCraftAPI.setInternalMethodHandler(new InternalMethodHandler());
@@ -382,6 +384,9 @@ public class InitHandler implements ILifeCycleHandler {
 		lootTableContent = cfg.get(Configuration.CATEGORY_GENERAL, "Loot Table Content", true, "Toggles whether or not AbyssalCraft Items should be inserted into vanilla loot tables (dungeons, strongholds etc).").getBoolean();
 		nightVisionEverywhere = cfg.get(Configuration.CATEGORY_GENERAL, "Plated Coralium Helmet Night Vision Everywhere", true, "Toggles whether or not the Night Vision buff from the Plated Coralium Helmet should be applied in all dimensions, rather than only Surface Worlds.").getBoolean();
 		itemTransportBlacklist = cfg.get(Configuration.CATEGORY_GENERAL, "Item Transportation System Blacklist", new String[0], "Tile Entities added to this list will not be usable with the Item Transportation System (eg. you can't move Items from them). Format: modid:name").getStringList();
+		peTransferInterval = cfg.get(Configuration.CATEGORY_GENERAL, "PE Transfer Interval", 20, "Interval in ticks between each time PE Relays collect and transfer PE, and Pedestals and Altars charge the Item placed on them. The amounts moved scale with the interval, so higher numbers mean fewer (but larger) transfers.\n[range: 1 ~ 200, default: 20]", 1, 200).getInt();
+		sacrificialAltarScanInterval = cfg.get(Configuration.CATEGORY_GENERAL, "Sacrificial Altar Scan Interval", 20, "Interval in ticks between each time a Sacrificial Altar without a bound mob looks for a new one nearby. Higher numbers mean less work with a lot of Altars around, but Altars take longer to pick up new mobs.\n[range: 1 ~ 200, default: 20]", 1, 200).getInt();
+		upgradeOldRegions = cfg.get(Configuration.CATEGORY_GENERAL, "Upgrade Old Regions", false, "Toggles whether or not old AbyssalCraft blocks in a world from before the block flattening are converted in all region files at once when the world loads (using all CPU cores), rather than chunk by chunk as they're loaded. Only runs once per world.").getBoolean();
 
 		demonAnimalFire = cfg.get(CATEGORY_MOBS, "Demon Animal burning", false, "Set to false to prevent Demon Animals (Pigs, Cows, Chickens) from burning in the overworld.").getBoolean();
 		evilAnimalSpawnWeight = cfg.get(CATEGORY_MOBS, "Evil Animal spawn weight", 15, "Spawn weight for the Evil Animals (Pigs, Cows, Chickens), keep under 35 to avoid complete annihilation.\n[range: 0 ~ 100, default: 20]", 0, 100).getInt();
@@ -16,7 +16,9 @@ import static com.shinoow.abyssalcraft.init.BlockHandler.*;
 import static com.shinoow.abyssalcraft.lib.ACSounds.*;
 
 import java.io.File;
+import java.util.BitSet;
 import java.util.Stack;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
@@ -28,6 +30,7 @@ import com.shinoow.abyssalcraft.api.energy.structure.StructureHandler;
 import com.shinoow.abyssalcraft.api.item.ACItems;
 import com.shinoow.abyssalcraft.api.necronomicon.NecroData;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.ConditionProcessorRegistry;
+import com.shinoow.abyssalcraft.api.necronomicon.condition.TriggerIndex;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.INecroDataCapability;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapability;
 import com.shinoow.abyssalcraft.api.necronomicon.condition.caps.NecroDataCapabilityStorage;
@@ -36,7 +39,9 @@ import com.shinoow.abyssalcraft.api.transfer.caps.ItemTransferCapability;
 import com.shinoow.abyssalcraft.api.transfer.caps.ItemTransferCapabilityStorage;
 import com.shinoow.abyssalcraft.common.AbyssalCrafting;
 import com.shinoow.abyssalcraft.common.blocks.BlockCrystalCluster;
+import com.shinoow.abyssalcraft.common.datafix.BlockFlattening;
 import com.shinoow.abyssalcraft.common.datafix.BlockFlatteningDefinitions;
+import com.shinoow.abyssalcraft.common.datafix.RegionUpgrader;
 import com.shinoow.abyssalcraft.common.enchantments.*;
 import com.shinoow.abyssalcraft.common.network.PacketDispatcher;
 import com.shinoow.abyssalcraft.common.potion.PotionBuilder;
@@ -52,7 +57,6 @@ import com.shinoow.abyssalcraft.lib.util.items.IStaffOfRending;
 
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityList;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.init.PotionTypes;
@@ -78,6 +82,7 @@ import net.minecraftforge.common.util.EnumHelper;
 import net.minecraftforge.common.util.ModFixs;
 import net.minecraftforge.event.LootTableLoadEvent;
 import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.event.*;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -90,6 +95,8 @@ public class MiscHandler implements ILifeCycleHandler {
 	public static PotionType Cplague_normal, Cplague_long, Dplague_normal, Dplague_long,
 	Dplague_strong, antiMatter_normal, antiMatter_long;
 
+	private BlockFlattening blockFlattening;
+
 	@Override
 	public void preInit(FMLPreInitializationEvent event) {
 
@@ -232,40 +239,38 @@ public class MiscHandler implements ILifeCycleHandler {
 		CapabilityManager.INSTANCE.register(INecroDataCapability.class, NecroDataCapabilityStorage.instance, NecroDataCapability::new);
 		CapabilityManager.INSTANCE.register(IItemTransferCapability.class, ItemTransferCapabilityStorage.instance, ItemTransferCapability::new);
 
-		ConditionProcessorRegistry.instance().registerProcessor(0, (condition, cap, player) -> cap.getBiomeTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(1, (condition, cap, player) -> cap.getEntityTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(2, (condition, cap, player) -> cap.getDimensionTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(3, (condition, cap, player) -> {
-			for(String name : (String[])condition.getConditionObject())
-				if(cap.getBiomeTriggers().contains(name))
-					return true;
-			return false;
-		});
-		ConditionProcessorRegistry.instance().registerProcessor(4, (condition, cap, player) -> {
-			for(String name : (String[])condition.getConditionObject())
-				if(cap.getEntityTriggers().contains(name))
-					return true;
-			return false;
-		});
+		ConditionProcessorRegistry.instance().registerProcessor(0, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.BIOMES, (String)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(1, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.ENTITIES, (String)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(2, (condition, cap, player) -> cap.hasDimensionTrigger((Integer)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(3, (condition, cap, player) ->
+		cap.getTriggerIds(TriggerIndex.BIOMES).intersects(TriggerIndex.BIOMES.compile((String[])condition.getConditionObject())));
+		ConditionProcessorRegistry.instance().registerProcessor(4, (condition, cap, player) ->
+		cap.getTriggerIds(TriggerIndex.ENTITIES).intersects(TriggerIndex.ENTITIES.compile((String[])condition.getConditionObject())));
 		ConditionProcessorRegistry.instance().registerProcessor(5, (condition, cap, player) -> {
-			for(String name : cap.getBiomeTriggers())
-				if(((Predicate<Biome>)condition.getConditionObject()).apply(ForgeRegistries.BIOMES.getValue(new ResourceLocation(name))))
-					return true;
-			return false;
+			// Resolved once into the IDs of every registered Biome the predicate matches
+			BitSet ids = TriggerIndex.BIOMES.compile(condition.getConditionObject(), () -> ForgeRegistries.BIOMES.getValuesCollection().stream()
+					.filter(b -> ((Predicate<Biome>)condition.getConditionObject()).apply(b))
+					.map(b -> b.getRegistryName().toString())
+					.collect(Collectors.toList()));
+			return cap.getTriggerIds(TriggerIndex.BIOMES).intersects(ids);
 		});
 		ConditionProcessorRegistry.instance().registerProcessor(6, (condition, cap, player) -> {
-			for(String name : cap.getEntityTriggers())
-				if(((Predicate<Class<? extends Entity>>)condition.getConditionObject()).apply(EntityList.getClass(new ResourceLocation(name))))
-					return true;
-			return false;
+			// Resolved once into the IDs of every registered Entity the predicate matches
+			BitSet ids = TriggerIndex.ENTITIES.compile(condition.getConditionObject(), () -> ForgeRegistries.ENTITIES.getValuesCollection().stream()
+					.filter(e -> ((Predicate<Class<? extends Entity>>)condition.getConditionObject()).apply(e.getEntityClass()))
+					.map(e -> e.getRegistryName().toString())
+					.collect(Collectors.toList()));
+			return cap.getTriggerIds(TriggerIndex.ENTITIES).intersects(ids);
 		});
-		ConditionProcessorRegistry.instance().registerProcessor(7, (condition, cap, player) -> cap.getArtifactTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(8, (condition, cap, player) -> cap.getPageTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(9, (condition, cap, player) -> cap.getWhisperTriggers().contains(condition.getConditionObject()));
-		ConditionProcessorRegistry.instance().registerProcessor(10, (condition, cap, player) -> cap.getMiscTriggers().contains(condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(7, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.ARTIFACTS, (String)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(8, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.PAGES, (String)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(9, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.WHISPERS, (String)condition.getConditionObject()));
+		ConditionProcessorRegistry.instance().registerProcessor(10, (condition, cap, player) -> cap.hasTrigger(TriggerIndex.MISC, (String)condition.getConditionObject()));
 		ConditionProcessorRegistry.instance().registerProcessor(11, (condition, cap, player) -> {
-			for(String name : (String[])condition.getConditionObject())
-				if(!cap.getEntityTriggers().contains(name))
+			BitSet ids = TriggerIndex.ENTITIES.compile((String[])condition.getConditionObject());
+			BitSet unlocked = cap.getTriggerIds(TriggerIndex.ENTITIES);
+			for(int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1))
+				if(!unlocked.get(i))
 					return false;
 			return true;
 		});
@@ -347,7 +352,8 @@ public class MiscHandler implements ILifeCycleHandler {
 		StructureHandler.instance().registerStructure(new TotemPoleStructure());
 		StructureHandler.instance().registerStructure(new ArchwayStructure());
 		ModFixs modFixs = FMLCommonHandler.instance().getDataFixer().init(modid, 4);
-		modFixs.registerFix(FixTypes.CHUNK, BlockFlatteningDefinitions.createBlockFlattening());
+		blockFlattening = BlockFlatteningDefinitions.createBlockFlattening();
+		modFixs.registerFix(FixTypes.CHUNK, blockFlattening);
 		ACTabs.tabTools.setRelevantEnchantmentTypes(AbyssalCraftAPI.STAFF_OF_RENDING);
 	}
 
@@ -452,6 +458,13 @@ public class MiscHandler implements ILifeCycleHandler {
 		});
 	}
 
+	@SubscribeEvent
+	public void upgradeRegions(WorldEvent.Load event){
+		// The overworld loads first, after the save's registry IDs are in place but before any chunks are loaded
+		if(ACConfig.upgradeOldRegions && !event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0)
+			new RegionUpgrader(blockFlattening).upgrade(event.getWorld().getSaveHandler().getWorldDirectory());
+	}
+
 	@SubscribeEvent
 	public void lootLoad(LootTableLoadEvent event){
 		if(!ACConfig.lootTableContent) return;
@@ -38,7 +38,7 @@ public class EngravingRecipeMaker {
 			List<ItemStack> inputs = new ArrayList();
 
 			if(output.getItem() == ACItems.coin){
-				inputs = engraverRecipes.getCoinList();
+				inputs = new ArrayList<>(engraverRecipes.getCoinList());
 				for(ItemStack stack : inputs)
 					if(stack.getItem() == ACItems.coin){
 						inputs.remove(stack);
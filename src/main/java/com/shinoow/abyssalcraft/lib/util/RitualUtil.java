@@ -134,85 +134,73 @@ public class RitualUtil {
 	}
 
 	public static void modifyRitualBookType(String name, int bookType){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, bookType, "bookType");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null){
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, bookType, "bookType");
+			RitualRegistry.instance().refreshRituals();
+		}
 	}
 
 	public static void modifyRitualDimension(String name, int dimension){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, dimension, "dimension");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null){
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, dimension, "dimension");
+			RitualRegistry.instance().refreshRituals();
+		}
 	}
 
 	public static void modifyRitualSacrificeRequirement(String name, boolean requiresSacrifice){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, requiresSacrifice, "requiresSacrifice");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null)
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, requiresSacrifice, "requiresSacrifice");
 	}
 
 	public static void modifyRitualEnergyRequirement(String name, float requiredEnergy){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, requiredEnergy, "requiredEnergy");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null)
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, requiredEnergy, "requiredEnergy");
 	}
 
 	public static void modifyRitualSacrifice(String name, Object sacrifice){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name) && r.getSacrifice() != null){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, sacrifice, "sacrifice");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null && r.getSacrifice() != null)
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, sacrifice, "sacrifice");
 	}
 
 	public static void modifyRitualNbtSensitivity(String name, boolean nbtSensitive){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, nbtSensitive, "nbtSensitive");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null)
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, nbtSensitive, "nbtSensitive");
 	}
 
 	public static void modifyRitualNbtSensitivitySacrifice(String name, boolean nbtSensitiveSacrifice){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, nbtSensitiveSacrifice, "nbtSensitiveSacrifice");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null)
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, nbtSensitiveSacrifice, "nbtSensitiveSacrifice");
 	}
 
 	public static void modifyRitualOfferings(String name, Object...offerings){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, offerings, "offerings");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null){
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, offerings, "offerings");
+			RitualRegistry.instance().refreshRituals();
+		}
 	}
 
 	public static void modifyRitualReplaceOffering(String name, Object original, Object replace, boolean nbt){
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				Object[] offerings = new Object[r.getOfferings().length];
-				for(int i = 0; i < offerings.length; i++)
-					offerings[i] = APIUtils.areObjectsEqual(APIUtils.convertToStack(original), r.getOfferings()[i], nbt) ? replace : r.getOfferings()[i];
-				ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, offerings, "offerings");
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null){
+			Object[] offerings = new Object[r.getOfferings().length];
+			for(int i = 0; i < offerings.length; i++)
+				offerings[i] = APIUtils.areObjectsEqual(APIUtils.convertToStack(original), r.getOfferings()[i], nbt) ? replace : r.getOfferings()[i];
+			ReflectionHelper.setPrivateValue(NecronomiconRitual.class, r, offerings, "offerings");
+			RitualRegistry.instance().refreshRituals();
+		}
 	}
 
 	public static void modifyRitualParticle(String name, EnumRitualParticle particle) {
-		for(NecronomiconRitual r : RitualRegistry.instance().getRituals())
-			if(r.getUnlocalizedName().substring("ac.ritual.".length()).equals(name)){
-				r.setRitualParticle(particle);
-				break;
-			}
+		NecronomiconRitual r = RitualRegistry.instance().getRitual("ac.ritual." + name);
+		if(r != null)
+			r.setRitualParticle(particle);
 	}
 }
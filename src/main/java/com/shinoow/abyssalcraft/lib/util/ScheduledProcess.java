@@ -13,20 +13,29 @@ package com.shinoow.abyssalcraft.lib.util;
 
 public abstract class ScheduledProcess {
 
-	private int time;
+	private final int time;
+	private volatile boolean cancelled;
 
 	public ScheduledProcess(int time) {
 		this.time = time;
 	}
 
-	public boolean tick() {
-		time--;
+	/**
+	 * Delay (in ticks) before the process is executed
+	 */
+	public int getTime() {
+		return time;
+	}
 
-		return time <= 0;
+	/**
+	 * Prevents the process from being executed, if it hasn't been already
+	 */
+	public void cancel() {
+		cancelled = true;
 	}
 
-	public int getTime() {
-		return time;
+	public boolean isCancelled() {
+		return cancelled;
 	}
 
 	public abstract void execute();
@@ -11,29 +11,159 @@
  ******************************************************************************/
 package com.shinoow.abyssalcraft.lib.util;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import net.minecraft.world.World;
+
+/**
+ * Executes processes after a delay (in ticks).<br>
+ * Processes are kept in a hierarchical timing wheel, so scheduling and
+ * executing them doesn't depend on how many other processes are waiting.<br>
+ * Processes can be submitted from any thread, they will always be executed
+ * on the server thread (except for processes without any delay, which are
+ * executed right away).
+ */
 public class Scheduler {
 
-	private static List<ScheduledProcess> queue = new ArrayList<>();
+	private static final TimingWheel global = new TimingWheel();
+	private static final Map<Integer, TimingWheel> worlds = new ConcurrentHashMap<>();
 
-	public static void schedule(ScheduledProcess process) {
-		if(process.getTime() == 0)
+	/**
+	 * Schedules a process that runs regardless of which worlds are loaded
+	 * @param process Process to schedule
+	 * @return The process, which can be used to cancel it
+	 */
+	public static ScheduledProcess schedule(ScheduledProcess process) {
+		if(process.getTime() <= 0)
 			process.execute();
 		else
-			queue.add(process);
+			global.submit(process);
+		return process;
 	}
 
+	/**
+	 * Schedules a process in the queue of a world (processes in that queue
+	 * are dropped if the world unloads before they're executed).<br>
+	 * Client worlds don't have their own queue, so the global one is used for them.
+	 * @param world World the process belongs to
+	 * @param process Process to schedule
+	 * @return The process, which can be used to cancel it
+	 */
+	public static ScheduledProcess schedule(World world, ScheduledProcess process) {
+		if(process.getTime() <= 0)
+			process.execute();
+		else if(world.isRemote)
+			global.submit(process);
+		else
+			worlds.computeIfAbsent(world.provider.getDimension(), d -> new TimingWheel()).submit(process);
+		return process;
+	}
+
+	/**
+	 * Advances the global queue by one tick
+	 */
 	public static void tick() {
-		int queueSize = queue.size();
+		global.tick();
+	}
+
+	/**
+	 * Advances the queue of a world by one tick
+	 */
+	public static void tick(World world) {
+		TimingWheel wheel = worlds.get(world.provider.getDimension());
+		if(wheel != null)
+			wheel.tick();
+	}
+
+	/**
+	 * Drops all processes scheduled in the queue of a world
+	 */
+	public static void unload(World world) {
+		worlds.remove(world.provider.getDimension());
+	}
+
+	/**
+	 * Hierarchical timing wheel with {@link #LEVELS} levels of {@link #SIZE} slots.<br>
+	 * Level 0 holds processes due within {@link #SIZE} ticks, one slot per tick, and each
+	 * level above covers {@link #SIZE} times the range of the one below it. Whenever a lower
+	 * level wraps around, the next slot of the level above is cascaded down into it.
+	 */
+	private static class TimingWheel {
+
+		private static final int BITS = 6;
+		private static final int SIZE = 1 << BITS;
+		private static final int MASK = SIZE - 1;
+		private static final int LEVELS = 4;
+
+		private final Queue<ScheduledProcess> submitted = new ConcurrentLinkedQueue<>();
+		private final List<List<Entry>> slots = new ArrayList<>(LEVELS * SIZE);
+		/** Processes due after more ticks than the wheel can hold */
+		private List<Entry> overflow = new ArrayList<>();
+		private long currentTick;
+
+		private TimingWheel() {
+			for(int i = 0; i < LEVELS * SIZE; i++)
+				slots.add(new ArrayList<>());
+		}
+
+		private void submit(ScheduledProcess process) {
+			submitted.add(process);
+		}
+
+		private void tick() {
+			for(ScheduledProcess process; (process = submitted.poll()) != null;)
+				add(new Entry(process, currentTick + process.getTime()));
+
+			currentTick++;
+			for(int level = LEVELS - 1; level > 0; level--)
+				if((currentTick & (1L << BITS * level) - 1) == 0)
+					cascade(level);
+
+			int index = (int)(currentTick & MASK);
+			List<Entry> due = slots.get(index);
+			if(due.isEmpty()) return;
+			slots.set(index, new ArrayList<>());
+			for(Entry entry : due)
+				if(!entry.process.isCancelled())
+					entry.process.execute();
+		}
 
-		for(int i = queueSize - 1; i >= 0; i--) {
-			ScheduledProcess process = queue.get(i);
-			if(process.tick()) {
-				process.execute();
-				queue.remove(i);
+		private void add(Entry entry) {
+			long delta = Math.max(entry.deadline - currentTick, 1);
+			for(int level = 0; level < LEVELS; level++)
+				if(delta < 1L << BITS * (level + 1)) {
+					int slot = (int)(entry.deadline >>> BITS * level & MASK);
+					slots.get(level * SIZE + slot).add(entry);
+					return;
+				}
+			overflow.add(entry);
+		}
+
+		private void cascade(int level) {
+			int index = level * SIZE + (int)(currentTick >>> BITS * level & MASK);
+			List<Entry> entries = slots.get(index);
+			if(level == LEVELS - 1 && index == level * SIZE && !overflow.isEmpty()) {
+				entries.addAll(overflow);
+				overflow = new ArrayList<>();
 			}
+			if(entries.isEmpty()) return;
+			slots.set(index, new ArrayList<>());
+			for(Entry entry : entries)
+				if(!entry.process.isCancelled())
+					add(entry);
+		}
+	}
+
+	private static class Entry {
+
+		private final ScheduledProcess process;
+		private final long deadline;
+
+		private Entry(ScheduledProcess process, long deadline) {
+			this.process = process;
+			this.deadline = deadline;
 		}
 	}
 }
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * AbyssalCraft
+ * Copyright (c) 2012 - 2021 Shinoow.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Contributors:
+ *     Shinoow -  implementation
+ ******************************************************************************/
+package com.shinoow.abyssalcraft.lib.util.blocks;
+
+/**
+ * TileEntity that moves PE during the batched PE transfer phase instead of ticking on its own
+ * (see {@link com.shinoow.abyssalcraft.common.handlers.PENetworkEventHandler#schedule(net.minecraft.tileentity.TileEntity)})
+ * @author shinoow
+ *
+ */
+public interface IBatchedEnergyTile {
+
+	/**
+	 * Collects and transfers PE
+	 * @param ticks Amount of ticks since the last time this was called, any amounts moved should scale with it
+	 */
+	void transferEnergy(int ticks);
+}